@@ -0,0 +1,71 @@
+package com.core.book.common.cache;
+
+import com.core.book.api.member.dto.FollowerUserDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 직렬화 비교 (팔로워 목록 기준)
+ * - legacy : 타입 정보 포함 JSON (GenericJackson2JsonRedisSerializer)
+ * - smile  : Smile 바이너리 (압축 없음)
+ * - smileLz4 : Smile 바이너리 + LZ4 압축 (기본 임계값 1KB)
+ * 직렬화 결과 크기는 Setup 단계에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int followerCount;
+
+    @Param({"legacy", "smile", "smileLz4"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+    private List<FollowerUserDTO> followers;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = switch (format) {
+            case "legacy" -> CacheSerializers.legacyJson();
+            case "smile" -> CacheSerializers.versioned(Integer.MAX_VALUE, true);
+            default -> CacheSerializers.versioned(1024, true);
+        };
+
+        followers = new ArrayList<>(followerCount);
+        for (long id = 1; id <= followerCount; id++) {
+            followers.add(FollowerUserDTO.builder()
+                    .id(id)
+                    .nickname("reader" + id)
+                    .imageUrl("https://cdn.example.com/profile-images/" + id + "/160.jpg")
+                    .isFollowing(id % 3 == 0)
+                    .build());
+        }
+        serialized = serializer.serialize(followers);
+        System.out.printf("%n[%s] followers=%d, size=%d bytes%n", format, followerCount, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(followers);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
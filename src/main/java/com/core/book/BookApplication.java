@@ -4,14 +4,30 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @EnableCaching
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class BookApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BookApplication.class, args);
+		SpringApplication application = new SpringApplication(BookApplication.class);
+		application.setDefaultProperties(Map.of(
+				// readiness(/actuator/health/readiness)는 캐시 예열(CacheWarmupRunner)이 끝난 뒤 UP
+				"management.endpoint.health.probes.enabled", "true",
+				// 책장 가져오기 파일 업로드 (기본 1MB)
+				"spring.servlet.multipart.max-file-size", "10MB",
+				"spring.servlet.multipart.max-request-size", "10MB",
+				// INSERT/UPDATE 배치 (테이블 기반 id 를 쓰는 엔티티만 INSERT 배치 가능, IdSequences)
+				// MySQL 에서 한 문장으로 보내려면 JDBC URL 에 rewriteBatchedStatements=true 설정
+				"spring.jpa.properties.hibernate.jdbc.batch_size", "50",
+				"spring.jpa.properties.hibernate.order_inserts", "true",
+				"spring.jpa.properties.hibernate.order_updates", "true"));
+		application.run(args);
 	}
 
 }
@@ -2,21 +2,32 @@ package com.core.book.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Health Check", description = "Health Check 관련 API 입니다.")
 @RestController
+@RequiredArgsConstructor
 public class HealthCheckController {
 
-    // 최초 회원가입 사용자 유저 태그 등록 API
+    private final ApplicationAvailability applicationAvailability;
+
+    // 기동 중(캐시 예열 포함)에는 트래픽을 받지 않도록 503 반환
     @Operation(
             summary = "Health Check API",
-            description = "서버와의 응답이 정상인지 확인하는 API입니다."
+            description = "서버와의 응답이 정상인지 확인하는 API입니다. 기동 준비(캐시 예열)가 끝나기 전에는 503을 반환합니다."
     )
     @GetMapping("health")
-    public String healthCheck(){
-        return "OK";
+    public ResponseEntity<String> healthCheck(){
+        if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("WARMING_UP");
+        }
+        return ResponseEntity.ok("OK");
     }
 
-}
\ No newline at end of file
+}
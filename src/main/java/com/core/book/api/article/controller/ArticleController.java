@@ -1,7 +1,7 @@
 package com.core.book.api.article.controller;
 
 import com.core.book.api.article.service.ArticleService;
-import com.core.book.api.member.service.MemberService;
+import com.core.book.common.auth.LoginUserId;
 import com.core.book.common.response.ApiResponse;
 import com.core.book.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,8 +9,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "Article", description = "게시글 관련 API 입니다.")
@@ -19,7 +17,6 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/article")
 public class ArticleController {
 
-    private final MemberService memberService;
     private final ArticleService articleService;
 
     @Operation(
@@ -33,10 +30,9 @@ public class ArticleController {
     @PostMapping("/like/{id}")
     public ResponseEntity<ApiResponse<Void>> toggleLike(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleService.toggleLike(id, userId);
         return ApiResponse.success_only(SuccessStatus.TOGGLE_LIKE_SUCCESS);
     }
@@ -4,7 +4,7 @@ import com.core.book.api.article.dto.PhraseArticleCreateDTO;
 import com.core.book.api.article.dto.QnaArticleCreateDTO;
 import com.core.book.api.article.dto.ReviewArticleCreateDTO;
 import com.core.book.api.article.service.ArticleCreateService;
-import com.core.book.api.member.service.MemberService;
+import com.core.book.common.auth.LoginUserId;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ApiResponse;
 import com.core.book.common.response.ErrorStatus;
@@ -14,8 +14,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -27,7 +25,6 @@ import java.util.Map;
 public class ArticleCreateController {
 
     private final ArticleCreateService articleCreateService;
-    private final MemberService memberService;
 
     @Operation(
             summary = "감상평 게시글 생성 API",
@@ -43,14 +40,13 @@ public class ArticleCreateController {
     @PostMapping("/review")
     public ResponseEntity<ApiResponse<Void>> createReviewArticle(
             @RequestBody ReviewArticleCreateDTO reviewArticleCreateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
         // content 누락시 예외처리
         if (reviewArticleCreateDTO.getContent() == null || reviewArticleCreateDTO.getContent().isEmpty()) {
             throw new NotFoundException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleCreateService.createReviewArticle(reviewArticleCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.CREATE_ARTICLE_SUCCESS);
@@ -69,9 +65,8 @@ public class ArticleCreateController {
     @GetMapping("/review/check-bookshelf/{isbn}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> checkBookshelf(
             @PathVariable String isbn,
-            @AuthenticationPrincipal UserDetails userDetails){
+            @LoginUserId Long userId){
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         Map<String, Object> showed = articleCreateService.checkBookshelf(isbn, userId);
 
         return ApiResponse.success(SuccessStatus.GET_ARTICLE_CHECK_BOOKSHELF_SUCCESS, showed);
@@ -93,7 +88,7 @@ public class ArticleCreateController {
     @PostMapping("/phrase")
     public ResponseEntity<ApiResponse<Void>> createPhraseArticle(
             @RequestBody PhraseArticleCreateDTO phraseArticleCreateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
 
         if (phraseArticleCreateDTO.getPhraseContents() == null
@@ -101,7 +96,6 @@ public class ArticleCreateController {
             throw new NotFoundException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleCreateService.createPhraseArticle(phraseArticleCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.CREATE_ARTICLE_SUCCESS);
@@ -119,7 +113,7 @@ public class ArticleCreateController {
     @PostMapping("/qna")
     public ResponseEntity<ApiResponse<Void>> createQnaArticle(
             @RequestBody QnaArticleCreateDTO qnaArticleCreateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
 
         if (qnaArticleCreateDTO.getQnaContents() == null
@@ -127,7 +121,6 @@ public class ArticleCreateController {
             throw new NotFoundException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleCreateService.createQnaArticle(qnaArticleCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.CREATE_ARTICLE_SUCCESS);
@@ -1,7 +1,7 @@
 package com.core.book.api.article.controller;
 
 import com.core.book.api.article.service.ArticleDeleteService;
-import com.core.book.api.member.service.MemberService;
+import com.core.book.common.auth.LoginUserId;
 import com.core.book.common.response.ApiResponse;
 import com.core.book.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,8 +9,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "Article", description = "게시글 관련 API 입니다.")
@@ -20,7 +18,6 @@ import org.springframework.web.bind.annotation.*;
 public class ArticleDeleteController {
 
     private final ArticleDeleteService articleDeleteService;
-    private final MemberService memberService;
 
     @Operation(
             summary = "감상평 게시글 삭제 API",
@@ -34,9 +31,8 @@ public class ArticleDeleteController {
     @DeleteMapping("/review/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteReviewArticle(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleDeleteService.deleteReviewArticle(id, userId);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_ARTICLE_SUCCESS);
@@ -54,9 +50,8 @@ public class ArticleDeleteController {
     @DeleteMapping("/phrase/{id}")
     public ResponseEntity<ApiResponse<Void>> deletePhraseArticle(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleDeleteService.deletePhraseArticle(id, userId);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_ARTICLE_SUCCESS);
@@ -74,9 +69,8 @@ public class ArticleDeleteController {
     @DeleteMapping("/qna/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteQnaArticle(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleDeleteService.deleteQnaArticle(id, userId);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_ARTICLE_SUCCESS);
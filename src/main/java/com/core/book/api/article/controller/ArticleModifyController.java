@@ -4,7 +4,7 @@ import com.core.book.api.article.dto.PhraseArticleCreateDTO;
 import com.core.book.api.article.dto.QnaArticleCreateDTO;
 import com.core.book.api.article.dto.ReviewArticleCreateDTO;
 import com.core.book.api.article.service.ArticleModifyService;
-import com.core.book.api.member.service.MemberService;
+import com.core.book.common.auth.LoginUserId;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ApiResponse;
 import com.core.book.common.response.ErrorStatus;
@@ -14,8 +14,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "Article", description = "게시글 관련 API 입니다.")
@@ -25,7 +23,6 @@ import org.springframework.web.bind.annotation.*;
 public class ArticleModifyController {
 
     private final ArticleModifyService articleModifyService;
-    private final MemberService memberService;
 
     @Operation(
             summary = "감상평 게시글 수정 API",
@@ -42,14 +39,13 @@ public class ArticleModifyController {
     public ResponseEntity<ApiResponse<Void>> modifyReviewArticle(
             @PathVariable Long id,
             @RequestBody ReviewArticleCreateDTO reviewArticleCreateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
         // content 누락시 예외처리
         if (reviewArticleCreateDTO.getContent() == null || reviewArticleCreateDTO.getContent().isEmpty()) {
             throw new NotFoundException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleModifyService.modifyReviewArticle(id, reviewArticleCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.MODIFY_ARTICLE_SUCCESS);
@@ -64,14 +60,13 @@ public class ArticleModifyController {
     public ResponseEntity<ApiResponse<Void>> modifyPhraseArticle(
             @PathVariable Long id,
             @RequestBody PhraseArticleCreateDTO phraseArticleCreateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
 
         if (phraseArticleCreateDTO.getPhraseContents() == null || phraseArticleCreateDTO.getPhraseContents().isEmpty()) {
             throw new NotFoundException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleModifyService.modifyPhraseArticle(id, phraseArticleCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.MODIFY_ARTICLE_SUCCESS);
@@ -86,14 +81,13 @@ public class ArticleModifyController {
     public ResponseEntity<ApiResponse<Void>> modifyQnaArticle(
             @PathVariable Long id,
             @RequestBody QnaArticleCreateDTO qnaArticleCreateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
 
         if (qnaArticleCreateDTO.getQnaContents() == null || qnaArticleCreateDTO.getQnaContents().isEmpty()) {
             throw new NotFoundException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         articleModifyService.modifyQnaArticle(id, qnaArticleCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.MODIFY_ARTICLE_SUCCESS);
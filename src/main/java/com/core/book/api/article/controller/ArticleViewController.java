@@ -5,6 +5,7 @@ import com.core.book.api.article.dto.PhraseArticleDetailDTO;
 import com.core.book.api.article.dto.QnaArticleDetailDTO;
 import com.core.book.api.article.dto.ReviewArticleDetailDTO;
 import com.core.book.api.article.service.ArticleViewService;
+import com.core.book.common.auth.LoginUserId;
 import com.core.book.common.response.ApiResponse;
 import com.core.book.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +14,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 
 @Tag(name = "Article", description = "게시글 관련 API 입니다.")
 @RestController
@@ -37,9 +36,9 @@ public class ArticleViewController {
             @PathVariable String articleType,
             @RequestParam int page,
             @RequestParam int size,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId(required = false) Long userId
     ) {
-        ArticleListResponseDTO articleListResponseDTO = articleViewService.getAllArticles(articleType, page, size, userDetails);
+        ArticleListResponseDTO articleListResponseDTO = articleViewService.getAllArticles(articleType, page, size, userId);
         return ApiResponse.success(SuccessStatus.GET_ARTICLE_LIST_SUCCESS, articleListResponseDTO);
     }
 
@@ -53,8 +52,8 @@ public class ArticleViewController {
     })
     @GetMapping("/review/{id}")
     public ResponseEntity<ApiResponse<ReviewArticleDetailDTO>> getReviewArticleDetail(@PathVariable Long id,
-                                                                                      @AuthenticationPrincipal UserDetails userDetails) {
-        ReviewArticleDetailDTO reviewArticleDetailDTO = articleViewService.getReviewArticleDetail(id, userDetails);
+                                                                                      @LoginUserId(required = false) Long userId) {
+        ReviewArticleDetailDTO reviewArticleDetailDTO = articleViewService.getReviewArticleDetail(id, userId);
         return ApiResponse.success(SuccessStatus.GET_ARTICLE_SUCCESS, reviewArticleDetailDTO);
     }
 
@@ -68,8 +67,8 @@ public class ArticleViewController {
     })
     @GetMapping("/phrase/{id}")
     public ResponseEntity<ApiResponse<PhraseArticleDetailDTO>> getPhraseArticleDetail(@PathVariable Long id,
-                                                                                      @AuthenticationPrincipal UserDetails userDetails) {
-        PhraseArticleDetailDTO phraseArticleDetailDTO = articleViewService.getPhraseArticleDetail(id,userDetails);
+                                                                                      @LoginUserId(required = false) Long userId) {
+        PhraseArticleDetailDTO phraseArticleDetailDTO = articleViewService.getPhraseArticleDetail(id, userId);
         return ApiResponse.success(SuccessStatus.GET_ARTICLE_SUCCESS, phraseArticleDetailDTO);
     }
 
@@ -83,8 +82,8 @@ public class ArticleViewController {
     })
     @GetMapping("/qna/{id}")
     public ResponseEntity<ApiResponse<QnaArticleDetailDTO>> getQnaArticleDetail(@PathVariable Long id,
-                                                                                @AuthenticationPrincipal UserDetails userDetails) {
-        QnaArticleDetailDTO qnaArticleDetailDTO = articleViewService.getQnaArticleDetail(id,userDetails);
+                                                                                @LoginUserId(required = false) Long userId) {
+        QnaArticleDetailDTO qnaArticleDetailDTO = articleViewService.getQnaArticleDetail(id, userId);
         return ApiResponse.success(SuccessStatus.GET_ARTICLE_SUCCESS, qnaArticleDetailDTO);
     }
 
@@ -1,10 +1,13 @@
 package com.core.book.api.article.dto;
 
 import com.core.book.api.article.entity.ArticleType;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true) // 캐시 값 역직렬화용
 public class ArticleListDTO {
     private final Long articleId;
     private final Long memberId;
@@ -39,4 +42,10 @@ public class ArticleListDTO {
         this.date = date;
         this.myLike = myLike;
     }
+
+    // 캐시된 목록(회원과 무관)에 요청 회원의 좋아요 여부 반영
+    public ArticleListDTO withMyLike(boolean myLike) {
+        return new ArticleListDTO(articleId, memberId, profileImage, nickname, content, date,
+                likeCnt, commentCnt, quoCnt, bookImage, title, author, articleType, myLike);
+    }
 }
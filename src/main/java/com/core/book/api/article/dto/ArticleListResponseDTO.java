@@ -1,10 +1,13 @@
 package com.core.book.api.article.dto;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true) // 캐시 값 역직렬화용
 public class ArticleListResponseDTO {
     private final List<ArticleListDTO> articles; // 게시글 리스트
     private final boolean isLast; // 마지막 페이지 여부
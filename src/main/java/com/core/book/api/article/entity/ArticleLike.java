@@ -1,7 +1,11 @@
 package com.core.book.api.article.entity;
 
 import com.core.book.api.member.entity.Member;
+import com.core.book.common.entity.IdSequences;
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 import lombok.*;
 
 @Getter
@@ -13,7 +17,15 @@ import lombok.*;
 public class ArticleLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdSequences.ARTICLE_LIKE)
+    @GenericGenerator(name = IdSequences.ARTICLE_LIKE, type = TableGenerator.class, parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = IdSequences.TABLE),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = IdSequences.PK_COLUMN),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = IdSequences.VALUE_COLUMN),
+            @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = IdSequences.ARTICLE_LIKE),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = IdSequences.ALLOCATION_SIZE_VALUE),
+            @Parameter(name = TableGenerator.OPT_PARAM, value = IdSequences.OPTIMIZER)
+    })
     @Column(name = "article_like_id")
     private Long id;
 
@@ -21,6 +21,10 @@ public class ReviewArticle extends Article {
     private String oneLineReview; //한줄평 리뷰
     private float rating; // 평점
 
+    // 태그 비트마스크 (BookTag.mask 의 OR, 태그 행(USER_BOOK_TAG)과 함께 갱신)
+    @Column(name = "tag_mask", nullable = false, columnDefinition = "int default 0")
+    private int tagMask;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private Member member;
@@ -34,6 +38,10 @@ public class ReviewArticle extends Article {
                 .build();
     }
 
+    public void updateTagMask(int tagMask) {
+        this.tagMask = tagMask;
+    }
+
     // 댓글 수 증가
     @Override
     public ReviewArticle increaseCommentCount() {
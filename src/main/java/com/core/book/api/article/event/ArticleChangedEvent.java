@@ -0,0 +1,7 @@
+package com.core.book.api.article.event;
+
+import com.core.book.api.article.entity.ArticleType;
+
+// 게시글 작성/삭제 트랜잭션 커밋 후 처리를 위한 이벤트
+public record ArticleChangedEvent(ArticleType type) {
+}
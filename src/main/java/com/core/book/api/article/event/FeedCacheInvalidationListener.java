@@ -0,0 +1,24 @@
+package com.core.book.api.article.event;
+
+import com.core.book.api.article.service.ArticleViewService;
+import com.core.book.common.cache.CacheInvalidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class FeedCacheInvalidationListener {
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    // 게시글 작성/삭제 커밋 후 해당 타입과 전체 피드 첫 페이지 캐시 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        cacheInvalidationService.evict(List.of(ArticleViewService.FEED_CACHE),
+                List.of(ArticleViewService.ALL_TYPES, event.type().name()));
+    }
+}
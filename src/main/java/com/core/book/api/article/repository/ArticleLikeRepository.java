@@ -2,11 +2,19 @@ package com.core.book.api.article.repository;
 
 import com.core.book.api.article.entity.ArticleLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long> {
     Optional<ArticleLike> findByArticleIdAndMemberId(Long articleId, Long userId);
+
+    // 게시글 목록 중 회원이 좋아요한 게시글 ID (목록 한 번에 조회)
+    @Query("SELECT al.article.id FROM ArticleLike al WHERE al.member.id = :memberId AND al.article.id IN :articleIds")
+    List<Long> findLikedArticleIds(@Param("memberId") Long memberId, @Param("articleIds") Collection<Long> articleIds);
 }
\ No newline at end of file
@@ -7,4 +7,5 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PhraseArticleRepository extends JpaRepository<PhraseArticle, Long> {
 
+    long countByMemberId(Long memberId);
 }
\ No newline at end of file
@@ -7,4 +7,5 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface QnaArticleRepository extends JpaRepository<QnaArticle, Long> {
 
+    long countByMemberId(Long memberId);
 }
\ No newline at end of file
@@ -14,4 +14,6 @@ public interface ReviewArticleRepository extends JpaRepository<ReviewArticle, Lo
             countQuery = "SELECT COUNT(ra) FROM ReviewArticle ra")
     Page<ReviewArticle> findAllWithFetchJoin(Pageable pageable);
 
+    long countByMemberId(Long memberId);
+
 }
\ No newline at end of file
@@ -8,17 +8,22 @@ import com.core.book.api.article.repository.PhraseArticleRepository;
 import com.core.book.api.article.dto.*;
 import com.core.book.api.article.repository.QnaArticleRepository;
 import com.core.book.api.article.repository.ReviewArticleRepository;
+import com.core.book.api.article.event.ArticleChangedEvent;
 import com.core.book.api.book.dto.UserBookTagDTO;
 import com.core.book.api.book.entity.Book;
+import com.core.book.api.book.event.BookChangedEvent;
 import com.core.book.api.book.repository.BookRepository;
 import com.core.book.api.book.service.UserBookTagService;
 import com.core.book.api.bookshelf.repository.ReadBooksRepository;
 import com.core.book.api.member.entity.Member;
 import com.core.book.api.member.repository.MemberRepository;
+import com.core.book.api.member.service.MemberStatsService;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.HashMap;
@@ -36,8 +41,11 @@ public class ArticleCreateService {
     private final BookRepository bookRepository;
     private final QnaArticleRepository qnaArticleRepository;
     private final UserBookTagService userBookTagService;
+    private final MemberStatsService memberStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 감상평 게시글 생성
+    @Transactional
     public void createReviewArticle(ReviewArticleCreateDTO reviewArticleCreateDTO, Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
         Member member = memberRepository.findById(userId)
@@ -76,6 +84,12 @@ public class ArticleCreateService {
 
         // BOOK rating_average 갱신
         updateRatingAverage(book, reviewArticleCreateDTO.getRating());
+
+        // 회원 게시글 수 증가
+        memberStatsService.addArticle(userId, 1);
+
+        // 커밋 후 피드 첫 페이지 캐시 무효화
+        eventPublisher.publishEvent(new ArticleChangedEvent(ArticleType.REVIEW));
     }
 
     // BOOK rating_average 갱신 메서드
@@ -92,6 +106,9 @@ public class ArticleCreateService {
                 .build();
 
         bookRepository.save(updatedBook);
+
+        // 커밋 후 책 상세 캐시 무효화
+        eventPublisher.publishEvent(new BookChangedEvent(List.of(book.getIsbn())));
     }
 
     // ReadBooks(읽은 책) 책장 책 내 존재 유무 확인
@@ -118,6 +135,7 @@ public class ArticleCreateService {
 
 
     // 인상깊은구절 게시글 생성
+    @Transactional
     public void createPhraseArticle(PhraseArticleCreateDTO phraseArticleCreateDTO, Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
         Member member = memberRepository.findById(userId)
@@ -158,9 +176,16 @@ public class ArticleCreateService {
         }
 
         phraseArticleRepository.save(phraseArticle);
+
+        // 회원 게시글 수 증가
+        memberStatsService.addArticle(userId, 1);
+
+        // 커밋 후 피드 첫 페이지 캐시 무효화
+        eventPublisher.publishEvent(new ArticleChangedEvent(ArticleType.PHRASE));
     }
 
     // QnA 게시글 생성
+    @Transactional
     public void createQnaArticle(QnaArticleCreateDTO qnaArticleCreateDTO, Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
         Member member = memberRepository.findById(userId)
@@ -201,5 +226,11 @@ public class ArticleCreateService {
         }
 
         qnaArticleRepository.save(qnaArticle);
+
+        // 회원 게시글 수 증가
+        memberStatsService.addArticle(userId, 1);
+
+        // 커밋 후 피드 첫 페이지 캐시 무효화
+        eventPublisher.publishEvent(new ArticleChangedEvent(ArticleType.QNA));
     }
 }
\ No newline at end of file
@@ -1,17 +1,23 @@
 package com.core.book.api.article.service;
 
+import com.core.book.api.article.entity.ArticleType;
 import com.core.book.api.article.entity.PhraseArticle;
 import com.core.book.api.article.entity.ReviewArticle;
 import com.core.book.api.article.repository.PhraseArticleRepository;
 import com.core.book.api.article.entity.QnaArticle;
 import com.core.book.api.article.repository.QnaArticleRepository;
 import com.core.book.api.article.repository.ReviewArticleRepository;
+import com.core.book.api.article.event.ArticleChangedEvent;
 import com.core.book.api.book.entity.UserBookTag;
+import com.core.book.api.book.event.BookChangedEvent;
 import com.core.book.api.book.repository.UserBookTagRepository;
+import com.core.book.api.member.service.MemberStatsService;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -23,8 +29,11 @@ public class ArticleDeleteService {
     private final PhraseArticleRepository phraseArticleRepository;
     private final QnaArticleRepository qnaArticleRepository;
     private final UserBookTagRepository userBookTagRepository;
+    private final MemberStatsService memberStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //감상평 게시글 삭제
+    @Transactional
     public void deleteReviewArticle(Long articleId, Long userId) {
         ReviewArticle reviewArticle = reviewArticleRepository.findById(articleId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.ARTICLE_NOT_FOUND_EXCEPTION.getMessage()));
@@ -39,14 +48,22 @@ public class ArticleDeleteService {
 
         // 조회된 UserBookTag가 있으면 삭제
         if(!userBookTags.isEmpty()){
-            // 튜플 삭제
-            userBookTagRepository.deleteAll(userBookTags);
+            // 튜플 삭제 (한 문장)
+            userBookTagRepository.deleteAllInBatch(userBookTags);
         }
 
         reviewArticleRepository.delete(reviewArticle);
+
+        // 회원 게시글 수 감소
+        memberStatsService.addArticle(userId, -1);
+
+        // 커밋 후 피드 첫 페이지, 책 상세(감상평 미리보기, 태그) 캐시 무효화
+        eventPublisher.publishEvent(new ArticleChangedEvent(ArticleType.REVIEW));
+        eventPublisher.publishEvent(new BookChangedEvent(List.of(reviewArticle.getBook().getIsbn())));
     }
 
     // 인상깊은구절 게시글 삭제
+    @Transactional
     public void deletePhraseArticle(Long articleId, Long userId) {
         PhraseArticle phraseArticle = phraseArticleRepository.findById(articleId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.ARTICLE_NOT_FOUND_EXCEPTION.getMessage()));
@@ -57,9 +74,16 @@ public class ArticleDeleteService {
         }
 
         phraseArticleRepository.delete(phraseArticle);
+
+        // 회원 게시글 수 감소
+        memberStatsService.addArticle(userId, -1);
+
+        // 커밋 후 피드 첫 페이지 캐시 무효화
+        eventPublisher.publishEvent(new ArticleChangedEvent(ArticleType.PHRASE));
     }
 
-    // 인상깊은구절 게시글 삭제
+    // QnA 게시글 삭제
+    @Transactional
     public void deleteQnaArticle(Long articleId, Long userId) {
         QnaArticle qnaArticle = qnaArticleRepository.findById(articleId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.ARTICLE_NOT_FOUND_EXCEPTION.getMessage()));
@@ -70,6 +94,12 @@ public class ArticleDeleteService {
         }
 
         qnaArticleRepository.delete(qnaArticle);
+
+        // 회원 게시글 수 감소
+        memberStatsService.addArticle(userId, -1);
+
+        // 커밋 후 피드 첫 페이지 캐시 무효화
+        eventPublisher.publishEvent(new ArticleChangedEvent(ArticleType.QNA));
     }
 
 }
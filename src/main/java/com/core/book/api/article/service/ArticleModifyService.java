@@ -13,12 +13,14 @@ import com.core.book.api.article.repository.QnaArticleRepository;
 import com.core.book.api.article.repository.ReviewArticleRepository;
 import com.core.book.api.book.dto.UserBookTagDTO;
 import com.core.book.api.book.entity.Book;
+import com.core.book.api.book.event.BookChangedEvent;
 import com.core.book.api.book.repository.BookRepository;
 import com.core.book.api.book.service.UserBookTagService;
 import com.core.book.api.bookshelf.repository.ReadBooksRepository;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -34,6 +36,7 @@ public class ArticleModifyService {
     private final BookRepository bookRepository;
     private final QnaArticleRepository qnaArticleRepository;
     private final UserBookTagService userBookTagService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 감상평 게시글 수정
     public void modifyReviewArticle(Long articleId, ReviewArticleCreateDTO reviewArticleCreateDTO, Long userId) {
@@ -80,6 +83,11 @@ public class ArticleModifyService {
                 orElseThrow(() -> new NotFoundException(ErrorStatus.BOOK_NOTFOUND_EXCEPTION.getMessage()));
 
         modifyRatingAverage(book, reviewArticleCreateDTO.getRating(), old_rating);
+
+        // 책이 바뀐 경우 이전 책의 상세 캐시도 무효화 (감상평 미리보기, 태그)
+        if (!reviewArticle.getBook().getIsbn().equals(book.getIsbn())) {
+            eventPublisher.publishEvent(new BookChangedEvent(List.of(reviewArticle.getBook().getIsbn())));
+        }
     }
 
     // BOOK rating_average 갱신 메서드
@@ -95,6 +103,9 @@ public class ArticleModifyService {
                 .build();
 
         bookRepository.save(updatedBook);
+
+        // 커밋 후 책 상세 캐시 무효화
+        eventPublisher.publishEvent(new BookChangedEvent(List.of(book.getIsbn())));
     }
 
     // 인상깊은구절 게시글 수정
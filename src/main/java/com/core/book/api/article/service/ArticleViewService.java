@@ -7,20 +7,23 @@ import com.core.book.api.book.constant.BookTag;
 import com.core.book.api.book.entity.Book;
 import com.core.book.api.book.entity.UserBookTag;
 import com.core.book.api.book.repository.UserBookTagRepository;
-import com.core.book.api.member.service.MemberService;
 import com.core.book.api.member.entity.Member;
 import com.core.book.api.member.repository.FollowRepository;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleViewService {
@@ -31,11 +34,74 @@ public class ArticleViewService {
     private final QnaArticleRepository qnaArticleRepository;
     private final ArticleRepository articleRepository;
     private final FollowRepository followRepository;
-    private final MemberService memberService;
     private final UserBookTagRepository userBookTagRepository;
+    private final CacheManager cacheManager;
+
+    public static final String FEED_CACHE = "feed";
+    public static final String ALL_TYPES = "all";
+    public static final int FEED_CACHE_SIZE = 50; // 캐시할 첫 페이지 게시글 수 (요청 size 가 이하이면 잘라서 사용)
+
+    /*
+     * 게시글 목록 조회
+     * - 첫 페이지는 회원과 무관한 목록을 타입별로 캐시한 뒤 요청 회원의 좋아요 여부만 한 번에 조회하여 반영
+     * - 캐시는 게시글 작성/삭제 커밋 후 무효화 (FeedCacheInvalidationListener), 좋아요/댓글 수는 캐시 유지 시간만큼 늦게 반영될 수 있음
+     */
+    @Transactional(readOnly = true)
+    public ArticleListResponseDTO getAllArticles(String articleType, int page, int size, Long userId) {
+        if (page == 0 && size <= FEED_CACHE_SIZE) {
+            ArticleListResponseDTO firstPage = getFirstPage(feedKey(articleType));
+            return applyMyLike(limit(firstPage, size), userId);
+        }
+        return findArticles(articleType, page, size, userId);
+    }
+
+    private ArticleListResponseDTO getFirstPage(String feedKey) {
+        Cache cache = cacheManager.getCache(FEED_CACHE);
+        if (cache == null) {
+            return findArticles(feedKey, 0, FEED_CACHE_SIZE, null);
+        }
+        // get(key, valueLoader) 는 캐시 오류 처리기(CacheErrorHandler)를 거치지 않으므로 저장소 오류 시 직접 DB 조회로 대체
+        try {
+            return cache.get(feedKey, () -> findArticles(feedKey, 0, FEED_CACHE_SIZE, null));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause; // 조회 자체가 실패한 경우
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("피드 캐시 조회 실패 - DB 에서 조회합니다. key={}", feedKey, e);
+            return findArticles(feedKey, 0, FEED_CACHE_SIZE, null);
+        }
+    }
+
+    // 캐시 키 : 전체(all) 또는 게시글 타입 이름
+    private String feedKey(String articleType) {
+        return ALL_TYPES.equalsIgnoreCase(articleType) ? ALL_TYPES : parseArticleType(articleType).name();
+    }
+
+    private ArticleListResponseDTO limit(ArticleListResponseDTO page, int size) {
+        List<ArticleListDTO> articles = page.getArticles();
+        if (articles.size() <= size) {
+            return page;
+        }
+        return new ArticleListResponseDTO(new ArrayList<>(articles.subList(0, size)), false, page.getPage());
+    }
+
+    private ArticleListResponseDTO applyMyLike(ArticleListResponseDTO page, Long userId) {
+        if (userId == null || page.getArticles().isEmpty()) {
+            return page;
+        }
+
+        List<Long> articleIds = page.getArticles().stream().map(ArticleListDTO::getArticleId).toList();
+        Set<Long> likedIds = new HashSet<>(articleLikeRepository.findLikedArticleIds(userId, articleIds));
 
-    // 전체 게시글을 가져오는 메서드
-    public ArticleListResponseDTO getAllArticles(String articleType, int page, int size, UserDetails userDetails) {
+        List<ArticleListDTO> articles = page.getArticles().stream()
+                .map(article -> article.withMyLike(likedIds.contains(article.getArticleId())))
+                .collect(Collectors.toList());
+        return new ArticleListResponseDTO(articles, page.isLast(), page.getPage());
+    }
+
+    private ArticleListResponseDTO findArticles(String articleType, int page, int size, Long userId) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
         if ("all".equalsIgnoreCase(articleType)) {
@@ -47,39 +113,41 @@ public class ArticleViewService {
 
             // 조회된 게시글을 DTO로 변환하여 리스트에 추가
             List<ArticleListDTO> articles = articlePage.getContent().stream()
-                    .map(article -> convertToListDTO(article, userDetails))
+                    .map(article -> convertToListDTO(article, userId))
                     .collect(Collectors.toList());
 
             // 응답 DTO 생성 및 반환
             return new ArticleListResponseDTO(articles, articlePage.isLast(), page);
         } else {
             // 특정 게시글 타입이 요청된 경우 해당 메서드로 처리
-            return getArticlesByType(articleType, page, size, userDetails);
+            return getArticlesByType(articleType, page, size, userId);
         }
     }
 
-    private ArticleListResponseDTO getArticlesByType(String articleType, int page, int size, UserDetails userDetails) {
+    private ArticleListResponseDTO getArticlesByType(String articleType, int page, int size, Long userId) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        ArticleType type;
-
-        try {
-            // 문자열로 받은 articleType을 ArticleType enum으로 변환
-            type = ArticleType.valueOf(articleType.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new NotFoundException(ErrorStatus.ARTICLE_TYPE_NOT_FOUND_EXCEPTION.getMessage());
-        }
+        ArticleType type = parseArticleType(articleType);
 
         // 지정된 타입의 게시글을 페이징하여 조회
         Page<Article> articlePage = articleRepository.findByType(type, pageable);
 
         List<ArticleListDTO> articles = articlePage.getContent().stream()
-                .map(article -> convertToListDTO(article, userDetails))
+                .map(article -> convertToListDTO(article, userId))
                 .collect(Collectors.toList());
 
         return new ArticleListResponseDTO(articles, articlePage.isLast(), page);
     }
 
-    private ArticleListDTO convertToListDTO(Article article, UserDetails userDetails) {
+    private ArticleType parseArticleType(String articleType) {
+        try {
+            // 문자열로 받은 articleType을 ArticleType enum으로 변환
+            return ArticleType.valueOf(articleType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new NotFoundException(ErrorStatus.ARTICLE_TYPE_NOT_FOUND_EXCEPTION.getMessage());
+        }
+    }
+
+    private ArticleListDTO convertToListDTO(Article article, Long userId) {
 
         Member member = article.getMember();
 
@@ -89,8 +157,7 @@ public class ArticleViewService {
       
         // 좋아요 여부 체크
         boolean myLike = false;
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        if (userId != null) {
             myLike = articleLikeRepository.findByArticleIdAndMemberId(article.getId(), userId).isPresent();
         }
 
@@ -132,7 +199,7 @@ public class ArticleViewService {
 
 
     // 감상평 게시글 상세 조회 메서드
-    public ReviewArticleDetailDTO getReviewArticleDetail(Long id, UserDetails userDetails) {
+    public ReviewArticleDetailDTO getReviewArticleDetail(Long id, Long userId) {
         // 게시글 조회
         ReviewArticle reviewArticle = reviewArticleRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.ARTICLE_NOT_FOUND_EXCEPTION.getMessage()));
@@ -162,8 +229,7 @@ public class ArticleViewService {
 
         // 좋아요 여부 체크
         boolean myLike = false;
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        if (userId != null) {
             myLike = articleLikeRepository.findByArticleIdAndMemberId(reviewArticle.getId(), userId).isPresent();
         }
 
@@ -189,7 +255,7 @@ public class ArticleViewService {
     }
 
     // 인상깊은구절 게시글 상세 조회 메서드
-    public PhraseArticleDetailDTO getPhraseArticleDetail(Long id, UserDetails userDetails) {
+    public PhraseArticleDetailDTO getPhraseArticleDetail(Long id, Long userId) {
         // 게시글 조회
         PhraseArticle phraseArticle = phraseArticleRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.ARTICLE_NOT_FOUND_EXCEPTION.getMessage()));
@@ -206,8 +272,7 @@ public class ArticleViewService {
 
         // 좋아요 여부 체크
         boolean myLike = false;
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        if (userId != null) {
             myLike = articleLikeRepository.findByArticleIdAndMemberId(phraseArticle.getId(), userId).isPresent();
         }
 
@@ -243,7 +308,7 @@ public class ArticleViewService {
     }
 
     // QnA 게시글 상세 조회 메서드
-    public QnaArticleDetailDTO getQnaArticleDetail(Long id, UserDetails userDetails) {
+    public QnaArticleDetailDTO getQnaArticleDetail(Long id, Long userId) {
         // 게시글 조회
         QnaArticle qnaArticle = qnaArticleRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.ARTICLE_NOT_FOUND_EXCEPTION.getMessage()));
@@ -260,8 +325,7 @@ public class ArticleViewService {
 
         // 좋아요 여부 체크
         boolean myLike = false;
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        if (userId != null) {
             myLike = articleLikeRepository.findByArticleIdAndMemberId(qnaArticle.getId(), userId).isPresent();
         }
 
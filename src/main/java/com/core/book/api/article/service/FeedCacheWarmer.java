@@ -0,0 +1,36 @@
+package com.core.book.api.article.service;
+
+import com.core.book.api.article.entity.ArticleType;
+import com.core.book.common.cache.CacheWarmer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 전체 및 게시글 타입별 피드 첫 페이지 캐시 예열
+@Component
+@RequiredArgsConstructor
+public class FeedCacheWarmer implements CacheWarmer {
+
+    private final ArticleViewService articleViewService;
+
+    @Override
+    public String name() {
+        return "feed";
+    }
+
+    @Override
+    public List<Runnable> warmupTasks() {
+        List<String> feedKeys = new ArrayList<>();
+        feedKeys.add(ArticleViewService.ALL_TYPES);
+        for (ArticleType type : ArticleType.values()) {
+            feedKeys.add(type.name());
+        }
+
+        return feedKeys.stream()
+                .map(feedKey -> (Runnable) () ->
+                        articleViewService.getAllArticles(feedKey, 0, ArticleViewService.FEED_CACHE_SIZE, null))
+                .toList();
+    }
+}
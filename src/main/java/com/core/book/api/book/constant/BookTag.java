@@ -2,6 +2,10 @@ package com.core.book.api.book.constant;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 @Getter
 public enum BookTag {
     FAMILY(1, "가족"),
@@ -43,6 +47,47 @@ public enum BookTag {
         this.description = description;
     }
 
+    // 태그 비트 (태그 id 번째 비트, 태그가 30개이므로 태그 목록 전체를 int 하나로 표현)
+    public int mask() {
+        return 1 << id;
+    }
+
+    public boolean in(int tagMask) {
+        return (tagMask & mask()) != 0;
+    }
+
+    public static int maskOf(Collection<BookTag> tags) {
+        int tagMask = 0;
+        for (BookTag tag : tags) {
+            tagMask |= tag.mask();
+        }
+        return tagMask;
+    }
+
+    public static List<BookTag> fromMask(int tagMask) {
+        List<BookTag> tags = new ArrayList<>(Integer.bitCount(tagMask));
+        for (BookTag tag : values()) {
+            if (tag.in(tagMask)) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /*
+     * 태그별 개수 집계 (index = 태그 id)
+     * - 조인/GROUP BY 없이 마스크마다 켜진 비트만 순회 (가장 낮은 비트를 하나씩 지우므로 반복 횟수 = 비트 수)
+     */
+    public static int[] countByTag(Collection<Integer> tagMasks) {
+        int[] counts = new int[Integer.SIZE];
+        for (int tagMask : tagMasks) {
+            for (int remaining = tagMask; remaining != 0; remaining &= remaining - 1) {
+                counts[Integer.numberOfTrailingZeros(remaining)]++;
+            }
+        }
+        return counts;
+    }
+
     public static BookTag fromId(int id) {
         for (BookTag tag : values()) {
             if (tag.getId() == id) {
@@ -2,7 +2,9 @@ package com.core.book.api.book.controller;
 
 import com.core.book.api.book.dto.BookInfoDetailDTO;
 import com.core.book.api.book.dto.BookResponseDTO;
+import com.core.book.api.book.service.BookCacheWarmer;
 import com.core.book.api.book.service.BookService;
+import com.core.book.common.cache.HotKeyTracker;
 import com.core.book.common.exception.BadRequestException;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ApiResponse;
@@ -26,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookController {
 
     private final BookService bookService;
+    private final HotKeyTracker hotKeyTracker;
 
     @Operation(
             summary = "책 검색 API",
@@ -71,6 +74,9 @@ public class BookController {
             throw new NotFoundException(ErrorStatus.BOOK_SEARCH_NOTFOUND_EXCEPTION.getMessage());
         }
 
+        // 기동 시 캐시 예열 대상 집계
+        hotKeyTracker.record(BookCacheWarmer.HOT_KEY_CATEGORY, isbn);
+
         return ApiResponse.success(SuccessStatus.BOOK_SEARCH_SUCCESS, bookInfoDetail);
     }
 }
\ No newline at end of file
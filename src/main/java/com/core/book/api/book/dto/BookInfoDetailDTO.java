@@ -1,12 +1,16 @@
 package com.core.book.api.book.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Builder
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class BookInfoDetailDTO {
     /* 책 정보 자세히 보기 정보 */
 
@@ -1,11 +1,15 @@
 package com.core.book.api.book.dto;
 
 import com.core.book.api.article.entity.ArticleType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Builder
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class ReviewPreviewDTO {
     /* 책 정보 자세히보기 - 리뷰 미리보기 */
 
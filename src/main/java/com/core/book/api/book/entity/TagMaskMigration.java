@@ -0,0 +1,27 @@
+package com.core.book.api.book.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그 비트마스크 채우기 완료 기록 (TagMaskBackfillRunner)
+ * - 행이 있으면 모든 책장/감상평의 tag_mask 가 태그 행(USER_BOOK_TAG)과 맞춰진 상태
+ * - 기록이 없으면 마스크를 읽는 곳(태그 필터, 태그 통계)은 태그 행을 사용
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "TAG_MASK_MIGRATION")
+public class TagMaskMigration {
+
+    public static final int ID = 1; // 완료 기록은 한 행
+
+    @Id
+    private Integer id;
+
+    private LocalDateTime completedAt; // 채우기 완료 시각
+}
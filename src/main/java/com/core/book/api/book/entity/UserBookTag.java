@@ -2,7 +2,11 @@ package com.core.book.api.book.entity;
 
 import com.core.book.api.article.entity.ReviewArticle;
 import com.core.book.api.bookshelf.entity.ReadBooks;
+import com.core.book.common.entity.IdSequences;
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,7 +20,15 @@ import lombok.NoArgsConstructor;
 public class UserBookTag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdSequences.USER_BOOK_TAG)
+    @GenericGenerator(name = IdSequences.USER_BOOK_TAG, type = TableGenerator.class, parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = IdSequences.TABLE),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = IdSequences.PK_COLUMN),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = IdSequences.VALUE_COLUMN),
+            @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = IdSequences.USER_BOOK_TAG),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = IdSequences.ALLOCATION_SIZE_VALUE),
+            @Parameter(name = TableGenerator.OPT_PARAM, value = IdSequences.OPTIMIZER)
+    })
     @Column(name = "tag_id")
     private int id;
 
@@ -0,0 +1,24 @@
+package com.core.book.api.book.event;
+
+import com.core.book.common.cache.CacheInvalidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class BookCacheInvalidationListener {
+
+    public static final String BOOK_INFO_CACHE = "bookInfo";
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    // 커밋 후 책 상세 캐시 무효화 (트랜잭션 없이 호출된 경우 바로 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        cacheInvalidationService.evict(List.of(BOOK_INFO_CACHE), event.isbns());
+    }
+}
@@ -0,0 +1,7 @@
+package com.core.book.api.book.event;
+
+import java.util.Collection;
+
+// 책 평점/태그/감상평 변경 트랜잭션 커밋 후 책 상세 캐시 무효화를 위한 이벤트
+public record BookChangedEvent(Collection<String> isbns) {
+}
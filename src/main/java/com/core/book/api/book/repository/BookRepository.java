@@ -1,9 +1,18 @@
 package com.core.book.api.book.repository;
 
 import com.core.book.api.book.entity.Book;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface BookRepository extends CrudRepository<Book, String> {
 
     boolean existsByIsbn(String isbn);
+
+    // 주어진 ISBN 중 BOOK 에 저장된 ISBN (PK 조회만 수행)
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findIsbnsByIsbnIn(@Param("isbns") Collection<String> isbns);
 }
@@ -0,0 +1,15 @@
+package com.core.book.api.book.repository;
+
+import com.core.book.api.book.entity.TagMaskMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TagMaskMigrationRepository extends JpaRepository<TagMaskMigration, Integer> {
+
+    // 완료 기록 - 여러 서버가 동시에 채우기를 끝내도 한 행만 남음
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tag_mask_migration (id, completed_at) VALUES (" + TagMaskMigration.ID + ", NOW())",
+            nativeQuery = true)
+    int markCompleted();
+}
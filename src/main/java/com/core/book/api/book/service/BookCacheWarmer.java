@@ -0,0 +1,35 @@
+package com.core.book.api.book.service;
+
+import com.core.book.common.cache.CacheWarmer;
+import com.core.book.common.cache.HotKeyTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 조회 수 상위 책 상세 정보 캐시 예열
+@Component
+@RequiredArgsConstructor
+public class BookCacheWarmer implements CacheWarmer {
+
+    public static final String HOT_KEY_CATEGORY = "bookInfo";
+
+    private final BookService bookService;
+    private final HotKeyTracker hotKeyTracker;
+
+    @Value("${cache.warmup.book-info-limit:500}")
+    private int limit;
+
+    @Override
+    public String name() {
+        return "bookInfo";
+    }
+
+    @Override
+    public List<Runnable> warmupTasks() {
+        return hotKeyTracker.top(HOT_KEY_CATEGORY, limit).stream()
+                .map(isbn -> (Runnable) () -> bookService.bookInfo(isbn))
+                .toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.core.book.api.book.service;
+
+import com.core.book.api.book.dto.BookInfoDTO;
+import com.core.book.api.book.entity.Book;
+import com.core.book.api.book.repository.BookRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 도서(BOOK) 등록
+ * - 없으면 저장, 있으면 무시하는 한 문장(INSERT ... ON DUPLICATE KEY UPDATE)으로 처리
+ *   (존재 확인 -> 저장 -> 재조회 3회 왕복 제거, 같은 책을 동시에 등록해도 중복 키 오류 없음)
+ * - 저장이 확인된 ISBN 은 서버 메모리에 기록하여 같은 책이 다시 등록될 때는 DB 를 거치지 않음
+ *   (트랜잭션이 롤백되면 기록하지 않도록 커밋 후 기록, BOOK 행은 삭제되지 않으므로 만료 없이 크기만 제한)
+ * - 반환 값은 영속성 컨텍스트의 참조 - 책장/태그의 외래 키로만 쓰면 조회 쿼리가 실행되지 않음
+ */
+@Service
+public class BookRegistryService {
+
+    private static final String UPSERT_BOOK_SQL =
+            "INSERT INTO book (book_id, title, book_image, author, publisher, description, pubdate, rating_average, rating_count) " +
+            "VALUES (:isbn, :title, :bookImage, :author, :publisher, :description, :pubdate, 0, 0) " +
+            "ON DUPLICATE KEY UPDATE book_id = book_id";
+
+    private final BookRepository bookRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Cache<String, Boolean> knownIsbns;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BookRegistryService(BookRepository bookRepository,
+                               NamedParameterJdbcTemplate jdbcTemplate,
+                               @Value("${book.registry.known-isbn-size:100000}") long knownIsbnSize) {
+        this.bookRepository = bookRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.knownIsbns = Caffeine.newBuilder()
+                .maximumSize(knownIsbnSize)
+                .build();
+    }
+
+    // 책 등록 (이미 있으면 그대로) 후 참조 반환
+    @Transactional
+    public Book register(BookInfoDTO bookInfo) {
+        String isbn = bookInfo.getIsbn();
+        if (knownIsbns.getIfPresent(isbn) == null) {
+            jdbcTemplate.update(UPSERT_BOOK_SQL, toParams(bookInfo));
+            markKnownAfterCommit(List.of(isbn));
+        }
+        return entityManager.getReference(Book.class, isbn);
+    }
+
+    // 여러 책 일괄 등록 (JDBC 배치)
+    @Transactional
+    public void registerAll(Collection<BookInfoDTO> books) {
+        List<BookInfoDTO> unknown = books.stream()
+                .filter(book -> knownIsbns.getIfPresent(book.getIsbn()) == null)
+                .toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_BOOK_SQL, unknown.stream()
+                .map(BookRegistryService::toParams)
+                .toArray(MapSqlParameterSource[]::new));
+        markKnownAfterCommit(unknown.stream().map(BookInfoDTO::getIsbn).toList());
+    }
+
+    // 주어진 ISBN 중 BOOK 에 저장된 ISBN (메모리에 기록된 ISBN 은 DB 조회 생략)
+    public Set<String> findStoredIsbns(Collection<String> isbns) {
+        Set<String> stored = new HashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String isbn : isbns) {
+            if (knownIsbns.getIfPresent(isbn) != null) {
+                stored.add(isbn);
+            } else {
+                unknown.add(isbn);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            List<String> found = bookRepository.findIsbnsByIsbnIn(unknown);
+            found.forEach(isbn -> knownIsbns.put(isbn, Boolean.TRUE));
+            stored.addAll(found);
+        }
+        return stored;
+    }
+
+    private void markKnownAfterCommit(Collection<String> isbns) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            isbns.forEach(isbn -> knownIsbns.put(isbn, Boolean.TRUE));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                isbns.forEach(isbn -> knownIsbns.put(isbn, Boolean.TRUE));
+            }
+        });
+    }
+
+    private static MapSqlParameterSource toParams(BookInfoDTO book) {
+        return new MapSqlParameterSource()
+                .addValue("isbn", book.getIsbn())
+                .addValue("title", book.getTitle())
+                .addValue("bookImage", book.getImage())
+                .addValue("author", book.getAuthor())
+                .addValue("publisher", book.getPublisher())
+                .addValue("description", book.getDescription())
+                .addValue("pubdate", book.getPubdate());
+    }
+}
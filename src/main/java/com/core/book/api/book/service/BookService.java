@@ -14,10 +14,12 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -80,6 +82,9 @@ public class BookService {
                 .build();
     }
 
+    // 책 상세 정보 (평점, 태그, 리뷰 미리보기 포함) - 외부 API 결과도 함께 캐시, 결과가 없으면 캐시하지 않음
+    @Transactional(readOnly = true)
+    @Cacheable(value = "bookInfo", key = "#isbn", unless = "#result == null")
     public BookInfoDetailDTO bookInfo(String isbn){
 
         BookDTO bookDTO;
@@ -88,11 +93,11 @@ public class BookService {
         List<String> tagList = new ArrayList<>();
         List<ReviewPreviewDTO> reviewPreviewList = new ArrayList<>();
 
-        // BOOK DB에서 책 데이터 찾기
-        if(bookRepository.existsByIsbn(isbn)){
-            
-            Book book = bookRepository.findById(isbn)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.BOOK_NOTFOUND_EXCEPTION.getMessage()));
+        // BOOK DB에서 책 데이터 찾기 (PK 조회 1회)
+        Optional<Book> storedBook = bookRepository.findById(isbn);
+        if(storedBook.isPresent()){
+
+            Book book = storedBook.get();
 
             bookDTO = convertFromBookToBookInfoDTO(book);
 
@@ -138,6 +143,18 @@ public class BookService {
         }
     }
 
+    // ISBN 으로 외부 도서 API 조회 (검색 결과가 없으면 null)
+    public BookInfoDTO fetchBookByIsbn(String isbn){
+
+        URI uri = uriComponentBuild(null, isbn, 1, 10);
+        ResultDTO resultDTO = fetchBookData(uri);
+
+        return Optional.ofNullable(resultDTO.getItems())
+                .filter(items -> !items.isEmpty())
+                .map(items -> convertFromBookDTOToBookInfoDTO(items.get(0)))
+                .orElse(null);
+    }
+
     // 외부 도서 API 에 요청할 URI 생성
     private URI uriComponentBuild(String text, String isbn, int page, int size){
 
@@ -0,0 +1,93 @@
+package com.core.book.api.book.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 비트마스크 채우기 (READBOOKS, REVIEW_ARTICLE 의 tag_mask)
+ * - 태그 행(USER_BOOK_TAG)이 있는 책장/감상평은 모두 태그 행 기준으로 다시 계산 (마스크가 이미 있어도 어긋난 값 바로잡음)
+ * - 태그 행이 없는데 마스크가 남아 있는 책장/감상평은 마스크를 비움
+ * - id 범위를 나누어 범위마다 한 문장으로 갱신 (한 번에 큰 잠금을 잡지 않도록 함)
+ * - 필수 마이그레이션 : 완료 기록(TAG_MASK_MIGRATION)이 없으면 기동 시 실행하고, 끝나면 완료 기록을 남김 (ApplicationRunner 이므로 채우기가 끝난 뒤 트래픽을 받음)
+ *   완료 기록이 생기기 전까지 태그 필터와 태그 통계는 태그 행을 사용 (TagMaskMigrationService)
+ *   이전 버전 서버가 남아 있는 동안 저장된 태그는 마스크에 반영되지 않으므로, 전환이 끝난 뒤 완료 기록을 지우고 재기동하면 다시 계산
+ * - 채우기를 다른 서버에서 실행할 때만 tag-mask.backfill.enabled=false 로 끔
+ */
+@Slf4j
+@Component
+public class TagMaskBackfillRunner implements ApplicationRunner {
+
+    private static final String BACKFILL_READBOOKS_SQL =
+            "UPDATE readbooks rb JOIN (" +
+            "SELECT ubt.readbooks_id, BIT_OR(1 << ubt.tag) AS tag_mask FROM user_book_tag ubt " +
+            "WHERE ubt.readbooks_id BETWEEN ? AND ? GROUP BY ubt.readbooks_id) t ON t.readbooks_id = rb.readbooks_id " +
+            "SET rb.tag_mask = t.tag_mask";
+
+    private static final String BACKFILL_REVIEW_ARTICLE_SQL =
+            "UPDATE review_article ra JOIN (" +
+            "SELECT ubt.review_article_id, BIT_OR(1 << ubt.tag) AS tag_mask FROM user_book_tag ubt " +
+            "WHERE ubt.review_article_id BETWEEN ? AND ? GROUP BY ubt.review_article_id) t ON t.review_article_id = ra.id " +
+            "SET ra.tag_mask = t.tag_mask";
+
+    private static final String CLEAR_READBOOKS_SQL =
+            "UPDATE readbooks rb SET rb.tag_mask = 0 " +
+            "WHERE rb.readbooks_id BETWEEN ? AND ? AND rb.tag_mask <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM user_book_tag ubt WHERE ubt.readbooks_id = rb.readbooks_id)";
+
+    private static final String CLEAR_REVIEW_ARTICLE_SQL =
+            "UPDATE review_article ra SET ra.tag_mask = 0 " +
+            "WHERE ra.id BETWEEN ? AND ? AND ra.tag_mask <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM user_book_tag ubt WHERE ubt.review_article_id = ra.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TagMaskMigrationService tagMaskMigrationService;
+
+    @Value("${tag-mask.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tag-mask.backfill.chunk-size:5000}")
+    private long chunkSize;
+
+    public TagMaskBackfillRunner(JdbcTemplate jdbcTemplate, TagMaskMigrationService tagMaskMigrationService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tagMaskMigrationService = tagMaskMigrationService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || tagMaskMigrationService.isCompleted()) {
+            return;
+        }
+
+        try {
+            int readBooksCnt = updateByRange("user_book_tag", "readbooks_id", BACKFILL_READBOOKS_SQL)
+                    + updateByRange("readbooks", "readbooks_id", CLEAR_READBOOKS_SQL);
+            int reviewArticleCnt = updateByRange("user_book_tag", "review_article_id", BACKFILL_REVIEW_ARTICLE_SQL)
+                    + updateByRange("review_article", "id", CLEAR_REVIEW_ARTICLE_SQL);
+            tagMaskMigrationService.markCompleted();
+            log.info("태그 비트마스크 채우기 완료 - 읽은 책={}, 감상평={}", readBooksCnt, reviewArticleCnt);
+        } catch (RuntimeException e) {
+            // 실패해도 기동은 진행 (완료 기록이 없으므로 태그 행 조회 유지, 다음 기동 시 처음부터 다시 계산)
+            log.warn("태그 비트마스크 채우기 실패", e);
+        }
+    }
+
+    // 테이블의 id 범위를 chunk 크기로 나누어 갱신
+    private int updateByRange(String table, String idColumn, String sql) {
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(" + idColumn + ") FROM " + table, Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (long from = minId; from <= maxId; from += chunkSize) {
+            updated += jdbcTemplate.update(sql, from, from + chunkSize - 1);
+        }
+        return updated;
+    }
+}
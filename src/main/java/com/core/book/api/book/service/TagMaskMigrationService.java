@@ -0,0 +1,34 @@
+package com.core.book.api.book.service;
+
+import com.core.book.api.book.entity.TagMaskMigration;
+import com.core.book.api.book.repository.TagMaskMigrationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 태그 비트마스크 마이그레이션 상태
+ * - 채우기(TagMaskBackfillRunner)가 끝나기 전에는 마스크가 0 이어도 태그 행이 있을 수 있으므로 마스크만으로 조회하지 않음
+ * - 완료를 한 번 확인하면 이후에는 조회하지 않음 (다른 서버가 채우기를 끝낸 경우도 다음 호출에서 반영)
+ */
+@Service
+@RequiredArgsConstructor
+public class TagMaskMigrationService {
+
+    private final TagMaskMigrationRepository tagMaskMigrationRepository;
+
+    private volatile boolean completed;
+
+    public boolean isCompleted() {
+        if (!completed) {
+            completed = tagMaskMigrationRepository.existsById(TagMaskMigration.ID);
+        }
+        return completed;
+    }
+
+    @Transactional
+    public void markCompleted() {
+        tagMaskMigrationRepository.markCompleted();
+        completed = true;
+    }
+}
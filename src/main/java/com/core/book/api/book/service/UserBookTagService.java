@@ -7,18 +7,22 @@ import com.core.book.api.book.entity.Book;
 import com.core.book.api.book.entity.UserBookTag;
 import com.core.book.api.book.repository.UserBookTagRepository;
 import com.core.book.api.bookshelf.entity.ReadBooks;
+import com.core.book.api.bookshelf.service.ReadingStatsService;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserBookTagService {
 
     private final UserBookTagRepository userBookTagRepository;
+    private final ReadingStatsService readingStatsService;
 
     // id로 태그 entity 가져오기
     public UserBookTag findUserBookTag(int tagId){
@@ -26,40 +30,108 @@ public class UserBookTagService {
                 orElseThrow(() -> new NotFoundException(ErrorStatus.TAG_NOT_FOUND_EXCPETION.getMessage()));
     }
 
-    // 태그 수정 메서드
+    /*
+     * 태그 수정 메서드
+     * - 요청(tagId 0 : 추가, tag null : 삭제, 그 외 : 수정)을 기존 태그 목록과 비교하여 변경분만 반영
+     * - 기존 태그는 한 번에 조회, 삭제는 한 문장, 추가/수정은 배치로 저장 (태그 id 는 테이블 기반 발급 - IdSequences)
+     * - 책장/감상평의 태그 비트마스크도 함께 갱신, 독서 통계(태그별 권수)는 마스크에서 켜지고 꺼진 비트로 반영
+     */
     public void updateUserBookTag(List<UserBookTagDTO> tagList, Book book, ReadBooks readBooks, ReviewArticle reviewArticle){
-        if (tagList != null) {
-            for (UserBookTagDTO tagDTO : tagList) {
-                if (tagDTO == null) continue;  // null 태그가 있을 경우 건너뛰기
-
-                // 태그 삭제 -> 태그 이름이 null 인 경우
-                if(tagDTO.getTag() == null){
-                    UserBookTag existTag = findUserBookTag(tagDTO.getTagId());
-                    userBookTagRepository.delete(existTag);
-                    continue;
-                }
-                BookTag tagEnum = BookTag.fromDescription(tagDTO.getTag());
+        if (tagList == null || tagList.isEmpty()) {
+            return;
+        }
+
+        // 수정/삭제 요청이 있을 때만 기존 태그 조회 (등록 시에는 조회 생략)
+        boolean hasExistingTagRequest = tagList.stream().anyMatch(tagDTO -> tagDTO != null && tagDTO.getTagId() != 0);
+        Map<Integer, UserBookTag> existingTags = hasExistingTagRequest
+                ? findExistingTags(readBooks, reviewArticle)
+                : Map.of();
 
-                // 태그 새로 저장 -> 태그 id가 0인 경우
-                if (tagDTO.getTagId() == 0) {
+        List<UserBookTag> deletedTags = new ArrayList<>();
+        List<UserBookTag> savedTags = new ArrayList<>();
+        Map<Integer, Integer> remainingTags = new HashMap<>(); // 수정 후 남는 기존 태그 (태그 행 id -> 태그 id)
+        existingTags.forEach((id, existTag) -> remainingTags.put(id, existTag.getTag()));
+        int addedMask = 0;
 
-                    UserBookTag newUserBookTag = tagDTO.toEntity(book, tagEnum, readBooks, reviewArticle);
-                    userBookTagRepository.save(newUserBookTag);
+        for (UserBookTagDTO tagDTO : tagList) {
+            if (tagDTO == null) continue;  // null 태그가 있을 경우 건너뛰기
+
+            // 태그 삭제 -> 태그 이름이 null 인 경우
+            if(tagDTO.getTag() == null){
+                UserBookTag existTag = findExistingTag(existingTags, tagDTO.getTagId());
+                deletedTags.add(existTag);
+                remainingTags.remove(existTag.getId());
+                continue;
+            }
+            BookTag tagEnum = BookTag.fromDescription(tagDTO.getTag());
 
-                } else { // 태그 수정 -> 태그 id가 있는 경우
-                    UserBookTag existTag = findUserBookTag(tagDTO.getTagId());
+            // 태그 새로 저장 -> 태그 id가 0인 경우
+            if (tagDTO.getTagId() == 0) {
+                savedTags.add(tagDTO.toEntity(book, tagEnum, readBooks, reviewArticle));
+                addedMask |= tagEnum.mask();
 
-                    // 태그 이름이 변경되었다면 수정
-                    if (tagEnum.getId() != existTag.getTag()) {
+            } else { // 태그 수정 -> 태그 id가 있는 경우
+                UserBookTag existTag = findExistingTag(existingTags, tagDTO.getTagId());
 
-                        UserBookTag updatedTag = tagDTO.update(existTag, tagEnum);
-                        userBookTagRepository.save(updatedTag);
-                    }
-                    
-                    // 태그 이름이 그대로라면 변경 없음
+                // 태그 이름이 변경되었다면 수정 (그대로라면 변경 없음)
+                if (tagEnum.getId() != existTag.getTag()) {
+                    savedTags.add(tagDTO.update(existTag, tagEnum));
+                    remainingTags.put(existTag.getId(), tagEnum.getId());
                 }
             }
         }
+
+        if (!deletedTags.isEmpty()) {
+            userBookTagRepository.deleteAllInBatch(deletedTags);
+        }
+        if (!savedTags.isEmpty()) {
+            userBookTagRepository.saveAll(savedTags);
+        }
+
+        // 기존 태그를 조회한 경우 변경 전/후 모두 태그 행으로 계산 (마스크 채우기 전의 책장은 저장된 마스크가 비어 있을 수 있음)
+        // 추가만 있는 경우 저장된 마스크에 추가 비트만 더함
+        int storedMask = readBooks != null ? readBooks.getTagMask() : reviewArticle.getTagMask();
+        int oldMask = hasExistingTagRequest
+                ? BookTag.maskOf(existingTags.values().stream().map(existTag -> BookTag.fromId(existTag.getTag())).toList())
+                : storedMask;
+        int newMask = hasExistingTagRequest
+                ? BookTag.maskOf(remainingTags.values().stream().map(BookTag::fromId).toList()) | addedMask
+                : oldMask | addedMask;
+        if (newMask == storedMask && newMask == oldMask) {
+            return;
+        }
+
+        if (readBooks != null) {
+            readBooks.updateTagMask(newMask);
+            addReadingStats(readBooks, newMask & ~oldMask, 1);
+            addReadingStats(readBooks, oldMask & ~newMask, -1);
+        } else {
+            reviewArticle.updateTagMask(newMask);
+        }
+    }
+
+    // 책장/감상평의 기존 태그 (id -> 태그)
+    private Map<Integer, UserBookTag> findExistingTags(ReadBooks readBooks, ReviewArticle reviewArticle) {
+        List<UserBookTag> tags = readBooks != null
+                ? userBookTagRepository.findByReadBooks(readBooks)
+                : userBookTagRepository.findByReviewArticle(reviewArticle);
+        return tags.stream().collect(Collectors.toMap(UserBookTag::getId, Function.identity()));
+    }
+
+    // 수정/삭제 대상은 해당 책장/감상평의 태그만 허용
+    private UserBookTag findExistingTag(Map<Integer, UserBookTag> existingTags, int tagId) {
+        UserBookTag existTag = existingTags.get(tagId);
+        if (existTag == null) {
+            throw new NotFoundException(ErrorStatus.TAG_NOT_FOUND_EXCPETION.getMessage());
+        }
+        return existTag;
+    }
+
+    // 읽은 책 태그 변경분을 회원 독서 통계(태그별 권수)에 반영
+    private void addReadingStats(ReadBooks readBooks, int changedMask, int delta) {
+        for (BookTag tag : BookTag.fromMask(changedMask)) {
+            readingStatsService.addTag(readBooks.getMember().getId(), tag.getId(), delta);
+        }
     }
 
 }
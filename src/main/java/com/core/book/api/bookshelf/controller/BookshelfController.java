@@ -2,7 +2,8 @@ package com.core.book.api.bookshelf.controller;
 
 import com.core.book.api.bookshelf.dto.*;
 import com.core.book.api.bookshelf.service.BookShelfService;
-import com.core.book.api.member.service.MemberService;
+import com.core.book.api.bookshelf.service.BookshelfTransferService;
+import com.core.book.common.auth.LoginUserId;
 import com.core.book.common.exception.BadRequestException;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ApiResponse;
@@ -13,10 +14,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,7 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class BookshelfController {
 
     private final BookShelfService bookShelfService;
-    private final MemberService memberService;
+    private final BookshelfTransferService bookshelfTransferService;
 
     /*
      *
@@ -36,21 +43,24 @@ public class BookshelfController {
     @Operation(
             summary = "'읽은 책' 책장 전체 조회 API",
             description = "'읽은 책' 책장에 불러올 전체 데이터를 조회합니다.\n" +
-                    "filter 는 필터 번호로 책장 필터링에 사용됩니다. (1: 전체보기(최신순), 2: 오래된 순, 3: 평점 높은 순, 4: 평점 낮은 순)"
+                    "filter 는 필터 번호로 책장 필터링에 사용됩니다. (1: 전체보기(최신순), 2: 오래된 순, 3: 평점 높은 순, 4: 평점 낮은 순)\n" +
+                    "다음 페이지는 응답의 nextCursor 를 cursor 로 전달하여 조회합니다. (cursor 없이 page 만 전달하는 방식도 지원)\n" +
+                    "tags 로 태그 이름을 전달하면 해당 태그를 모두 가진 책만 page 로 조회합니다. (예: tags=감동적&tags=슬픔, 월별 권수/평점은 조회된 책 기준)"
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "책장 조회 성공"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "요청 값이 입력되지 않았습니다.")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "요청 값이 입력되지 않았습니다. / 유효하지 않은 책장 조회 커서입니다. / 유효하지 않은 책장 조회 태그입니다.")
     })
     @GetMapping("/api/v1/bookshelf/read")
     public ResponseEntity<ApiResponse<ReadBookshelfResponseDTO>> showReadBookshelf(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @LoginUserId Long userId,
             @RequestParam(value = "page", defaultValue = "1") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
-            @RequestParam(value = "filter", defaultValue = "1") int filterNum){
+            @RequestParam(value = "filter", defaultValue = "1") int filterNum,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "tags", required = false) List<String> tags){
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-        ReadBookshelfResponseDTO readBookshelfData = bookShelfService.showReadBooks(userId, page, size, filterNum);
+        ReadBookshelfResponseDTO readBookshelfData = bookShelfService.showReadBooks(userId, page, size, filterNum, cursor, tags);
         log.info("readBookshelfData: {}", readBookshelfData.toString());
 
         return ApiResponse.success(SuccessStatus.GET_BOOKSHELF_SUCCESS, readBookshelfData);
@@ -66,17 +76,30 @@ public class BookshelfController {
     })
     @GetMapping("/api/v1/bookshelf/wish")
     public ResponseEntity<ApiResponse<WishBookshelfResponseDTO>> showWishBookshelf(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @LoginUserId Long userId,
             @RequestParam(value = "page", defaultValue = "1") int page,
             @RequestParam(value = "size", defaultValue = "10") int size){
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         WishBookshelfResponseDTO wishBookshelfData = bookShelfService.showWishBooks(userId, page, size);
         log.info(wishBookshelfData.toString());
 
         return ApiResponse.success(SuccessStatus.GET_BOOKSHELF_SUCCESS, wishBookshelfData);
     }
 
+    @Operation(
+            summary = "독서 통계 조회 API",
+            description = "'읽은 책' 책장 기준 독서 통계를 조회합니다. (년도/월별 읽은 책 수, 평균 평점, 평점 분포, 많이 선택한 태그, 많이 읽은 저자/출판사)"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "독서 통계 조회 성공")
+    })
+    @GetMapping("/api/v1/bookshelf/statistics")
+    public ResponseEntity<ApiResponse<ReadingStatsResponseDTO>> showReadingStats(@LoginUserId Long userId){
+
+        ReadingStatsResponseDTO readingStats = bookShelfService.showReadingStats(userId);
+        return ApiResponse.success(SuccessStatus.GET_READING_STATS_SUCCESS, readingStats);
+    }
+
     /*
      *
      * 책장 '상세 조회' API
@@ -135,14 +158,13 @@ public class BookshelfController {
     @PostMapping("/api/v1/bookshelf/read")
     public ResponseEntity<ApiResponse<Void>> createReadBookshelf(
             @RequestBody ReadBookshelfRequestDTO readBookshelfDTO,
-            @AuthenticationPrincipal UserDetails userDetails){
+            @LoginUserId Long userId){
 
         // 예외처리 : 등록 날짜가 정상적으로 입력되지 않은 경우 등록 불가
         if(readBookshelfDTO.getReadBooks().getReadDate() == null){
             throw new BadRequestException(ErrorStatus.MISSING_BOOKSHELF_DATE.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         // 책 저장 - 날짜/평점/태그/한줄평 입력 후 저장
         bookShelfService.createReadBookshelf(readBookshelfDTO, userId);
@@ -161,9 +183,8 @@ public class BookshelfController {
     @PostMapping("/api/v1/bookshelf/wish")
     public ResponseEntity<ApiResponse<Void>> createWishBookshelf(
             @RequestBody WishBookshelfRequestDTO wishBookshelfDTO,
-            @AuthenticationPrincipal UserDetails userDetails){
+            @LoginUserId Long userId){
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         // 책 저장 - 날짜/평점/태그/한줄평 입력 후 저장
         bookShelfService.createWishBookshelf(wishBookshelfDTO, userId);
@@ -191,14 +212,13 @@ public class BookshelfController {
     @PatchMapping("/api/v1/bookshelf/read/{id}")
     public ResponseEntity<ApiResponse<Void>> updateReadBookshelf(
             @RequestBody ReadBooksDTO readBooksDTO, @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails){
+            @LoginUserId Long userId){
 
         // 예외 처리 : 등록 날짜가 입력되지 않은 경우
         if(readBooksDTO.getReadDate() == null){
             throw new NotFoundException(ErrorStatus.MISSING_BOOKSHELF_DATE.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         bookShelfService.updateReadBookshelf(readBooksDTO, id, userId);
 
@@ -216,9 +236,8 @@ public class BookshelfController {
     @PatchMapping("/api/v1/bookshelf/wish/{id}")
     public ResponseEntity<ApiResponse<Void>> updateWishBookshelf(
             @RequestBody WishBooksDTO wishBooksDTO, @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails){
+            @LoginUserId Long userId){
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         bookShelfService.updateWishBookshelf(wishBooksDTO, id, userId);
 
@@ -242,9 +261,8 @@ public class BookshelfController {
     @DeleteMapping("/api/v1/bookshelf/read/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteReadBookshelf(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails){
+            @LoginUserId Long userId){
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         bookShelfService.deleteReadBookshelf(id, userId);
 
@@ -262,9 +280,8 @@ public class BookshelfController {
     @DeleteMapping("/api/v1/bookshelf/wish/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteWishBookshelf(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails){
+            @LoginUserId Long userId){
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         bookShelfService.deleteWishBookshelf(id, userId);
 
@@ -288,13 +305,65 @@ public class BookshelfController {
     @PostMapping("/api/v1/bookshelf/shift/{id}")
     public ResponseEntity<ApiResponse<Void>> shiftBookshelf(
             @RequestBody ReadBooksDTO readBooksDTO, @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails){
+            @LoginUserId Long userId){
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         bookShelfService.shiftBookshelf(readBooksDTO, id, userId);
 
         return ApiResponse.success_only(SuccessStatus.SHIFT_BOOKSHELF_SUCCESS);
     }
 
+    /*
+     *
+     * 책장 '가져오기 / 내보내기' API
+     *
+     */
+
+    @Operation(
+            summary = "책장 가져오기 API",
+            description = "다른 서비스에서 옮겨온 독서 기록(csv, json)을 책장에 한 번에 등록합니다. with MultipartFile" +
+                    "\n- 항목 : shelf(read/wish, 생략 시 read), isbn(required), readDate(읽은 책 required, yyyy-MM-dd), rating(0~5), oneLineReview, reason" +
+                    "\n- csv 는 첫 줄에 항목 이름(헤더)을 적고, json 은 객체 배열로 보내주세요. (내보내기 파일을 그대로 올릴 수 있습니다)" +
+                    "\n- 이미 책장에 있는 책과 도서 정보를 찾을 수 없는 ISBN 은 건너뜁니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "책장 가져오기 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "책장 가져오기 파일 형식이 올바르지 않습니다. / 책장 가져오기 파일의 행 수가 허용 범위를 벗어났습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
+    })
+    @PostMapping(value = "/api/v1/bookshelf/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<BookshelfImportResponseDTO>> importBookshelf(
+            @LoginUserId Long userId,
+            @RequestParam("file") MultipartFile file){
+
+        BookshelfImportResponseDTO imported = bookshelfTransferService.importBookshelf(userId, file);
+        log.info("importBookshelf: {}", imported);
+
+        return ApiResponse.success(SuccessStatus.IMPORT_BOOKSHELF_SUCCESS, imported);
+    }
+
+    @Operation(
+            summary = "책장 내보내기 API",
+            description = "'읽은 책', '읽고 싶은 책' 책장 전체를 파일로 내려받습니다. (format : csv, json)"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "책장 내보내기 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 책장 내보내기 형식입니다.")
+    })
+    @GetMapping("/api/v1/bookshelf/export")
+    public ResponseEntity<StreamingResponseBody> exportBookshelf(
+            @LoginUserId Long userId,
+            @RequestParam(value = "format", defaultValue = BookshelfTransferService.FORMAT_CSV) String format){
+
+        StreamingResponseBody body = bookshelfTransferService.exportBookshelf(userId, format);
+        boolean csv = BookshelfTransferService.FORMAT_CSV.equalsIgnoreCase(format);
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("bookshelf." + (csv ? BookshelfTransferService.FORMAT_CSV : BookshelfTransferService.FORMAT_JSON))
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
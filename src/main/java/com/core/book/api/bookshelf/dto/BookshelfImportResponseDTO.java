@@ -0,0 +1,21 @@
+package com.core.book.api.bookshelf.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Builder
+@Getter
+@ToString
+public class BookshelfImportResponseDTO {
+    /* 책장 가져오기 결과 */
+
+    private int totalRowCnt; // 파일 전체 행 수
+    private int readBookCnt; // 등록된 읽은 책 수
+    private int wishBookCnt; // 등록된 읽고 싶은 책 수
+    private int duplicateCnt; // 이미 책장에 있거나 파일 안에서 중복되어 건너뛴 행 수
+    private int invalidCnt; // 값이 올바르지 않거나 도서 정보를 찾지 못해 건너뛴 행 수
+    private List<String> notFoundIsbnList; // 도서 정보를 찾지 못한 ISBN (최대 100개)
+}
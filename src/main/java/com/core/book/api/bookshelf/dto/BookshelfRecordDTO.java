@@ -0,0 +1,31 @@
+package com.core.book.api.bookshelf.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonPropertyOrder({"shelf", "isbn", "title", "author", "publisher", "readDate", "rating", "oneLineReview", "reason"})
+public class BookshelfRecordDTO {
+    /* 책장 가져오기/내보내기 한 행 (CSV 헤더, JSON 속성 이름 동일) */
+
+    public static final String SHELF_READ = "read";
+    public static final String SHELF_WISH = "wish";
+
+    private String shelf; // 책장 종류 (read: 읽은 책, wish: 읽고 싶은 책 / 가져오기 시 생략하면 read)
+    private String isbn; // isbn (필수)
+    private String title; // 책 제목 (내보내기 전용)
+    private String author; // 저자 (내보내기 전용)
+    private String publisher; // 출판사 (내보내기 전용)
+    private LocalDate readDate; // 읽은 날짜 (읽은 책 필수, yyyy-MM-dd)
+    private Double rating; // 평점 (읽은 책, 0 ~ 5)
+    private String oneLineReview; // 한줄평 (읽은 책)
+    private String reason; // 읽고 싶은 이유 (읽고 싶은 책)
+}
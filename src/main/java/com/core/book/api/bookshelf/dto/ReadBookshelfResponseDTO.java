@@ -14,12 +14,14 @@ public class ReadBookshelfResponseDTO {
     private List<MonthlyInfoDTO> monthlyInfoList; // 책장 내 월 별로 요구되는 데이터들의 리스트
     private int page; // 현재 페이지 번호
     private boolean isLast; // 마지막 페이지 여부 (true: 마지막 페이지가 맞음 / false : 마지막 페이지가 아님)
+    private String nextCursor; // 다음 페이지 조회 커서 (마지막 페이지이면 null)
 
     @Builder
     @Getter
     public static class MonthlyInfoDTO{
-        private String date; // 읽은 날짜(월별) (YYYY-M)
-        private int monthlyBookCnt; // 월별 읽은 책 개수
+        private String date; // 읽은 날짜(월별) (YYYY-M, 읽은 날짜가 없는 책은 "unknown")
+        private int monthlyBookCnt; // 월별 읽은 책 개수 (해당 월 전체)
+        private double monthlyRatingAverage; // 월별 평균 평점 (해당 월 전체)
         private List<MonthlyReadBookDTO> monthlyReadBookList; // 월별 읽은 책 정보 리스트
 
         @Builder
@@ -0,0 +1,50 @@
+package com.core.book.api.bookshelf.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class ReadingStatsResponseDTO {
+    /* 독서 통계 */
+
+    private long totalBookCnt; // 전체 읽은 책 수
+    private double ratingAverage; // 전체 평균 평점
+    private List<YearlyStatsDTO> yearlyList; // 년도별 읽은 책 수 (최근 년도 순)
+    private List<RatingCountDTO> ratingDistribution; // 평점별 읽은 책 수 (평점 높은 순)
+    private List<ItemCountDTO> topTagList; // 많이 선택한 태그
+    private List<ItemCountDTO> topAuthorList; // 많이 읽은 저자
+    private List<ItemCountDTO> topPublisherList; // 많이 읽은 출판사
+
+    @Builder
+    @Getter
+    public static class YearlyStatsDTO {
+        private int year; // 년도
+        private int bookCnt; // 해당 년도 읽은 책 수
+        private List<MonthlyStatsDTO> monthlyList; // 월별 통계 (읽은 책이 있는 달만, 1월부터)
+    }
+
+    @Builder
+    @Getter
+    public static class MonthlyStatsDTO {
+        private int month; // 월
+        private int bookCnt; // 해당 월 읽은 책 수
+        private double ratingAverage; // 해당 월 평균 평점
+    }
+
+    @Builder
+    @Getter
+    public static class RatingCountDTO {
+        private double rating; // 평점
+        private int bookCnt; // 읽은 책 수
+    }
+
+    @Builder
+    @Getter
+    public static class ItemCountDTO {
+        private String name; // 태그 / 저자 / 출판사 이름
+        private int bookCnt; // 읽은 책 수
+    }
+}
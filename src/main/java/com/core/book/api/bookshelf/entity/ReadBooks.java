@@ -13,7 +13,10 @@ import java.time.LocalDate;
 @Builder
 @ToString
 @Getter
-@Table(name = "READBOOKS")
+@Table(name = "READBOOKS", indexes = {
+        @Index(name = "idx_readbooks_member_read_date", columnList = "user_id, read_date, readbooks_id"), // 책장 목록 - 읽은 날짜 순
+        @Index(name = "idx_readbooks_member_rating", columnList = "user_id, rating, readbooks_id") // 책장 목록 - 평점 순
+})
 public class ReadBooks {
 
     @Id
@@ -37,8 +40,16 @@ public class ReadBooks {
     @JoinColumn(name = "user_id")
     private Member member; //회원
 
+    // 태그 비트마스크 (BookTag.mask 의 OR, 태그 행(USER_BOOK_TAG)과 함께 갱신)
+    @Column(name = "tag_mask", nullable = false, columnDefinition = "int default 0")
+    private int tagMask;
+
 //    @OneToMany(fetch = FetchType.LAZY)
 //    @JoinColumn(name = "user_book_tag")
 //    private List<UserBookTag> userBookTagList; //태그
 
+    public void updateTagMask(int tagMask) {
+        this.tagMask = tagMask;
+    }
+
 }
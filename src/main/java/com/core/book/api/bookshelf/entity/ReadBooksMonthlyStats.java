@@ -0,0 +1,48 @@
+package com.core.book.api.bookshelf.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 회원별 월별 읽은 책 집계 (읽은 책 수, 평점 합계)
+ * - READBOOKS 등록/읽은 날짜·평점 수정/삭제 시 같은 트랜잭션에서 upsert 로 갱신 (ReadBooksMonthlyStatsService)
+ * - 책장 목록이 여러 페이지에 걸쳐도 월별 전체 권수를 책장 전체 조회 없이 계산하기 위해 사용
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@IdClass(ReadBooksMonthlyStats.Key.class)
+@Table(name = "READBOOKS_MONTHLY_STATS")
+public class ReadBooksMonthlyStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long memberId; // 회원 ID
+
+    @Id
+    @Column(name = "read_month")
+    private int readMonth; // 읽은 년월 (yyyyMM)
+
+    private int bookCnt; // 해당 월 읽은 책 수
+
+    private double ratingSum; // 해당 월 평점 합계
+
+    // 읽은 년월 키 (읽은 날짜가 없는 책은 집계하지 않으므로 호출 전 null 확인)
+    public static int readMonthOf(LocalDate readDate) {
+        return readDate.getYear() * 100 + readDate.getMonthValue();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long memberId;
+        private int readMonth;
+    }
+}
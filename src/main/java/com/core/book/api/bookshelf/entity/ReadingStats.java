@@ -0,0 +1,50 @@
+package com.core.book.api.bookshelf.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 회원별 독서 통계 집계 (항목별 읽은 책 수)
+ * - dimension 별 item : RATING(평점 x 10), TAG(BookTag id), AUTHOR(저자), PUBLISHER(출판사)
+ * - 읽은 책 등록/평점 수정/태그 변경/삭제 시 같은 트랜잭션에서 upsert 로 증감 (ReadingStatsService)
+ * - 통계 화면은 이 집계와 월별 집계(READBOOKS_MONTHLY_STATS)만 조회하여 READBOOKS/BOOK/USER_BOOK_TAG 집계 쿼리를 실행하지 않음
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@IdClass(ReadingStats.Key.class)
+@Table(name = "READING_STATS", indexes = @Index(name = "idx_reading_stats_top", columnList = "user_id, dimension, cnt"))
+public class ReadingStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long memberId; // 회원 ID
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Dimension dimension; // 통계 구분
+
+    @Id
+    private String item; // 항목 값
+
+    private int cnt; // 읽은 책 수
+
+    public enum Dimension {
+        RATING, TAG, AUTHOR, PUBLISHER
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long memberId;
+        private Dimension dimension;
+        private String item;
+    }
+}
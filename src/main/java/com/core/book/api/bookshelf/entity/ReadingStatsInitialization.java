@@ -0,0 +1,44 @@
+package com.core.book.api.bookshelf.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 회원별 집계 초기화 기록
+ * - 집계 도입 이전에 책장이 있던 회원은 처음 사용할 때 책장 기준으로 한 번 다시 계산
+ * - 집계 행의 존재 여부로 판단하면 초기화 전에 생긴 증감 행 때문에 계산이 건너뛰어지므로 별도로 기록
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@IdClass(ReadingStatsInitialization.Key.class)
+@Table(name = "READING_STATS_INITIALIZATION")
+public class ReadingStatsInitialization {
+
+    @Id
+    @Column(name = "user_id")
+    private Long memberId; // 회원 ID
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private StatsType statsType; // 집계 종류
+
+    public enum StatsType {
+        MONTHLY, // 월별 읽은 책 집계 (READBOOKS_MONTHLY_STATS)
+        ITEMS // 항목별 집계 (READING_STATS)
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long memberId;
+        private StatsType statsType;
+    }
+}
@@ -12,7 +12,7 @@ import lombok.*;
 @Builder
 @ToString
 @Getter
-@Table(name = "WISHBOOKS")
+@Table(name = "WISHBOOKS", indexes = @Index(name = "idx_wishbooks_member", columnList = "user_id, wishbooks_id"))
 public class WishBooks extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,40 @@
+package com.core.book.api.bookshelf.repository;
+
+import com.core.book.api.bookshelf.entity.ReadBooksMonthlyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ReadBooksMonthlyStatsRepository extends JpaRepository<ReadBooksMonthlyStats, ReadBooksMonthlyStats.Key> {
+
+    List<ReadBooksMonthlyStats> findByMemberIdAndBookCntGreaterThan(Long memberId, int bookCnt);
+
+    // 월별 집계 증감 - 행이 없으면 생성, 있으면 원자적으로 더함 (동시 요청 시 갱신 유실 방지)
+    @Modifying
+    @Query(value = "INSERT INTO readbooks_monthly_stats (user_id, read_month, book_cnt, rating_sum) " +
+            "VALUES (:memberId, :readMonth, :delta, :ratingDelta) " +
+            "ON DUPLICATE KEY UPDATE book_cnt = book_cnt + VALUES(book_cnt), rating_sum = rating_sum + VALUES(rating_sum)",
+            nativeQuery = true)
+    int add(@Param("memberId") Long memberId,
+            @Param("readMonth") int readMonth,
+            @Param("delta") int delta,
+            @Param("ratingDelta") double ratingDelta);
+
+    // 다시 계산 전 기존 집계 삭제 (책장에 없는 달의 행이 남지 않도록)
+    @Modifying
+    @Query(value = "DELETE FROM readbooks_monthly_stats WHERE user_id = :memberId", nativeQuery = true)
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    // 읽은 책 책장 기준으로 월별 집계 다시 계산 (deleteByMemberId 이후 호출)
+    @Modifying
+    @Query(value = "INSERT INTO readbooks_monthly_stats (user_id, read_month, book_cnt, rating_sum) " +
+            "SELECT rb.user_id, YEAR(rb.read_date) * 100 + MONTH(rb.read_date), COUNT(*), SUM(rb.rating) " +
+            "FROM readbooks rb WHERE rb.user_id = :memberId AND rb.read_date IS NOT NULL " +
+            "GROUP BY rb.user_id, YEAR(rb.read_date) * 100 + MONTH(rb.read_date) " +
+            "ON DUPLICATE KEY UPDATE book_cnt = VALUES(book_cnt), rating_sum = VALUES(rating_sum)",
+            nativeQuery = true)
+    int rebuild(@Param("memberId") Long memberId);
+}
@@ -4,6 +4,8 @@ import com.core.book.api.bookshelf.entity.ReadBooks;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,13 +15,128 @@ import org.springframework.data.repository.query.Param;
 
 public interface ReadBooksRepository extends JpaRepository<ReadBooks, Long> {
 
-    Page<ReadBooks> findByMemberId(Long memberId, Pageable pageable);
+    // 읽은 책 책장 목록 - 목록에 필요한 컬럼만 BOOK 과 조인하여 조회 (정렬은 Pageable, (user_id, read_date/rating, id) 인덱스 사용)
+    @Query(value = "SELECT rb.id AS id, b.isbn AS isbn, b.bookImage AS bookImage, b.title AS title, " +
+            "rb.rating AS rating, rb.readDate AS readDate " +
+            "FROM ReadBooks rb JOIN rb.book b WHERE rb.member.id = :memberId",
+            countQuery = "SELECT COUNT(rb) FROM ReadBooks rb WHERE rb.member.id = :memberId")
+    Page<ReadBookshelfItem> findBookshelfItemsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 읽은 책 책장 목록 - 태그 필터 (태그 비트마스크에 요청 태그 비트가 모두 켜진 책, 정렬은 Pageable)
+    @Query(value = "SELECT rb.id AS id, b.isbn AS isbn, b.bookImage AS bookImage, b.title AS title, " +
+            "rb.rating AS rating, rb.readDate AS readDate " +
+            "FROM ReadBooks rb JOIN rb.book b WHERE rb.member.id = :memberId AND bitand(rb.tagMask, :tagMask) = :tagMask",
+            countQuery = "SELECT COUNT(rb) FROM ReadBooks rb WHERE rb.member.id = :memberId AND bitand(rb.tagMask, :tagMask) = :tagMask")
+    Page<ReadBookshelfItem> findBookshelfItemsByMemberIdAndTagMask(@Param("memberId") Long memberId,
+                                                                   @Param("tagMask") int tagMask,
+                                                                   Pageable pageable);
+
+    // 읽은 책 책장 목록 - 태그 필터 (태그 행 기준, 태그 비트마스크 채우기가 끝나기 전에 사용)
+    @Query(value = "SELECT rb.id AS id, b.isbn AS isbn, b.bookImage AS bookImage, b.title AS title, " +
+            "rb.rating AS rating, rb.readDate AS readDate " +
+            "FROM ReadBooks rb JOIN rb.book b WHERE rb.member.id = :memberId AND rb.id IN (" +
+            "SELECT ubt.readBooks.id FROM UserBookTag ubt WHERE ubt.readBooks.member.id = :memberId AND ubt.tag IN :tags " +
+            "GROUP BY ubt.readBooks.id HAVING COUNT(DISTINCT ubt.tag) = :tagCnt)",
+            countQuery = "SELECT COUNT(rb) FROM ReadBooks rb WHERE rb.member.id = :memberId AND rb.id IN (" +
+                    "SELECT ubt.readBooks.id FROM UserBookTag ubt WHERE ubt.readBooks.member.id = :memberId AND ubt.tag IN :tags " +
+                    "GROUP BY ubt.readBooks.id HAVING COUNT(DISTINCT ubt.tag) = :tagCnt)")
+    Page<ReadBookshelfItem> findBookshelfItemsByMemberIdAndTags(@Param("memberId") Long memberId,
+                                                                @Param("tags") Collection<Integer> tags,
+                                                                @Param("tagCnt") long tagCnt,
+                                                                Pageable pageable);
+
+    /*
+     * 읽은 책 책장 목록 - 커서(마지막으로 받은 항목의 정렬 값 + id) 이후 항목 조회 (keyset 페이징)
+     * 커서가 없으면(cursorId = null) 처음부터 조회, 조회 개수는 Pageable 크기로 제한
+     * 읽은 날짜가 없는 항목은 MySQL 정렬 순서대로 내림차순이면 마지막, 오름차순이면 처음에 위치 (커서의 readDate = null)
+     */
+    @Query("SELECT rb.id AS id, b.isbn AS isbn, b.bookImage AS bookImage, b.title AS title, " +
+            "rb.rating AS rating, rb.readDate AS readDate " +
+            "FROM ReadBooks rb JOIN rb.book b WHERE rb.member.id = :memberId " +
+            "AND (:cursorId IS NULL " +
+            "OR (:readDate IS NOT NULL AND (rb.readDate IS NULL OR rb.readDate < :readDate OR (rb.readDate = :readDate AND rb.id < :cursorId))) " +
+            "OR (:readDate IS NULL AND rb.readDate IS NULL AND rb.id < :cursorId)) " +
+            "ORDER BY rb.readDate DESC, rb.id DESC")
+    List<ReadBookshelfItem> findBookshelfItemsByReadDateDesc(@Param("memberId") Long memberId,
+                                                             @Param("readDate") LocalDate readDate,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
+    @Query("SELECT rb.id AS id, b.isbn AS isbn, b.bookImage AS bookImage, b.title AS title, " +
+            "rb.rating AS rating, rb.readDate AS readDate " +
+            "FROM ReadBooks rb JOIN rb.book b WHERE rb.member.id = :memberId " +
+            "AND (:cursorId IS NULL " +
+            "OR (:readDate IS NULL AND (rb.readDate IS NOT NULL OR rb.id > :cursorId)) " +
+            "OR rb.readDate > :readDate OR (rb.readDate = :readDate AND rb.id > :cursorId)) " +
+            "ORDER BY rb.readDate ASC, rb.id ASC")
+    List<ReadBookshelfItem> findBookshelfItemsByReadDateAsc(@Param("memberId") Long memberId,
+                                                            @Param("readDate") LocalDate readDate,
+                                                            @Param("cursorId") Long cursorId,
+                                                            Pageable pageable);
+
+    @Query("SELECT rb.id AS id, b.isbn AS isbn, b.bookImage AS bookImage, b.title AS title, " +
+            "rb.rating AS rating, rb.readDate AS readDate " +
+            "FROM ReadBooks rb JOIN rb.book b WHERE rb.member.id = :memberId " +
+            "AND (:cursorId IS NULL OR rb.rating < :rating OR (rb.rating = :rating AND rb.id < :cursorId)) " +
+            "ORDER BY rb.rating DESC, rb.id DESC")
+    List<ReadBookshelfItem> findBookshelfItemsByRatingDesc(@Param("memberId") Long memberId,
+                                                           @Param("rating") Double rating,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Pageable pageable);
+
+    @Query("SELECT rb.id AS id, b.isbn AS isbn, b.bookImage AS bookImage, b.title AS title, " +
+            "rb.rating AS rating, rb.readDate AS readDate " +
+            "FROM ReadBooks rb JOIN rb.book b WHERE rb.member.id = :memberId " +
+            "AND (:cursorId IS NULL OR rb.rating > :rating OR (rb.rating = :rating AND rb.id > :cursorId)) " +
+            "ORDER BY rb.rating ASC, rb.id ASC")
+    List<ReadBookshelfItem> findBookshelfItemsByRatingAsc(@Param("memberId") Long memberId,
+                                                          @Param("rating") Double rating,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
 
     boolean existsByBookIsbnAndMemberId(String bookIsbn, Long memberId);
 
+    long countByMemberId(Long memberId);
+
     @Query("SELECT rb.id FROM ReadBooks rb WHERE rb.book.isbn = :bookIsbn AND rb.member.id = :memberId")
     Optional<Long> findReadBookIdByBookIsbnAndMemberId(String bookIsbn, Long memberId);
 
+    // 책장 가져오기 - 주어진 ISBN 중 이미 읽은 책 책장에 있는 ISBN
+    @Query("SELECT rb.book.isbn FROM ReadBooks rb WHERE rb.member.id = :memberId AND rb.book.isbn IN :isbns")
+    List<String> findIsbnsByMemberIdAndIsbnIn(@Param("memberId") Long memberId, @Param("isbns") Collection<String> isbns);
+
+    // 독서 통계 - 태그가 있는 읽은 책의 태그 비트마스크
+    @Query("SELECT rb.tagMask FROM ReadBooks rb WHERE rb.member.id = :memberId AND rb.tagMask <> 0")
+    List<Integer> findTagMasksByMemberId(@Param("memberId") Long memberId);
+
     @Query("SELECT rb FROM ReadBooks rb JOIN FETCH rb.book WHERE rb.member.id = :memberId ORDER BY rb.readDate DESC")
     List<ReadBooks> findReadBooksByMemberId(@Param("memberId") Long memberId);
+
+    // 추천 배치용 - 회원별 최근 읽은 책 ISBN (회원 당 최대 :limit 권)
+    @Query(value = "SELECT t.member_id AS memberId, t.isbn AS isbn FROM (" +
+            "SELECT rb.user_id AS member_id, rb.book_id AS isbn, " +
+            "ROW_NUMBER() OVER (PARTITION BY rb.user_id ORDER BY rb.readbooks_id DESC) AS rn " +
+            "FROM readbooks rb WHERE rb.user_id IN (:memberIds)) t WHERE t.rn <= :limit", nativeQuery = true)
+    List<MemberIsbn> findRecentIsbnsByMemberIds(@Param("memberIds") Collection<Long> memberIds, @Param("limit") int limit);
+
+    // 추천 배치용 - ISBN 별 최근 독자 (ISBN 당 최대 :limit 명)
+    @Query(value = "SELECT t.member_id AS memberId, t.isbn AS isbn FROM (" +
+            "SELECT rb.user_id AS member_id, rb.book_id AS isbn, " +
+            "ROW_NUMBER() OVER (PARTITION BY rb.book_id ORDER BY rb.readbooks_id DESC) AS rn " +
+            "FROM readbooks rb WHERE rb.book_id IN (:isbns)) t WHERE t.rn <= :limit", nativeQuery = true)
+    List<MemberIsbn> findRecentReadersByIsbns(@Param("isbns") Collection<String> isbns, @Param("limit") int limit);
+
+    interface ReadBookshelfItem {
+        Long getId();
+        String getIsbn();
+        String getBookImage();
+        String getTitle();
+        Double getRating();
+        LocalDate getReadDate();
+    }
+
+    interface MemberIsbn {
+        Long getMemberId();
+        String getIsbn();
+    }
 }
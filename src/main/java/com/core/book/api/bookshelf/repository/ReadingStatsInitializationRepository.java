@@ -0,0 +1,20 @@
+package com.core.book.api.bookshelf.repository;
+
+import com.core.book.api.bookshelf.entity.ReadingStatsInitialization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReadingStatsInitializationRepository
+        extends JpaRepository<ReadingStatsInitialization, ReadingStatsInitialization.Key> {
+
+    /*
+     * 초기화 기록 - 처음 기록한 경우 1, 이미 있으면 0
+     * - 동시 요청이 먼저 기록 중이면 그 트랜잭션이 끝날 때까지 기다린 뒤 0 을 반환하므로 한 요청만 다시 계산
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reading_stats_initialization (user_id, stats_type) VALUES (:memberId, :statsType)",
+            nativeQuery = true)
+    int markInitialized(@Param("memberId") Long memberId, @Param("statsType") String statsType);
+}
@@ -0,0 +1,76 @@
+package com.core.book.api.bookshelf.repository;
+
+import com.core.book.api.bookshelf.entity.ReadingStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ReadingStatsRepository extends JpaRepository<ReadingStats, ReadingStats.Key> {
+
+    // 항목별 읽은 책 수 상위 (user_id, dimension, cnt) 인덱스 사용
+    @Query("SELECT rs FROM ReadingStats rs WHERE rs.memberId = :memberId AND rs.dimension = :dimension AND rs.cnt > 0 " +
+            "ORDER BY rs.cnt DESC, rs.item ASC")
+    List<ReadingStats> findTop(@Param("memberId") Long memberId,
+                               @Param("dimension") ReadingStats.Dimension dimension,
+                               Pageable pageable);
+
+    // 항목 집계 증감 - 행이 없으면 생성, 있으면 원자적으로 더함
+    @Modifying
+    @Query(value = "INSERT INTO reading_stats (user_id, dimension, item, cnt) VALUES (:memberId, :dimension, :item, :delta) " +
+            "ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)", nativeQuery = true)
+    int add(@Param("memberId") Long memberId,
+            @Param("dimension") String dimension,
+            @Param("item") String item,
+            @Param("delta") int delta);
+
+    // 항목 집계 설정 - 행이 없으면 생성, 있으면 값을 덮어씀 (다시 계산한 집계 반영)
+    @Modifying
+    @Query(value = "INSERT INTO reading_stats (user_id, dimension, item, cnt) VALUES (:memberId, :dimension, :item, :cnt) " +
+            "ON DUPLICATE KEY UPDATE cnt = VALUES(cnt)", nativeQuery = true)
+    int put(@Param("memberId") Long memberId,
+            @Param("dimension") String dimension,
+            @Param("item") String item,
+            @Param("cnt") int cnt);
+
+    // 다시 계산 전 기존 집계 삭제 (책장에 더 이상 없는 저자/출판사 행이 남지 않도록)
+    @Modifying
+    @Query(value = "DELETE FROM reading_stats WHERE user_id = :memberId", nativeQuery = true)
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    /*
+     * 읽은 책 책장 기준으로 다시 계산 (deleteByMemberId 이후 호출)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO reading_stats (user_id, dimension, item, cnt) " +
+            "SELECT rb.user_id, 'RATING', CAST(ROUND(rb.rating * 10) AS CHAR), COUNT(*) FROM readbooks rb " +
+            "WHERE rb.user_id = :memberId GROUP BY rb.user_id, CAST(ROUND(rb.rating * 10) AS CHAR) " +
+            "ON DUPLICATE KEY UPDATE cnt = VALUES(cnt)", nativeQuery = true)
+    int rebuildRatings(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "INSERT INTO reading_stats (user_id, dimension, item, cnt) " +
+            "SELECT rb.user_id, 'AUTHOR', b.author, COUNT(*) FROM readbooks rb JOIN book b ON b.book_id = rb.book_id " +
+            "WHERE rb.user_id = :memberId AND b.author IS NOT NULL AND b.author <> '' GROUP BY rb.user_id, b.author " +
+            "ON DUPLICATE KEY UPDATE cnt = VALUES(cnt)", nativeQuery = true)
+    int rebuildAuthors(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "INSERT INTO reading_stats (user_id, dimension, item, cnt) " +
+            "SELECT rb.user_id, 'PUBLISHER', b.publisher, COUNT(*) FROM readbooks rb JOIN book b ON b.book_id = rb.book_id " +
+            "WHERE rb.user_id = :memberId AND b.publisher IS NOT NULL AND b.publisher <> '' GROUP BY rb.user_id, b.publisher " +
+            "ON DUPLICATE KEY UPDATE cnt = VALUES(cnt)", nativeQuery = true)
+    int rebuildPublishers(@Param("memberId") Long memberId);
+
+    // 태그 비트마스크 채우기가 끝나기 전에는 태그 행 기준으로 계산 (같은 태그가 중복 저장된 책은 한 권으로 셈)
+    @Modifying
+    @Query(value = "INSERT INTO reading_stats (user_id, dimension, item, cnt) " +
+            "SELECT rb.user_id, 'TAG', CAST(ubt.tag AS CHAR), COUNT(DISTINCT rb.readbooks_id) FROM user_book_tag ubt " +
+            "JOIN readbooks rb ON rb.readbooks_id = ubt.readbooks_id " +
+            "WHERE rb.user_id = :memberId GROUP BY rb.user_id, ubt.tag " +
+            "ON DUPLICATE KEY UPDATE cnt = VALUES(cnt)", nativeQuery = true)
+    int rebuildTags(@Param("memberId") Long memberId);
+}
@@ -4,16 +4,37 @@ import com.core.book.api.bookshelf.entity.WishBooks;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface WishBooksRepository extends JpaRepository<WishBooks, Long> {
 
-    Page<WishBooks> findByMemberId(Long memberId, Pageable pageable);
+    // 읽고 싶은 책 책장 목록 - 목록에 필요한 컬럼만 BOOK 과 조인하여 조회 ((user_id, id) 인덱스 사용)
+    @Query(value = "SELECT wb.id AS id, b.isbn AS isbn, b.bookImage AS bookImage, b.title AS bookTitle, " +
+            "b.author AS author, wb.reason AS reason " +
+            "FROM WishBooks wb JOIN wb.book b WHERE wb.member.id = :memberId",
+            countQuery = "SELECT COUNT(wb) FROM WishBooks wb WHERE wb.member.id = :memberId")
+    Page<WishBookshelfItem> findBookshelfItemsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
     boolean existsByBookIsbnAndMemberId(String bookIsbn, Long memberId);
 
+    long countByMemberId(Long memberId);
+
+    // 책장 가져오기 - 주어진 ISBN 중 이미 읽고 싶은 책 책장에 있는 ISBN
+    @Query("SELECT wb.book.isbn FROM WishBooks wb WHERE wb.member.id = :memberId AND wb.book.isbn IN :isbns")
+    List<String> findIsbnsByMemberIdAndIsbnIn(@Param("memberId") Long memberId, @Param("isbns") Collection<String> isbns);
+
     @Query("SELECT wb FROM WishBooks wb JOIN FETCH wb.book WHERE wb.member.id = :memberId")
     List<WishBooks> findWishBooksByMemberId(@Param("memberId") Long memberId);
+
+    interface WishBookshelfItem {
+        Long getId();
+        String getIsbn();
+        String getBookImage();
+        String getBookTitle();
+        String getAuthor();
+        String getReason();
+    }
 }
@@ -4,31 +4,40 @@ import com.core.book.api.book.constant.BookTag;
 import com.core.book.api.book.dto.BookInfoDTO;
 import com.core.book.api.book.dto.UserBookTagDTO;
 import com.core.book.api.book.entity.UserBookTag;
+import com.core.book.api.book.event.BookChangedEvent;
 import com.core.book.api.book.repository.UserBookTagRepository;
+import com.core.book.api.book.service.BookRegistryService;
+import com.core.book.api.book.service.TagMaskMigrationService;
 import com.core.book.api.book.service.UserBookTagService;
 import com.core.book.api.bookshelf.dto.*;
 import com.core.book.api.book.entity.Book;
 import com.core.book.api.book.repository.BookRepository;
 import com.core.book.api.bookshelf.entity.ReadBooks;
+import com.core.book.api.bookshelf.entity.ReadBooksMonthlyStats;
 import com.core.book.api.bookshelf.entity.WishBooks;
 import com.core.book.api.bookshelf.repository.ReadBooksRepository;
 import com.core.book.api.bookshelf.repository.WishBooksRepository;
 import com.core.book.api.member.entity.Member;
 import com.core.book.api.member.repository.MemberRepository;
+import com.core.book.api.member.service.MemberStatsService;
 import com.core.book.common.exception.BadRequestException;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,12 +45,20 @@ import java.util.stream.Collectors;
 @Service
 public class BookShelfService {
 
+    static final String NO_READ_DATE_LABEL = "unknown"; // 읽은 날짜가 없는 책의 월별 묶음 이름
+
     private final ReadBooksRepository readBooksRepository;
     private final WishBooksRepository wishBooksRepository;
     private final BookRepository bookRepository;
+    private final BookRegistryService bookRegistryService;
     private final MemberRepository memberRepository;
     private final UserBookTagRepository userBookTagRepository;
     private final UserBookTagService userBookTagService;
+    private final TagMaskMigrationService tagMaskMigrationService;
+    private final MemberStatsService memberStatsService;
+    private final ReadBooksMonthlyStatsService readBooksMonthlyStatsService;
+    private final ReadingStatsService readingStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 회원 객체 가져오기 메서드
     private Member getMemberById(Long memberId){
@@ -58,120 +75,205 @@ public class BookShelfService {
     /*
         '읽은 책' 전체 책장 조회(list)
     */
-    public ReadBookshelfResponseDTO showReadBooks(Long userId, int page, int size, int filterNum) {
+    public ReadBookshelfResponseDTO showReadBooks(Long userId, int page, int size, int filterNum, String cursor, List<String> tags) {
 
         /*
          *  filter
          *  1: 전체보기(최신순), 2: 오래된 순, 3: 평점 높은 순, 4: 평점 낮은 순
          */
 
-        // filterNum = 1 or 2 -> "readDate"로 정렬 / filterNum = 3 or 4 -> "starRating"으로 정렬
-        String filter = (filterNum <= 2) ? "readDate" : "starRating";
-
-        // filterNum = 1 or 3 -> "ASC"으로 정렬 / filterNum = 2 or 4 -> "ASC"로 정렬
-        Sort.Direction direction = (filterNum % 2 == 0) ? Sort.Direction.ASC : Sort.Direction.DESC;
-
-        // Pageable 객체 생성
-        // Sort - filter 값 우선 정렬 후 id 값으로 정렬됨
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(direction, filter, "id"));
-
-        // 페이징된 결과물 반환
-        Page<ReadBooks> readBookPage = readBooksRepository.findByMemberId(userId, pageable);
+        // 태그 필터가 있으면 태그를 모두 가진 책만 조회
+        if (tags != null && !tags.isEmpty()) {
+            return showReadBooksByTags(userId, page, size, filterNum, tags);
+        }
 
         /*
-         *  전체 조회 데이터 가져오기
+         *  목록 조회
+         *  - cursor 가 있거나 첫 페이지이면 keyset 페이징 (앞 페이지 수와 무관하게 인덱스 범위 조회)
+         *  - cursor 없이 2페이지 이상을 요청한 경우(이전 클라이언트)는 기존 offset 페이징
          */
+        List<ReadBooksRepository.ReadBookshelfItem> readBookList;
+        boolean isLast;
+        if (cursor == null && page > 1) {
+            Page<ReadBooksRepository.ReadBookshelfItem> readBookPage = findReadBookPage(userId, page, size, filterNum);
+            readBookList = readBookPage.getContent();
+            isLast = readBookPage.isLast();
+        } else {
+            // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+            List<ReadBooksRepository.ReadBookshelfItem> fetched = findReadBooksAfter(userId, filterNum, cursor, size + 1);
+            isLast = fetched.size() <= size;
+            readBookList = isLast ? fetched : fetched.subList(0, size);
+        }
 
-        // 책장 주인(회원)이 가진 책장 리스트 반환
-        List<ReadBooks> readBookList = readBookPage.getContent();
+        /*
+         *  월별 전체 권수/평균 평점은 월별 집계에서 조회 (한 달이 여러 페이지에 나뉘어도 전체 값 표시)
+         */
+        Map<Integer, ReadBooksMonthlyStats> monthlyStats = readBooksMonthlyStatsService.getMonthlyStats(userId);
+        long totalBookCnt = monthlyStats.values().stream().mapToLong(ReadBooksMonthlyStats::getBookCnt).sum();
 
-        // 읽은 책 책장 응답 body 구성을 위한 DTO 리스트들 (초기화)
-        List<ReadBookshelfResponseDTO.MonthlyInfoDTO> monthlyInfoDTOList = new ArrayList<>();
-        List<ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO> monthlyReadBookDTOList = new ArrayList<>();
+        return ReadBookshelfResponseDTO.builder()
+                .totalBookCnt(totalBookCnt)
+                .monthlyInfoList(createMonthlyInfoList(readBookList, monthlyStats))
+                .page(page)
+                .isLast(isLast)
+                .nextCursor(isLast ? null : createCursor(readBookList.get(readBookList.size() - 1), filterNum))
+                .build();
+    }
 
-        // 책장 리스트가 비어있는지 검사
-        if(!(readBookList.isEmpty())) { // 책장 리스트에 데이터가 있다면
-
-            // 날짜, 책 권수 변수 (초기화)
-            String monthlyDate = createMonthlyDate(readBookList.get(0)); // 첫 읽은 책 데이터의 읽은 날짜
-            int monthlyReadBooksCnt = 0; // 날짜 별 읽은 책 권수
-
-            // 읽은 날짜 별(년도-월) 책 분리
-            for(int i = 0; i < readBookList.size(); i++) {
-                ReadBooks readBooks = readBookList.get(i);
-
-                /*
-                    1. MonthlyReadBookDTO (책 정보) 리스트 만들기
-                */
-
-                // 현재 달 읽은 책 리스트(책 정보) 생성
-                ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO monthlyReadBookDTO = convertToMonthlyReadBookDTO(readBooks);
-                monthlyReadBookDTOList.add(monthlyReadBookDTO);
-
-                // 현재 달 읽은 책 권수 증가
-                monthlyReadBooksCnt++;
-
-                /*
-                    2. MonthlyInfoDTO (날짜 + 권수 + 책 정보) 리스트 만들기
-                */
-
-                // 다음 readBook 의 읽은 날짜가 변경되었는지(달이 지났는지) 확인
-                if (i + 1 < readBookList.size()) { // 다음 요소가 존재하는지 확인
-                    ReadBooks nextReadBook = readBookList.get(i + 1);
-                    String nextMonthlyDate = createMonthlyDate(nextReadBook);
-
-                    // 현재 책의 달과 다음 책의 달을 비교하여 조건 걸기
-                    if (!monthlyDate.equals(nextMonthlyDate)) {
-                        // 다음 책의 달이 바뀌었을 경우 : ReadBookshelfResponseDTO(읽은 책 전체 조회 응답 DTO) 데이터 생성 및 DTO 리스트에 추가
-                        ReadBookshelfResponseDTO.MonthlyInfoDTO monthlyInfoDTO = createMonthlyInfoDTO(monthlyDate, monthlyReadBooksCnt, monthlyReadBookDTOList);
-                        monthlyInfoDTOList.add(monthlyInfoDTO);
-
-                        // 다음 책의 달로 갱신 + 읽은 책 권수 초기화 + monthlyReadBookDTOList 초기화
-                        monthlyDate = nextMonthlyDate;
-                        monthlyReadBooksCnt = 0;
-                        monthlyReadBookDTOList = new ArrayList<>();
-                    }
-                } else {
-                    // 마지막 책에 도달했을 때 마지막 책 달의 데이터들도 응답 DTO 리스트에 추가
-                    ReadBookshelfResponseDTO.MonthlyInfoDTO monthlyInfoDTO = createMonthlyInfoDTO(monthlyDate, monthlyReadBooksCnt, monthlyReadBookDTOList);
-                    monthlyInfoDTOList.add(monthlyInfoDTO);
-                }
-            }
+    /*
+     *  태그 필터 조회 (예: 감동적 + 슬픔)
+     *  - 책장의 태그 비트마스크에 요청 태그 비트가 모두 켜져 있는 책만 조회 (태그 조인 없음)
+     *  - 태그 비트마스크 채우기(TagMaskBackfillRunner)가 끝나기 전에는 태그 행 기준으로 조회
+     *  - offset 페이징, 월별 권수/평균 평점은 필터된 현재 페이지 기준
+     */
+    private ReadBookshelfResponseDTO showReadBooksByTags(Long userId, int page, int size, int filterNum, List<String> tags) {
+        List<BookTag> tagList;
+        try {
+            tagList = tags.stream().map(BookTag::fromDescription).distinct().toList();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_BOOKSHELF_TAG_FILTER.getMessage());
         }
 
+        Pageable pageable = createReadBookPageable(page, size, filterNum);
+        Page<ReadBooksRepository.ReadBookshelfItem> readBookPage = tagMaskMigrationService.isCompleted()
+                ? readBooksRepository.findBookshelfItemsByMemberIdAndTagMask(userId, BookTag.maskOf(tagList), pageable)
+                : readBooksRepository.findBookshelfItemsByMemberIdAndTags(userId,
+                        tagList.stream().map(BookTag::getId).toList(), tagList.size(), pageable);
+
         return ReadBookshelfResponseDTO.builder()
                 .totalBookCnt(readBookPage.getTotalElements())
-                .monthlyInfoList(monthlyInfoDTOList)
+                .monthlyInfoList(createMonthlyInfoList(readBookPage.getContent(), Map.of()))
                 .page(page)
                 .isLast(readBookPage.isLast())
                 .build();
     }
 
-    // MonthlyInfoDTO 생성 메서드
-    private ReadBookshelfResponseDTO.MonthlyInfoDTO createMonthlyInfoDTO(String monthlyDate, int monthlyReadBooksCnt, List<ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO> monthlyReadBookList){
+    // 읽은 책 책장 응답 body 구성을 위한 DTO 리스트 (연속된 같은 달의 책끼리 묶음)
+    private List<ReadBookshelfResponseDTO.MonthlyInfoDTO> createMonthlyInfoList(List<ReadBooksRepository.ReadBookshelfItem> readBookList,
+                                                                             Map<Integer, ReadBooksMonthlyStats> monthlyStats) {
+        List<ReadBookshelfResponseDTO.MonthlyInfoDTO> monthlyInfoDTOList = new ArrayList<>();
+        List<ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO> monthlyReadBookDTOList = new ArrayList<>();
+
+        for (int i = 0; i < readBookList.size(); i++) {
+            ReadBooksRepository.ReadBookshelfItem readBooks = readBookList.get(i);
+            monthlyReadBookDTOList.add(convertToMonthlyReadBookDTO(readBooks));
+
+            // 마지막 책이거나 다음 책의 달이 바뀌었으면 현재 달 데이터 추가
+            boolean monthChanged = i + 1 == readBookList.size()
+                    || !createMonthlyDate(readBooks).equals(createMonthlyDate(readBookList.get(i + 1)));
+            if (monthChanged) {
+                // 날짜가 없는 책은 월별 집계 대상이 아니므로 현재 페이지 기준
+                ReadBooksMonthlyStats stats = readBooks.getReadDate() != null
+                        ? monthlyStats.get(ReadBooksMonthlyStats.readMonthOf(readBooks.getReadDate()))
+                        : null;
+                monthlyInfoDTOList.add(createMonthlyInfoDTO(createMonthlyDate(readBooks), stats, monthlyReadBookDTOList));
+                monthlyReadBookDTOList = new ArrayList<>();
+            }
+        }
+        return monthlyInfoDTOList;
+    }
+
+    // offset 페이징 (이전 클라이언트 호환)
+    private Page<ReadBooksRepository.ReadBookshelfItem> findReadBookPage(Long userId, int page, int size, int filterNum) {
+        return readBooksRepository.findBookshelfItemsByMemberId(userId, createReadBookPageable(page, size, filterNum));
+    }
+
+    private Pageable createReadBookPageable(int page, int size, int filterNum) {
+
+        // filterNum = 1 or 2 -> "readDate"로 정렬 / filterNum = 3 or 4 -> "rating"으로 정렬
+        String filter = (filterNum <= 2) ? "readDate" : "rating";
+
+        // filterNum = 1 or 3 -> "DESC"으로 정렬 / filterNum = 2 or 4 -> "ASC"로 정렬
+        Sort.Direction direction = (filterNum % 2 == 0) ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        // Sort - filter 값 우선 정렬 후 id 값으로 정렬됨
+        return PageRequest.of(page - 1, size, Sort.by(direction, filter, "id"));
+    }
+
+    // keyset 페이징 - 커서 형식 : "{정렬 값}_{책장 id}" (예: 2024-05-01_123, 4.5_123, 읽은 날짜가 없으면 _123)
+    private List<ReadBooksRepository.ReadBookshelfItem> findReadBooksAfter(Long userId, int filterNum, String cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        String cursorValue = null;
+        Long cursorId = null;
+        if (cursor != null) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                cursorValue = cursor.substring(0, separator);
+                cursorId = Long.valueOf(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BadRequestException(ErrorStatus.INVALID_BOOKSHELF_CURSOR.getMessage());
+            }
+        }
+
+        try {
+            return switch (filterNum) {
+                case 2 -> readBooksRepository.findBookshelfItemsByReadDateAsc(userId, parseReadDate(cursorValue), cursorId, pageable);
+                case 3 -> readBooksRepository.findBookshelfItemsByRatingDesc(userId, cursorValue == null ? null : Double.valueOf(cursorValue), cursorId, pageable);
+                case 4 -> readBooksRepository.findBookshelfItemsByRatingAsc(userId, cursorValue == null ? null : Double.valueOf(cursorValue), cursorId, pageable);
+                default -> readBooksRepository.findBookshelfItemsByReadDateDesc(userId, parseReadDate(cursorValue), cursorId, pageable);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_BOOKSHELF_CURSOR.getMessage());
+        }
+    }
+
+    // 읽은 날짜가 없는 항목의 커서는 빈 값 (이전에 발급된 "null_{id}" 커서도 같은 의미로 처리)
+    private LocalDate parseReadDate(String cursorValue) {
+        if (cursorValue == null || cursorValue.isEmpty() || "null".equals(cursorValue)) {
+            return null;
+        }
+        return LocalDate.parse(cursorValue);
+    }
+
+    private String createCursor(ReadBooksRepository.ReadBookshelfItem last, int filterNum) {
+        Object sortValue = (filterNum == 3 || filterNum == 4) ? last.getRating() : last.getReadDate();
+        return (sortValue == null ? "" : sortValue) + "_" + last.getId();
+    }
+
+    // MonthlyInfoDTO 생성 메서드 (집계가 없으면 현재 페이지의 권수/평점 사용)
+    private ReadBookshelfResponseDTO.MonthlyInfoDTO createMonthlyInfoDTO(String monthlyDate, ReadBooksMonthlyStats stats, List<ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO> monthlyReadBookList){
+        int monthlyBookCnt = stats != null ? stats.getBookCnt() : monthlyReadBookList.size();
+        double ratingSum = stats != null
+                ? stats.getRatingSum()
+                : monthlyReadBookList.stream().mapToDouble(ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO::getRating).sum();
+        double ratingAverage = monthlyBookCnt > 0
+                ? Math.round(ratingSum / monthlyBookCnt * 100) / 100.0
+                : 0.0;
+
         return ReadBookshelfResponseDTO.MonthlyInfoDTO.builder()
                 .date(monthlyDate)
-                .monthlyBookCnt(monthlyReadBooksCnt)
+                .monthlyBookCnt(monthlyBookCnt)
+                .monthlyRatingAverage(ratingAverage)
                 .monthlyReadBookList(monthlyReadBookList)
                 .build();
     }
 
     // ReadBookList 의 각 요소를 MonthlyReadBookDTO 로 변환하는 메서드
-    private ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO convertToMonthlyReadBookDTO(ReadBooks readBooks) {
+    private ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO convertToMonthlyReadBookDTO(ReadBooksRepository.ReadBookshelfItem readBooks) {
 
         return ReadBookshelfResponseDTO.MonthlyInfoDTO.MonthlyReadBookDTO.builder()
                 .id(readBooks.getId())
-                .isbn(readBooks.getBook().getIsbn()) // isbn
-                .bookImage(readBooks.getBook().getBookImage()) // 책 이미지
+                .isbn(readBooks.getIsbn()) // isbn
+                .bookImage(readBooks.getBookImage()) // 책 이미지
                 .rating(readBooks.getRating()) // 평점
-                .title(readBooks.getBook().getTitle()) // 책 제목
+                .title(readBooks.getTitle()) // 책 제목
                 .readDate(readBooks.getReadDate()) // 읽은 날짜
                 .build();
     }
 
-    // 읽은 날짜의 년도-월(YYYY-M) 문자열 생성 메서드
-    private String createMonthlyDate(ReadBooks readBooks){
-        return readBooks.getReadDate().getYear() + "-" + readBooks.getReadDate().getMonthValue();
+    // 읽은 날짜의 년도-월(YYYY-M) 문자열 생성 메서드 (날짜가 없으면 별도 묶음)
+    private String createMonthlyDate(ReadBooksRepository.ReadBookshelfItem readBooks){
+        LocalDate readDate = readBooks.getReadDate();
+        if (readDate == null) {
+            return NO_READ_DATE_LABEL;
+        }
+        return readDate.getYear() + "-" + readDate.getMonthValue();
+    }
+
+    // 독서 통계 조회
+    public ReadingStatsResponseDTO showReadingStats(Long userId) {
+        return readingStatsService.getReadingStats(userId);
     }
 
     /*
@@ -182,11 +284,11 @@ public class BookShelfService {
         // Pageable 객체 생성
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "id"));
 
-        // 페이징된 결과물 반환
-        Page<WishBooks> wishBookPage = wishBooksRepository.findByMemberId(userId, pageable);
+        // 페이징된 결과물 반환 (책 정보는 조인하여 한 번에 조회)
+        Page<WishBooksRepository.WishBookshelfItem> wishBookPage = wishBooksRepository.findBookshelfItemsByMemberId(userId, pageable);
 
         // 책장 주인(회원)이 가진 책장 리스트 반환
-        List<WishBooks> wishBookList = wishBookPage.getContent();
+        List<WishBooksRepository.WishBookshelfItem> wishBookList = wishBookPage.getContent();
 
         // wishBookList 의 각 요소를 WishBookshelfResponseDTO.wishBookDTO 로 변환
         List<WishBookshelfResponseDTO.wishBookDTO> wishBookDTOList = wishBookList.stream()
@@ -203,14 +305,14 @@ public class BookShelfService {
     }
 
     // wishBookList 의 각 요소를 WishBookshelfResponseDTO.wishBookDTO 로 변환하는 메서드
-    private WishBookshelfResponseDTO.wishBookDTO convertToWishBookDTO(WishBooks wishBooks) {
+    private WishBookshelfResponseDTO.wishBookDTO convertToWishBookDTO(WishBooksRepository.WishBookshelfItem wishBooks) {
 
         return WishBookshelfResponseDTO.wishBookDTO.builder()
                 .id(wishBooks.getId()) // '읽고 싶은 책' 책장 데이터의 id
-                .isbn(wishBooks.getBook().getIsbn()) // isbn
-                .bookImage(wishBooks.getBook().getBookImage()) // 책 이미지
-                .bookTitle(wishBooks.getBook().getTitle()) // 책 제목
-                .author(wishBooks.getBook().getAuthor()) // 저자
+                .isbn(wishBooks.getIsbn()) // isbn
+                .bookImage(wishBooks.getBookImage()) // 책 이미지
+                .bookTitle(wishBooks.getBookTitle()) // 책 제목
+                .author(wishBooks.getAuthor()) // 저자
                 .reason(wishBooks.getReason()) // 읽고 싶은 이유
                 .build();
     }
@@ -228,8 +330,8 @@ public class BookShelfService {
         ReadBooks readBooks = readBooksRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.BOOKSHELF_INFO_NOTFOUND_EXCEPTION.getMessage()));
 
+        // 태그 비트마스크 채우기(TagMaskBackfillRunner)가 끝나기 전에는 마스크가 0 이어도 태그 행이 있을 수 있으므로 항상 조회
         List<UserBookTag> userBookTags = userBookTagRepository.findByReadBooks(readBooks);
-
         // 태그가 입력된 것이 없을 경우, null 반환
         if(userBookTags.isEmpty()){
             return convertToReadBooksDTO(readBooks, null);
@@ -292,8 +394,11 @@ public class BookShelfService {
         // 예외처리 : 이미 나의 책장에 등록된 책에 대하여 등록 불가
         checkDuplicateBookshelf(bookIsbn, userId, true);
 
-        // 책이 이미 BOOK DB에 존재한다면 -> DB 저장X / 없다면 -> DB 저장O
-        Book book = saveBookIfNotExists(bookIsbn, readBookshelfDTO.getBookInfo());
+        // 독서 통계 초기화가 안 된 회원은 변경 전 책장 기준으로 먼저 계산
+        readingStatsService.initializeIfAbsent(userId);
+
+        // 책이 이미 BOOK DB에 존재한다면 -> DB 저장X / 없다면 -> DB 저장O (한 문장으로 처리)
+        Book book = bookRegistryService.register(readBookshelfDTO.getBookInfo());
 
         // 책장 저장을 위한 회원 객체 가져오기
         Member member = getMemberById(userId);
@@ -308,6 +413,14 @@ public class BookShelfService {
         // BOOK rating_average 갱신
         updateRatingAverage(book, readBookshelfDTO.getReadBooks().getRating());
 
+        // 회원 읽은 책 수 증가
+        memberStatsService.addReadBooks(userId, 1);
+
+        // 월별 읽은 책 집계 반영
+        readBooksMonthlyStatsService.add(userId, readBooks.getReadDate(), readBooks.getRating(), 1);
+
+        // 독서 통계(평점/저자/출판사) 반영 - 태그는 태그 저장 시 반영
+        readingStatsService.addReadBook(userId, book, readBooks.getRating(), 1);
     }
 
     // BOOK rating_average 갱신 메서드
@@ -324,6 +437,9 @@ public class BookShelfService {
                 .build();
 
         bookRepository.save(updatedBook);
+
+        // 커밋 후 책 상세 캐시 무효화
+        eventPublisher.publishEvent(new BookChangedEvent(List.of(book.getIsbn())));
     }
 
 
@@ -336,14 +452,17 @@ public class BookShelfService {
         // 예외처리 : 이미 나의 책장에 등록된 책에 대하여 등록 불가
         checkDuplicateBookshelf(bookIsbn, userId, false);
 
-        // 책이 이미 BOOK DB에 존재한다면 -> DB 저장X / 없다면 -> DB 저장O
-        Book book = saveBookIfNotExists(bookIsbn, wishBookshelfDTO.getBookInfo());
+        // 책이 이미 BOOK DB에 존재한다면 -> DB 저장X / 없다면 -> DB 저장O (한 문장으로 처리)
+        Book book = bookRegistryService.register(wishBookshelfDTO.getBookInfo());
 
         // 책장 저장을 위한 회원 객체 가져오기
         Member member = getMemberById(userId);
 
         // 책장 DB에 저장
         wishBooksRepository.save(wishBookshelfDTO.getWishBooks().toEntity(book, member));
+
+        // 회원 읽고 싶은 책 수 증가
+        memberStatsService.addWishBooks(userId, 1);
     }
 
     // 중복 책장 등록 체크 메서드
@@ -360,19 +479,6 @@ public class BookShelfService {
         }
     }
 
-    // 책 존재 확인 및 저장 메서드
-    private Book saveBookIfNotExists(String bookIsbn, BookInfoDTO bookInfoDTO){
-        boolean existsBook = bookRepository.existsByIsbn(bookIsbn);
-        if(!existsBook){
-            // 책이 DB에 존재하지 않는 경우
-            bookRepository.save(bookInfoDTO.toEntity());
-        }
-
-        return bookRepository.findById(bookIsbn)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.BOOK_NOTFOUND_EXCEPTION.getMessage()));
-    }
-
-
     /*
      *
      * 책장 '상세 정보 수정' 메서드
@@ -387,11 +493,13 @@ public class BookShelfService {
                 orElseThrow(() -> new NotFoundException(ErrorStatus.BOOKSHELF_INFO_NOTFOUND_EXCEPTION.getMessage()));
 
         double old_rating = existingReadBooks.getRating();
+        LocalDate old_readDate = existingReadBooks.getReadDate();
 
         // 예외처리: 책장 소유자와 수정 요청자가 다른 경우
         if(!existingReadBooks.getMember().getId().equals(userId)){
             throw new BadRequestException(ErrorStatus.BOOKSHELF_MODIFY_NOT_SAME_USER_EXCEPTION.getMessage());
         }
+        readingStatsService.initializeIfAbsent(userId);
 
         // 태그 수정
         List<UserBookTagDTO> tagList = readBooksDTO.getUserBookTagList();
@@ -405,6 +513,7 @@ public class BookShelfService {
                 .oneLineReview(readBooksDTO.getOneLineReview())
                 .book(existingReadBooks.getBook()) // 기존 책 정보 유지
                 .member(existingReadBooks.getMember()) // 기존 회원 정보 유지
+                .tagMask(existingReadBooks.getTagMask()) // 태그 수정이 반영된 태그 비트마스크 유지
                 .build();
 
         // 수정된 엔티티 저장
@@ -416,6 +525,11 @@ public class BookShelfService {
 
         modifyRatingAverage(book, readBooksDTO.getRating(), old_rating);
 
+        // 월별 읽은 책 집계 반영 (읽은 날짜 또는 평점이 바뀐 경우)
+        readBooksMonthlyStatsService.move(userId, old_readDate, old_rating,
+                updatedReadBooks.getReadDate(), updatedReadBooks.getRating());
+        readingStatsService.changeRating(userId, old_rating, updatedReadBooks.getRating());
+
     }
 
     // BOOK rating_average 갱신 메서드
@@ -431,6 +545,9 @@ public class BookShelfService {
                 .build();
 
         bookRepository.save(updatedBook);
+
+        // 커밋 후 책 상세 캐시 무효화
+        eventPublisher.publishEvent(new BookChangedEvent(List.of(book.getIsbn())));
     }
 
     // '읽고 싶은 책' 책장 수정
@@ -472,18 +589,31 @@ public class BookShelfService {
         if(!readBooks.getMember().getId().equals(userId)){
             throw new BadRequestException(ErrorStatus.BOOKSHELF_DELETE_NOT_SAME_USER_EXCEPTION.getMessage());
         }
+        readingStatsService.initializeIfAbsent(userId);
 
         /* UserBookTag 삭제 */
         // 해당 회원과 책에 해당하는 UserBookTag 조회
         List<UserBookTag> userBookTags = userBookTagRepository.findByReadBooks(readBooks);
 
-        // 조회된 UserBookTag가 있으면 삭제
+        // 조회된 UserBookTag가 있으면 삭제 (튜플 삭제 - 한 문장)
         if(!userBookTags.isEmpty()){
-            // 튜플 삭제
-            userBookTagRepository.deleteAll(userBookTags);
+            userBookTagRepository.deleteAllInBatch(userBookTags);
         }
+        // 태그 통계는 태그 행 기준으로 차감 (마스크 채우기 전의 책장은 마스크가 비어 있을 수 있음)
+        userBookTags.stream().map(UserBookTag::getTag).distinct()
+                .forEach(tagId -> readingStatsService.addTag(userId, tagId, -1));
 
         readBooksRepository.delete(readBooks);
+
+        // 회원 읽은 책 수 감소
+        memberStatsService.addReadBooks(userId, -1);
+
+        // 월별 읽은 책 집계 반영
+        readBooksMonthlyStatsService.add(userId, readBooks.getReadDate(), readBooks.getRating(), -1);
+        readingStatsService.addReadBook(userId, readBooks.getBook(), readBooks.getRating(), -1);
+
+        // 커밋 후 책 상세 캐시 무효화 (태그)
+        eventPublisher.publishEvent(new BookChangedEvent(List.of(readBooks.getBook().getIsbn())));
     }
 
     @Transactional
@@ -497,6 +627,9 @@ public class BookShelfService {
         }
 
         wishBooksRepository.delete(wishBooks);
+
+        // 회원 읽고 싶은 책 수 감소
+        memberStatsService.addWishBooks(userId, -1);
     }
 
     /*
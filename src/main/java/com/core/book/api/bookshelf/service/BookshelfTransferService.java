@@ -0,0 +1,515 @@
+package com.core.book.api.bookshelf.service;
+
+import com.core.book.api.book.dto.BookInfoDTO;
+import com.core.book.api.book.event.BookChangedEvent;
+import com.core.book.api.book.service.BookRegistryService;
+import com.core.book.api.book.service.BookService;
+import com.core.book.api.bookshelf.dto.BookshelfImportResponseDTO;
+import com.core.book.api.bookshelf.dto.BookshelfRecordDTO;
+import com.core.book.api.bookshelf.repository.ReadBooksRepository;
+import com.core.book.api.bookshelf.repository.WishBooksRepository;
+import com.core.book.api.member.repository.MemberRepository;
+import com.core.book.api.member.service.MemberStatsService;
+import com.core.book.common.exception.BadRequestException;
+import com.core.book.common.exception.NotFoundException;
+import com.core.book.common.response.ErrorStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 책장 가져오기 / 내보내기
+ * - 가져오기 : 업로드 파일을 먼저 끝까지 읽어 행 수/값을 검증한 뒤 chunk 단위로 처리
+ *   (BOOK 에서 ISBN 일괄 조회 -> 없는 책만 외부 도서 API 병렬 조회 -> JDBC 배치 저장, chunk 마다 커밋)
+ *   책 평균 평점과 회원 집계(통계, 월별/항목별 집계)는 마지막에 한 번만 반영
+ * - 이미 책장에 있는 책은 건너뛰므로 같은 파일을 다시 올려도 중복 등록되지 않음
+ * - 내보내기 : 조회 결과를 한 행씩 읽어 바로 응답에 기록 (목록을 메모리에 만들지 않음)
+ */
+@Slf4j
+@Service
+public class BookshelfTransferService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_JSON = "json";
+
+    private static final int NOT_FOUND_ISBN_LIMIT = 100;
+    private static final int MAX_ISBN_LENGTH = 20;
+    private static final double MAX_RATING = 5.0;
+
+    private static final String INSERT_READ_BOOK_SQL =
+            "INSERT INTO readbooks (read_date, rating, one_line_review, book_id, user_id) " +
+            "VALUES (:readDate, :rating, :oneLineReview, :isbn, :memberId)";
+    private static final String INSERT_WISH_BOOK_SQL =
+            "INSERT INTO wishbooks (reason, book_id, user_id, created_at, updated_at) " +
+            "VALUES (:reason, :isbn, :memberId, :now, :now)";
+    // 기존 평점 갱신과 같은 공식 ((평균 * 개수 + 새 평점 합) / (개수 + 새 평점 수)), 책마다 한 번만 갱신
+    private static final String UPDATE_RATING_SQL =
+            "UPDATE book SET rating_average = ROUND((rating_average * rating_count + :ratingSum) / (rating_count + :ratingCnt), 2), " +
+            "rating_count = rating_count + :ratingCnt WHERE book_id = :isbn";
+
+    private static final String EXPORT_READ_BOOKS_SQL =
+            "SELECT b.book_id, b.title, b.author, b.publisher, rb.read_date, rb.rating, rb.one_line_review " +
+            "FROM readbooks rb JOIN book b ON b.book_id = rb.book_id WHERE rb.user_id = ? ORDER BY rb.readbooks_id";
+    private static final String EXPORT_WISH_BOOKS_SQL =
+            "SELECT b.book_id, b.title, b.author, b.publisher, wb.reason " +
+            "FROM wishbooks wb JOIN book b ON b.book_id = wb.book_id WHERE wb.user_id = ? ORDER BY wb.wishbooks_id";
+
+    private final BookRegistryService bookRegistryService;
+    private final ReadBooksRepository readBooksRepository;
+    private final WishBooksRepository wishBooksRepository;
+    private final MemberRepository memberRepository;
+    private final BookService bookService;
+    private final MemberStatsService memberStatsService;
+    private final ReadBooksMonthlyStatsService readBooksMonthlyStatsService;
+    private final ReadingStatsService readingStatsService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final ExecutorService lookupExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${bookshelf.import.max-rows:5000}")
+    private int maxRows;
+
+    @Value("${bookshelf.import.chunk-size:500}")
+    private int chunkSize;
+
+    public BookshelfTransferService(BookRegistryService bookRegistryService,
+                                    ReadBooksRepository readBooksRepository,
+                                    WishBooksRepository wishBooksRepository,
+                                    MemberRepository memberRepository,
+                                    BookService bookService,
+                                    MemberStatsService memberStatsService,
+                                    ReadBooksMonthlyStatsService readBooksMonthlyStatsService,
+                                    ReadingStatsService readingStatsService,
+                                    NamedParameterJdbcTemplate jdbcTemplate,
+                                    DataSource dataSource,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${bookshelf.import.lookup-concurrency:4}") int lookupConcurrency) {
+        this.bookRegistryService = bookRegistryService;
+        this.readBooksRepository = readBooksRepository;
+        this.wishBooksRepository = wishBooksRepository;
+        this.memberRepository = memberRepository;
+        this.bookService = bookService;
+        this.memberStatsService = memberStatsService;
+        this.readBooksMonthlyStatsService = readBooksMonthlyStatsService;
+        this.readingStatsService = readingStatsService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+
+        // MySQL 은 fetchSize = Integer.MIN_VALUE 일 때 결과를 한 번에 받지 않고 한 행씩 읽음 (내보내기 전용)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+
+        this.csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .build();
+
+        // 외부 도서 API 동시 요청 수 제한 (여러 회원이 동시에 가져오기를 해도 전체 요청 수는 이 값으로 제한)
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.lookupExecutor = Executors.newFixedThreadPool(lookupConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "bookshelf-import-lookup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lookupExecutor.shutdownNow();
+    }
+
+    /*
+     *
+     * 책장 '가져오기'
+     *
+     */
+
+    // 트랜잭션 없이 실행 - chunk 마다 별도 트랜잭션으로 커밋 (외부 API 조회 중에는 DB 연결을 잡지 않음)
+    public BookshelfImportResponseDTO importBookshelf(Long userId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.INVALID_BOOKSHELF_IMPORT_FILE.getMessage());
+        }
+        if (!memberRepository.existsById(userId)) {
+            throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+        }
+        ObjectReader reader = readerFor(file);
+
+        ImportResult result = new ImportResult();
+        List<ImportRow> importRows = readImportRows(reader, file, result);
+
+        try {
+            for (int from = 0; from < importRows.size(); from += chunkSize) {
+                importChunk(userId, importRows.subList(from, Math.min(from + chunkSize, importRows.size())), result);
+            }
+        } finally {
+            // 중간에 실패해도 이미 커밋된 chunk 는 평점/집계에 반영
+            applyImported(userId, result);
+        }
+
+        return BookshelfImportResponseDTO.builder()
+                .totalRowCnt(result.totalRowCnt)
+                .readBookCnt(result.readBookCnt)
+                .wishBookCnt(result.wishBookCnt)
+                .duplicateCnt(result.duplicateCnt)
+                .invalidCnt(result.invalidCnt)
+                .notFoundIsbnList(result.notFoundIsbnList)
+                .build();
+    }
+
+    /*
+     * 파일 전체를 먼저 읽어 행 수/값 검증 (저장 전)
+     * - 행 수 제한을 넘으면 아무것도 저장하지 않고 거절 (chunk 커밋 후 거절하면 일부만 가져온 상태가 남음)
+     * - 최대 행 수(max-rows)까지만 메모리에 보관
+     */
+    private List<ImportRow> readImportRows(ObjectReader reader, MultipartFile file, ImportResult result) {
+        List<ImportRow> importRows = new ArrayList<>();
+        try (InputStream inputStream = file.getInputStream();
+             MappingIterator<BookshelfRecordDTO> rows = reader.readValues(inputStream)) {
+
+            while (rows.hasNextValue()) {
+                if (++result.totalRowCnt > maxRows) {
+                    throw new BadRequestException(ErrorStatus.BOOKSHELF_IMPORT_ROW_LIMIT_EXCEEDED.getMessage());
+                }
+
+                BookshelfRecordDTO record;
+                try {
+                    record = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // 행 값 형식 오류 (날짜, 숫자 등) - 해당 행만 건너뜀
+                    result.invalidCnt++;
+                    continue;
+                }
+
+                ImportRow row = toImportRow(record);
+                if (row == null) {
+                    result.invalidCnt++;
+                    continue;
+                }
+                importRows.add(row);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_BOOKSHELF_IMPORT_FILE.getMessage());
+        }
+        return importRows;
+    }
+
+    // 파일 형식 확인 (확장자 또는 Content-Type)
+    private ObjectReader readerFor(MultipartFile file) {
+        String filename = Optional.ofNullable(file.getOriginalFilename()).orElse("").toLowerCase(Locale.ROOT);
+        String contentType = Optional.ofNullable(file.getContentType()).orElse("").toLowerCase(Locale.ROOT);
+
+        if (filename.endsWith("." + FORMAT_CSV) || contentType.startsWith("text/csv")) {
+            return csvMapper.readerFor(BookshelfRecordDTO.class)
+                    .with(CsvSchema.emptySchema().withHeader());
+        }
+        if (filename.endsWith("." + FORMAT_JSON) || contentType.startsWith("application/json")) {
+            // 최상위 배열은 원소 단위로 읽음 (한 줄에 하나씩 쓴 JSON 도 허용)
+            return objectMapper.readerFor(BookshelfRecordDTO.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+        throw new BadRequestException(ErrorStatus.INVALID_BOOKSHELF_IMPORT_FILE.getMessage());
+    }
+
+    // 행 값 검증 및 정리 (올바르지 않으면 null)
+    private ImportRow toImportRow(BookshelfRecordDTO record) {
+        if (record == null || record.getIsbn() == null) {
+            return null;
+        }
+
+        // ISBN 구분 기호(-)와 공백 제거
+        String isbn = record.getIsbn().replaceAll("[\\s-]", "");
+        if (isbn.isEmpty() || isbn.length() > MAX_ISBN_LENGTH || !isbn.matches("[0-9Xx]+")) {
+            return null;
+        }
+
+        String shelf = Optional.ofNullable(record.getShelf())
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty())
+                .orElse(BookshelfRecordDTO.SHELF_READ);
+
+        if (shelf.equals(BookshelfRecordDTO.SHELF_WISH)) {
+            return new ImportRow(false, isbn, null, 0.0, null, record.getReason());
+        }
+        if (!shelf.equals(BookshelfRecordDTO.SHELF_READ)) {
+            return null;
+        }
+
+        // 읽은 책은 읽은 날짜 필수, 평점은 0 ~ 5 (생략 시 0 - 책장 등록과 동일)
+        double rating = Optional.ofNullable(record.getRating()).orElse(0.0);
+        if (record.getReadDate() == null || rating < 0 || rating > MAX_RATING) {
+            return null;
+        }
+        return new ImportRow(true, isbn, record.getReadDate(), rating, record.getOneLineReview(), null);
+    }
+
+    private void importChunk(Long userId, List<ImportRow> chunk, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        /* (1) 책 정보 확인 - BOOK 에 없는 ISBN 만 외부 도서 API 조회 */
+        Set<String> isbns = new HashSet<>();
+        chunk.forEach(row -> isbns.add(row.isbn()));
+        Set<String> storedIsbns = bookRegistryService.findStoredIsbns(isbns);
+
+        List<String> missingIsbns = isbns.stream().filter(isbn -> !storedIsbns.contains(isbn)).toList();
+        Map<String, BookInfoDTO> fetchedBooks = fetchBooks(missingIsbns);
+
+        // 외부 도서 API 가 돌려준 ISBN 을 책장에 저장할 ISBN 으로 사용 (10자리 -> 13자리 등)
+        Map<String, String> resolvedIsbns = new HashMap<>();
+        storedIsbns.forEach(isbn -> resolvedIsbns.put(isbn, isbn));
+        fetchedBooks.forEach((isbn, book) -> resolvedIsbns.put(isbn, book.getIsbn()));
+
+        /* (2) 중복 제외 - 이미 책장에 있는 책, 파일 안에서 중복된 책 */
+        Set<String> resolved = new HashSet<>(resolvedIsbns.values());
+        Set<String> readShelf = new HashSet<>(readBooksRepository.findIsbnsByMemberIdAndIsbnIn(userId, resolved));
+        Set<String> wishShelf = new HashSet<>(wishBooksRepository.findIsbnsByMemberIdAndIsbnIn(userId, resolved));
+
+        List<ImportRow> readRows = new ArrayList<>();
+        List<ImportRow> wishRows = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            String isbn = resolvedIsbns.get(row.isbn());
+            if (isbn == null) {
+                if (result.notFoundIsbnList.size() < NOT_FOUND_ISBN_LIMIT && !result.notFoundIsbnList.contains(row.isbn())) {
+                    result.notFoundIsbnList.add(row.isbn());
+                }
+                result.invalidCnt++;
+                continue;
+            }
+
+            Set<String> shelf = row.read() ? readShelf : wishShelf;
+            if (!shelf.add(isbn)) {
+                result.duplicateCnt++;
+                continue;
+            }
+            (row.read() ? readRows : wishRows).add(row.withIsbn(isbn));
+        }
+
+        /* (3) 저장 - chunk 단위 트랜잭션, JDBC 배치 */
+        transactionTemplate.executeWithoutResult(status -> {
+            bookRegistryService.registerAll(fetchedBooks.values());
+            insertReadBooks(userId, readRows);
+            insertWishBooks(userId, wishRows);
+        });
+
+        // 커밋된 행만 평점/집계 반영 대상에 추가
+        result.readBookCnt += readRows.size();
+        result.wishBookCnt += wishRows.size();
+        readRows.forEach(row -> result.ratings
+                .computeIfAbsent(row.isbn(), isbn -> new RatingDelta())
+                .add(row.rating()));
+    }
+
+    // 외부 도서 API 병렬 조회 (ISBN 당 1회 요청) - 조회 실패/결과 없음은 찾지 못한 책으로 처리
+    private Map<String, BookInfoDTO> fetchBooks(List<String> isbns) {
+        if (isbns.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Future<BookInfoDTO>> futures = new LinkedHashMap<>();
+        isbns.forEach(isbn -> futures.put(isbn, lookupExecutor.submit(() -> bookService.fetchBookByIsbn(isbn))));
+
+        Map<String, BookInfoDTO> books = new HashMap<>();
+        for (Map.Entry<String, Future<BookInfoDTO>> entry : futures.entrySet()) {
+            try {
+                BookInfoDTO book = entry.getValue().get();
+                if (book != null && book.getIsbn() != null && !book.getIsbn().isBlank()) {
+                    books.put(entry.getKey(), book);
+                }
+            } catch (ExecutionException e) {
+                log.debug("책장 가져오기 - 도서 정보 조회 실패 isbn={}", entry.getKey(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(future -> future.cancel(true));
+                break;
+            }
+        }
+        return books;
+    }
+
+    private void insertReadBooks(Long userId, List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_READ_BOOK_SQL, rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("readDate", row.readDate())
+                        .addValue("rating", row.rating())
+                        .addValue("oneLineReview", row.oneLineReview())
+                        .addValue("isbn", row.isbn())
+                        .addValue("memberId", userId))
+                .toArray(MapSqlParameterSource[]::new));
+    }
+
+    private void insertWishBooks(Long userId, List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_WISH_BOOK_SQL, rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("reason", row.reason())
+                        .addValue("isbn", row.isbn())
+                        .addValue("memberId", userId)
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new));
+    }
+
+    // 책 평균 평점, 회원 통계, 월별/항목별 집계 반영 (가져오기 전체에서 한 번)
+    private void applyImported(Long userId, ImportResult result) {
+        if (result.readBookCnt == 0 && result.wishBookCnt == 0) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!result.ratings.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_RATING_SQL, result.ratings.entrySet().stream()
+                        .map(entry -> new MapSqlParameterSource()
+                                .addValue("isbn", entry.getKey())
+                                .addValue("ratingSum", entry.getValue().sum)
+                                .addValue("ratingCnt", entry.getValue().count))
+                        .toArray(MapSqlParameterSource[]::new));
+
+                // 커밋 후 책 상세 캐시 무효화
+                eventPublisher.publishEvent(new BookChangedEvent(List.copyOf(result.ratings.keySet())));
+            }
+
+            if (result.readBookCnt > 0) {
+                memberStatsService.addReadBooks(userId, result.readBookCnt);
+                readBooksMonthlyStatsService.rebuild(userId);
+                readingStatsService.rebuild(userId);
+            }
+            if (result.wishBookCnt > 0) {
+                memberStatsService.addWishBooks(userId, result.wishBookCnt);
+            }
+        });
+    }
+
+    /*
+     *
+     * 책장 '내보내기'
+     *
+     */
+
+    // 읽은 책 -> 읽고 싶은 책 순서로 한 행씩 기록 (응답 스트림에 바로 씀)
+    public StreamingResponseBody exportBookshelf(Long userId, String format) {
+        ObjectWriter writer = writerFor(format).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        boolean csv = FORMAT_CSV.equalsIgnoreCase(format);
+
+        return outputStream -> {
+            try (SequenceWriter sequenceWriter = csv ? writer.writeValues(outputStream) : writer.writeValuesAsArray(outputStream)) {
+                streamingJdbcTemplate.query(EXPORT_READ_BOOKS_SQL, (RowCallbackHandler) rs -> write(sequenceWriter,
+                        BookshelfRecordDTO.builder()
+                                .shelf(BookshelfRecordDTO.SHELF_READ)
+                                .isbn(rs.getString("book_id"))
+                                .title(rs.getString("title"))
+                                .author(rs.getString("author"))
+                                .publisher(rs.getString("publisher"))
+                                .readDate(rs.getObject("read_date", LocalDate.class))
+                                .rating(rs.getDouble("rating"))
+                                .oneLineReview(rs.getString("one_line_review"))
+                                .build()), userId);
+
+                streamingJdbcTemplate.query(EXPORT_WISH_BOOKS_SQL, (RowCallbackHandler) rs -> write(sequenceWriter,
+                        BookshelfRecordDTO.builder()
+                                .shelf(BookshelfRecordDTO.SHELF_WISH)
+                                .isbn(rs.getString("book_id"))
+                                .title(rs.getString("title"))
+                                .author(rs.getString("author"))
+                                .publisher(rs.getString("publisher"))
+                                .reason(rs.getString("reason"))
+                                .build()), userId);
+            }
+        };
+    }
+
+    private ObjectWriter writerFor(String format) {
+        if (FORMAT_CSV.equalsIgnoreCase(format)) {
+            CsvSchema schema = csvMapper.schemaFor(BookshelfRecordDTO.class).withHeader();
+            return csvMapper.writerFor(BookshelfRecordDTO.class).with(schema);
+        }
+        if (FORMAT_JSON.equalsIgnoreCase(format)) {
+            return objectMapper.writerFor(BookshelfRecordDTO.class);
+        }
+        throw new BadRequestException(ErrorStatus.INVALID_BOOKSHELF_EXPORT_FORMAT.getMessage());
+    }
+
+    private static void write(SequenceWriter sequenceWriter, BookshelfRecordDTO record) {
+        try {
+            sequenceWriter.write(record);
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등 - 조회를 중단하기 위해 예외 전달
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 검증된 가져오기 행
+    private record ImportRow(boolean read, String isbn, LocalDate readDate, double rating,
+                             String oneLineReview, String reason) {
+
+        ImportRow withIsbn(String isbn) {
+            return new ImportRow(read, isbn, readDate, rating, oneLineReview, reason);
+        }
+    }
+
+    // 책별 추가된 평점 합계
+    private static class RatingDelta {
+        private double sum;
+        private int count;
+
+        void add(double rating) {
+            sum += rating;
+            count++;
+        }
+    }
+
+    private static class ImportResult {
+        private int totalRowCnt;
+        private int readBookCnt;
+        private int wishBookCnt;
+        private int duplicateCnt;
+        private int invalidCnt;
+        private final List<String> notFoundIsbnList = new ArrayList<>();
+        private final Map<String, RatingDelta> ratings = new HashMap<>();
+    }
+}
@@ -0,0 +1,104 @@
+package com.core.book.api.bookshelf.service;
+
+import com.core.book.api.bookshelf.entity.ReadBooksMonthlyStats;
+import com.core.book.api.bookshelf.entity.ReadingStatsInitialization;
+import com.core.book.api.bookshelf.repository.ReadBooksMonthlyStatsRepository;
+import com.core.book.api.bookshelf.repository.ReadingStatsInitializationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 월별 읽은 책 집계
+ * - 회원별 첫 사용 시(조회 또는 책장 변경) 책장 기준으로 한 번 다시 계산하고 초기화 기록을 남김
+ *   (집계 도입 이전 회원이 조회 전에 책장을 먼저 바꿔도 증감 대신 전체 계산)
+ * - 이후에는 책장 변경 트랜잭션에서 증감
+ */
+@Service
+public class ReadBooksMonthlyStatsService {
+
+    private static final String STATS_TYPE = ReadingStatsInitialization.StatsType.MONTHLY.name();
+
+    private final ReadBooksMonthlyStatsRepository monthlyStatsRepository;
+    private final ReadingStatsInitializationRepository initializationRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public ReadBooksMonthlyStatsService(ReadBooksMonthlyStatsRepository monthlyStatsRepository,
+                                        ReadingStatsInitializationRepository initializationRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.monthlyStatsRepository = monthlyStatsRepository;
+        this.initializationRepository = initializationRepository;
+
+        // 조회 중에도 집계를 초기화할 수 있도록 별도 트랜잭션 사용
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 월별 집계 (key : yyyyMM) - 초기화 기록이 없는 회원은 책장 기준으로 한 번만 계산
+    public Map<Integer, ReadBooksMonthlyStats> getMonthlyStats(Long memberId) {
+        if (!isInitialized(memberId)) {
+            requiresNewTransaction.executeWithoutResult(status -> initializeIfAbsent(memberId));
+        }
+
+        return monthlyStatsRepository.findByMemberIdAndBookCntGreaterThan(memberId, 0).stream()
+                .collect(Collectors.toMap(ReadBooksMonthlyStats::getReadMonth, Function.identity()));
+    }
+
+    // 책장 기준으로 월별 집계 다시 계산 (책장 가져오기 등 여러 건을 한 번에 반영한 경우)
+    @Transactional
+    public void rebuild(Long memberId) {
+        initializationRepository.markInitialized(memberId, STATS_TYPE);
+        rebuildAll(memberId);
+    }
+
+    /*
+     * 읽은 책 등록(+1) / 삭제(-1)
+     * - 책장 변경 후 호출 : 처음 사용하는 회원이면 이번 변경까지 포함해 다시 계산하므로 증감 생략
+     */
+    @Transactional
+    public void add(Long memberId, LocalDate readDate, double rating, int delta) {
+        if (readDate == null || initializeIfAbsent(memberId)) {
+            return;
+        }
+        monthlyStatsRepository.add(memberId, ReadBooksMonthlyStats.readMonthOf(readDate), delta, rating * delta);
+    }
+
+    // 읽은 날짜/평점 수정 - 이전 월에서 빼고 새 월에 더함
+    @Transactional
+    public void move(Long memberId, LocalDate oldReadDate, double oldRating, LocalDate newReadDate, double newRating) {
+        if (Objects.equals(oldReadDate, newReadDate) && oldRating == newRating) {
+            return;
+        }
+        if (initializeIfAbsent(memberId)) {
+            return;
+        }
+        add(memberId, oldReadDate, oldRating, -1);
+        add(memberId, newReadDate, newRating, 1);
+    }
+
+    private boolean isInitialized(Long memberId) {
+        return initializationRepository.existsById(new ReadingStatsInitialization.Key(memberId, ReadingStatsInitialization.StatsType.MONTHLY));
+    }
+
+    // 초기화 기록이 없으면 기록 후 다시 계산하고 true 반환
+    private boolean initializeIfAbsent(Long memberId) {
+        if (isInitialized(memberId) || initializationRepository.markInitialized(memberId, STATS_TYPE) == 0) {
+            return false;
+        }
+        rebuildAll(memberId);
+        return true;
+    }
+
+    private void rebuildAll(Long memberId) {
+        monthlyStatsRepository.deleteByMemberId(memberId);
+        monthlyStatsRepository.rebuild(memberId);
+    }
+}
@@ -0,0 +1,225 @@
+package com.core.book.api.bookshelf.service;
+
+import com.core.book.api.book.constant.BookTag;
+import com.core.book.api.book.entity.Book;
+import com.core.book.api.book.service.TagMaskMigrationService;
+import com.core.book.api.bookshelf.dto.ReadingStatsResponseDTO;
+import com.core.book.api.bookshelf.entity.ReadBooksMonthlyStats;
+import com.core.book.api.bookshelf.entity.ReadingStats;
+import com.core.book.api.bookshelf.entity.ReadingStatsInitialization;
+import com.core.book.api.bookshelf.repository.ReadBooksRepository;
+import com.core.book.api.bookshelf.repository.ReadingStatsInitializationRepository;
+import com.core.book.api.bookshelf.repository.ReadingStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 독서 통계
+ * - 년도/월별 권수, 평균 평점 : 월별 집계(READBOOKS_MONTHLY_STATS)
+ * - 평점 분포, 태그/저자/출판사 상위 : 항목별 집계(READING_STATS)
+ * 집계는 책장 변경 트랜잭션에서 증감하므로 조회 시에는 회원 PK 범위 조회만 수행
+ * 항목별 집계는 회원별 첫 사용 시(조회 또는 책장 변경 시작 시) 책장 기준으로 한 번 다시 계산하고 초기화 기록을 남김
+ */
+@Service
+public class ReadingStatsService {
+
+    private static final String STATS_TYPE = ReadingStatsInitialization.StatsType.ITEMS.name();
+
+    private final ReadingStatsRepository readingStatsRepository;
+    private final ReadingStatsInitializationRepository initializationRepository;
+    private final ReadBooksRepository readBooksRepository;
+    private final ReadBooksMonthlyStatsService readBooksMonthlyStatsService;
+    private final TagMaskMigrationService tagMaskMigrationService;
+    private final TransactionTemplate requiresNewTransaction;
+
+    @Value("${reading-stats.top-size:5}")
+    private int topSize;
+
+    public ReadingStatsService(ReadingStatsRepository readingStatsRepository,
+                               ReadingStatsInitializationRepository initializationRepository,
+                               ReadBooksRepository readBooksRepository,
+                               ReadBooksMonthlyStatsService readBooksMonthlyStatsService,
+                               TagMaskMigrationService tagMaskMigrationService,
+                               PlatformTransactionManager transactionManager) {
+        this.readingStatsRepository = readingStatsRepository;
+        this.initializationRepository = initializationRepository;
+        this.readBooksRepository = readBooksRepository;
+        this.readBooksMonthlyStatsService = readBooksMonthlyStatsService;
+        this.tagMaskMigrationService = tagMaskMigrationService;
+
+        // 조회 중에도 집계를 초기화할 수 있도록 별도 트랜잭션 사용
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /*
+     * 집계 갱신
+     */
+
+    /*
+     * 초기화 기록이 없으면 기록 후 책장 기준으로 다시 계산
+     * - 책장 변경 전에 호출 : 이후 증감은 변경 전 책장으로 계산한 집계에 그대로 반영
+     *   (책장 등록은 태그 저장과 책장 반영이 나뉘어 있어 변경 후에는 어느 증감이 이미 반영되었는지 알 수 없음)
+     */
+    @Transactional
+    public void initializeIfAbsent(Long memberId) {
+        if (isInitialized(memberId) || initializationRepository.markInitialized(memberId, STATS_TYPE) == 0) {
+            return;
+        }
+        rebuildAll(memberId);
+    }
+
+    // 읽은 책 등록(+1) / 삭제(-1) - 평점, 저자, 출판사
+    @Transactional
+    public void addReadBook(Long memberId, Book book, double rating, int delta) {
+        add(memberId, ReadingStats.Dimension.RATING, ratingItem(rating), delta);
+        add(memberId, ReadingStats.Dimension.AUTHOR, book.getAuthor(), delta);
+        add(memberId, ReadingStats.Dimension.PUBLISHER, book.getPublisher(), delta);
+    }
+
+    @Transactional
+    public void changeRating(Long memberId, double oldRating, double newRating) {
+        if (ratingItem(oldRating).equals(ratingItem(newRating))) {
+            return;
+        }
+        add(memberId, ReadingStats.Dimension.RATING, ratingItem(oldRating), -1);
+        add(memberId, ReadingStats.Dimension.RATING, ratingItem(newRating), 1);
+    }
+
+    // 읽은 책 태그 추가(+1) / 삭제(-1)
+    @Transactional
+    public void addTag(Long memberId, int tagId, int delta) {
+        add(memberId, ReadingStats.Dimension.TAG, String.valueOf(tagId), delta);
+    }
+
+    // 책장 기준으로 항목별 집계 다시 계산 (책장 가져오기 등 여러 건을 한 번에 반영한 경우)
+    @Transactional
+    public void rebuild(Long memberId) {
+        initializationRepository.markInitialized(memberId, STATS_TYPE);
+        rebuildAll(memberId);
+    }
+
+    private void add(Long memberId, ReadingStats.Dimension dimension, String item, int delta) {
+        if (item == null || item.isBlank()) {
+            return;
+        }
+        readingStatsRepository.add(memberId, dimension.name(), item, delta);
+    }
+
+    // 평점은 0.5 단위이므로 x10 정수 문자열로 저장 (4.5 -> "45")
+    private static String ratingItem(double rating) {
+        return String.valueOf(Math.round(rating * 10));
+    }
+
+    /*
+     * 통계 조회
+     */
+
+    // 트랜잭션 없이 조회 - 집계 초기화(별도 트랜잭션) 결과가 바로 보이도록 함
+    public ReadingStatsResponseDTO getReadingStats(Long memberId) {
+        if (!isInitialized(memberId)) {
+            requiresNewTransaction.executeWithoutResult(status -> initializeIfAbsent(memberId));
+        }
+
+        // 년도/월별 통계 (월별 집계에서 계산)
+        Map<Integer, ReadBooksMonthlyStats> monthlyStats = readBooksMonthlyStatsService.getMonthlyStats(memberId);
+
+        long totalBookCnt = 0;
+        double totalRatingSum = 0;
+        TreeMap<Integer, List<ReadBooksMonthlyStats>> statsByYear = new TreeMap<>(Comparator.reverseOrder());
+        for (ReadBooksMonthlyStats stats : monthlyStats.values()) {
+            totalBookCnt += stats.getBookCnt();
+            totalRatingSum += stats.getRatingSum();
+            statsByYear.computeIfAbsent(stats.getReadMonth() / 100, year -> new ArrayList<>()).add(stats);
+        }
+
+        List<ReadingStatsResponseDTO.YearlyStatsDTO> yearlyList = new ArrayList<>();
+        statsByYear.forEach((year, months) -> {
+            List<ReadingStatsResponseDTO.MonthlyStatsDTO> monthlyList = months.stream()
+                    .sorted(Comparator.comparingInt(ReadBooksMonthlyStats::getReadMonth))
+                    .map(stats -> ReadingStatsResponseDTO.MonthlyStatsDTO.builder()
+                            .month(stats.getReadMonth() % 100)
+                            .bookCnt(stats.getBookCnt())
+                            .ratingAverage(average(stats.getRatingSum(), stats.getBookCnt()))
+                            .build())
+                    .toList();
+
+            yearlyList.add(ReadingStatsResponseDTO.YearlyStatsDTO.builder()
+                    .year(year)
+                    .bookCnt(months.stream().mapToInt(ReadBooksMonthlyStats::getBookCnt).sum())
+                    .monthlyList(monthlyList)
+                    .build());
+        });
+
+        // 평점 분포 (평점 높은 순)
+        List<ReadingStatsResponseDTO.RatingCountDTO> ratingDistribution =
+                readingStatsRepository.findTop(memberId, ReadingStats.Dimension.RATING, PageRequest.of(0, 100)).stream()
+                        .map(stats -> ReadingStatsResponseDTO.RatingCountDTO.builder()
+                                .rating(Integer.parseInt(stats.getItem()) / 10.0)
+                                .bookCnt(stats.getCnt())
+                                .build())
+                        .sorted(Comparator.comparingDouble(ReadingStatsResponseDTO.RatingCountDTO::getRating).reversed())
+                        .toList();
+
+        return ReadingStatsResponseDTO.builder()
+                .totalBookCnt(totalBookCnt)
+                .ratingAverage(average(totalRatingSum, totalBookCnt))
+                .yearlyList(yearlyList)
+                .ratingDistribution(ratingDistribution)
+                .topTagList(findTop(memberId, ReadingStats.Dimension.TAG,
+                        item -> BookTag.fromId(Integer.parseInt(item)).getDescription()))
+                .topAuthorList(findTop(memberId, ReadingStats.Dimension.AUTHOR, Function.identity()))
+                .topPublisherList(findTop(memberId, ReadingStats.Dimension.PUBLISHER, Function.identity()))
+                .build();
+    }
+
+    private List<ReadingStatsResponseDTO.ItemCountDTO> findTop(Long memberId, ReadingStats.Dimension dimension,
+                                                               Function<String, String> nameOf) {
+        return readingStatsRepository.findTop(memberId, dimension, PageRequest.of(0, topSize)).stream()
+                .map(stats -> ReadingStatsResponseDTO.ItemCountDTO.builder()
+                        .name(nameOf.apply(stats.getItem()))
+                        .bookCnt(stats.getCnt())
+                        .build())
+                .toList();
+    }
+
+    private boolean isInitialized(Long memberId) {
+        return initializationRepository.existsById(new ReadingStatsInitialization.Key(memberId, ReadingStatsInitialization.StatsType.ITEMS));
+    }
+
+    private void rebuildAll(Long memberId) {
+        readingStatsRepository.deleteByMemberId(memberId);
+        readingStatsRepository.rebuildRatings(memberId);
+        readingStatsRepository.rebuildAuthors(memberId);
+        readingStatsRepository.rebuildPublishers(memberId);
+        rebuildTags(memberId);
+    }
+
+    // 태그별 권수는 읽은 책의 태그 비트마스크에서 비트 단위로 집계 (태그 행 조인 없음)
+    // 마스크 채우기(TagMaskBackfillRunner)가 끝나기 전에는 태그 행 기준으로 계산
+    private void rebuildTags(Long memberId) {
+        if (!tagMaskMigrationService.isCompleted()) {
+            readingStatsRepository.rebuildTags(memberId);
+            return;
+        }
+
+        int[] tagCounts = BookTag.countByTag(readBooksRepository.findTagMasksByMemberId(memberId));
+        for (BookTag tag : BookTag.values()) {
+            if (tagCounts[tag.getId()] > 0) {
+                readingStatsRepository.put(memberId, ReadingStats.Dimension.TAG.name(), String.valueOf(tag.getId()), tagCounts[tag.getId()]);
+            }
+        }
+    }
+
+    private static double average(double sum, long count) {
+        return count > 0 ? Math.round(sum / count * 100) / 100.0 : 0.0;
+    }
+}
@@ -2,7 +2,7 @@ package com.core.book.api.comment.controller;
 
 import com.core.book.api.comment.dto.*;
 import com.core.book.api.comment.service.CommentService;
-import com.core.book.api.member.service.MemberService;
+import com.core.book.common.auth.LoginUserId;
 import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ApiResponse;
 import com.core.book.common.response.ErrorStatus;
@@ -12,8 +12,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -27,7 +25,6 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
-    private final MemberService memberService;
 
     @Operation(
             summary = "게시글 댓글 작성 API",
@@ -40,7 +37,7 @@ public class CommentController {
     })
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> createComment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @LoginUserId Long userId,
             @RequestBody @Valid CommentCreateDTO commentCreateDTO
     ) {
 
@@ -54,7 +51,6 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_ARTICLEID.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.createComment(commentCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.CREATE_COMMENT_SUCCESS);
@@ -97,7 +93,7 @@ public class CommentController {
     public ResponseEntity<ApiResponse<Void>> updateComment(
             @PathVariable Long id,
             @RequestBody CommentUpdateDTO commentUpdateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
         //댓글 ID 누락시 예외처리
         if (id == null) {
@@ -109,7 +105,6 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.updateComment(id, commentUpdateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.MODIFY_COMMENT_SUCCESS);
@@ -127,14 +122,13 @@ public class CommentController {
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
         //댓글 ID 누락시 예외처리
         if (id == null) {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_ID.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.deleteComment(id, userId);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_COMMENT_SUCCESS);
@@ -151,7 +145,7 @@ public class CommentController {
     })
     @PostMapping("/qna")
     public ResponseEntity<ApiResponse<Void>> createQnaComment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @LoginUserId Long userId,
             @RequestBody @Valid QnaCommentCreateDTO qnaCommentCreateDTO
     ) {
 
@@ -165,7 +159,6 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_ARTICLEID.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.createQnaComment(qnaCommentCreateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.CREATE_COMMENT_SUCCESS);
@@ -208,7 +201,7 @@ public class CommentController {
     public ResponseEntity<ApiResponse<Void>> updateQnaComment(
             @PathVariable Long id,
             @RequestBody CommentUpdateDTO commentUpdateDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
         // 답변(댓글) ID 누락시 예외처리
         if (id == null) {
@@ -220,7 +213,6 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.updateQnaComment(id, commentUpdateDTO, userId);
 
         return ApiResponse.success_only(SuccessStatus.MODIFY_COMMENT_SUCCESS);
@@ -238,14 +230,13 @@ public class CommentController {
     @DeleteMapping("/qna/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteQnaComment(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @LoginUserId Long userId
     ) {
         // 답변(댓글) ID 누락시 예외처리
         if (id == null) {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_ID.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         commentService.deleteQnaComment(id, userId);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_COMMENT_SUCCESS);
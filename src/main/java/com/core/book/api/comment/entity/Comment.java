@@ -3,7 +3,11 @@ package com.core.book.api.comment.entity;
 import com.core.book.api.article.entity.Article;
 import com.core.book.api.member.entity.Member;
 import com.core.book.common.entity.BaseTimeEntity;
+import com.core.book.common.entity.IdSequences;
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,7 +23,15 @@ import lombok.experimental.SuperBuilder;
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = IdSequences.COMMENT)
+    @GenericGenerator(name = IdSequences.COMMENT, type = TableGenerator.class, parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = IdSequences.TABLE),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = IdSequences.PK_COLUMN),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = IdSequences.VALUE_COLUMN),
+            @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = IdSequences.COMMENT),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = IdSequences.ALLOCATION_SIZE_VALUE),
+            @Parameter(name = TableGenerator.OPT_PARAM, value = IdSequences.OPTIMIZER)
+    })
     @Column(name = "comment_id")
     private Long id;
 
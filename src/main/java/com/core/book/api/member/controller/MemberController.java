@@ -2,8 +2,13 @@ package com.core.book.api.member.controller;
 
 import com.core.book.api.member.dto.*;
 import com.core.book.api.member.jwt.service.JwtService;
+import com.core.book.api.member.service.FollowRecommendService;
+import com.core.book.api.member.service.FollowerCacheWarmer;
 import com.core.book.api.member.service.MemberService;
 import com.core.book.api.member.service.OAuthService;
+import com.core.book.api.member.service.ProfileImageService;
+import com.core.book.common.auth.LoginUserId;
+import com.core.book.common.cache.HotKeyTracker;
 import com.core.book.common.exception.BadRequestException;
 import com.core.book.common.exception.InternalServerException;
 import com.core.book.common.response.ApiResponse;
@@ -14,12 +19,12 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -34,8 +39,17 @@ import java.util.Map;
 public class MemberController {
 
     private final MemberService memberService;
+    private final FollowRecommendService followRecommendService;
     private final OAuthService oauthService;
+    private final ProfileImageService profileImageService;
     private final JwtService jwtService;
+    private final HotKeyTracker hotKeyTracker;
+
+    @Value("${jwt.access.header}")
+    private String accessTokenHeader;
+
+    @Value("${jwt.refresh.header}")
+    private String refreshTokenHeader;
 
     @Operation(
             summary = "[백엔드 용] 카카오 엑세스토큰 발급 API",
@@ -58,13 +72,15 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "유효하지 않은 엑세스토큰 입니다.")
     })
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> loginWithKakao(@RequestBody KakaoLoginRequestDTO kakaoLoginRequest) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> loginWithKakao(@RequestBody KakaoLoginRequestDTO kakaoLoginRequest,
+                                                                           @Parameter(description = "기기 식별자 (기기별 로그인 세션 구분, 미입력 시 기본 세션)")
+                                                                           @RequestHeader(value = "Device-Id", required = false) String deviceId) {
         // 카카오 엑세스토큰이 입력되지 않았을 경우 예외 처리
         if (kakaoLoginRequest == null || kakaoLoginRequest.getAccessToken() == null || kakaoLoginRequest.getAccessToken().isEmpty()) {
             throw new BadRequestException(ErrorStatus.MISSING_KAKAO_ACCESSTOKEN.getMessage());
         }
 
-        Map<String, Object> response = memberService.loginWithKakao(kakaoLoginRequest.getAccessToken());
+        Map<String, Object> response = memberService.loginWithKakao(kakaoLoginRequest.getAccessToken(), deviceId);
         return ApiResponse.success(SuccessStatus.SEND_LOGIN_SUCCESS, response);
     }
 
@@ -78,7 +94,8 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "유효하지 않은 리프레시 토큰입니다."),
     })
     @GetMapping("/token-reissue")
-    public ResponseEntity<ApiResponse<Void>> reissueToken(@RequestHeader(value = "Authorization-Refresh", required = false) String refreshToken) {
+    public ResponseEntity<ApiResponse<Void>> reissueToken(@RequestHeader(value = "Authorization-Refresh", required = false) String refreshToken,
+                                                          HttpServletResponse response) {
         // 리프레시 토큰이 입력되지 않았을 경우 예외 처리
         if (refreshToken == null || refreshToken.isEmpty()) {
             throw new BadRequestException(ErrorStatus.MISSING_REFRESHTOKEN.getMessage());
@@ -89,9 +106,32 @@ public class MemberController {
             throw new BadRequestException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage()); // 유효하지 않은 토큰에 대한 예외 처리
         }
 
+        // 리프레시 토큰 교체 후 새로운 Access Token과 Refresh Token을 헤더로 설정
+        Map<String, String> tokens = jwtService.reissueTokens(refreshToken.substring(7));
+        response.setHeader(accessTokenHeader, "Bearer " + tokens.get("accessToken"));
+        response.setHeader(refreshTokenHeader, "Bearer " + tokens.get("refreshToken"));
+
         return ApiResponse.success_only(SuccessStatus.SEND_REISSUE_TOKEN_SUCCESS);
     }
 
+    @Operation(
+            summary = "로그아웃 API",
+            description = "현재 엑세스토큰을 즉시 만료시키고, 해당 기기(Device-Id)의 리프레시 토큰을 폐기합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "로그아웃 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자입니다.")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@LoginUserId Long userId,
+                                                    @Parameter(description = "기기 식별자 (로그인 시 사용한 값, 미입력 시 기본 세션)")
+                                                    @RequestHeader(value = "Device-Id", required = false) String deviceId,
+                                                    HttpServletRequest request) {
+        // 인증 필터를 통과한 요청이므로 헤더의 엑세스토큰은 "Bearer " 형식
+        jwtService.logout(userId, request.getHeader(accessTokenHeader).substring(7), deviceId);
+        return ApiResponse.success_only(SuccessStatus.LOGOUT_SUCCESS);
+    }
+
     @Operation(
             summary = "사용자 정보 조회 API",
             description = "토큰을 통해 인증된 사용자의 정보를 반환합니다."
@@ -101,8 +141,7 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
     })
     @GetMapping("/user-info")
-    public ResponseEntity<ApiResponse<UserInfoResponseDTO>> getUserInfo(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<UserInfoResponseDTO>> getUserInfo(@LoginUserId Long userId) {
         UserInfoResponseDTO userInfo = memberService.getUserInfo(userId);
         return ApiResponse.success(SuccessStatus.GET_USERINFO_SUCCESS, userInfo);
     }
@@ -116,8 +155,7 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "최소 한개 이상의 USERTAG가 발송되지 않았습니다.")
     })
     @PostMapping("/initial-tags")
-    public ResponseEntity<ApiResponse<Void>> registerInitialTags(@AuthenticationPrincipal UserDetails userDetails, @RequestBody UserTagRequestDTO userTagRequest, HttpServletResponse response) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<Void>> registerInitialTags(@LoginUserId Long userId, @RequestBody UserTagRequestDTO userTagRequest, HttpServletResponse response) {
 
         // 사용자 태그가 입력되지 않았을 경우 예외 처리
         if (userTagRequest == null) {
@@ -137,13 +175,12 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "사용자의 마케팅 동의 정보가 입력되지 않았습니다."),
     })
     @GetMapping("/initial-marketing")
-    public ResponseEntity<ApiResponse<Void>> registerInitialMarketing(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> registerInitialMarketing(@LoginUserId Long userId,
                                                                       @Parameter(
                                                                               description = "사용자의 마케팅 동의 여부를 나타내는 파라미터로, 'ok'는 승인, 'no'는 미승인을 의미합니다.",
                                                                               example = "ok",
                                                                               in = ParameterIn.QUERY)
                                                                       @RequestParam String approve) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         // 마케팅 동의 정보가 입력되지 않았을 경우 예외 처리
         if (approve == null || approve.isEmpty()) {
@@ -156,17 +193,16 @@ public class MemberController {
 
     @Operation(
             summary = "프로필 사진 변경 API",
-            description = "사용자의 프로필 사진을 변경합니다. with MultipartFile"
+            description = "사용자의 프로필 사진을 변경합니다. with MultipartFile | 요청 접수 후 바로 응답하며, 썸네일(64/160/480) 생성 및 업로드가 끝나면 프로필 이미지가 160 크기 썸네일로 변경됩니다."
     )
     @ApiResponses({
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "프로필 사진 변경 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "프로필 사진 변경 요청 접수 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "수정할 프로필 이미지파일이 업로드 되지 않았습니다."),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "프로필 사진이 변경되지 않았습니다.")
     })
     @PatchMapping(value = "/change-profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<Void>> changeProfileImage(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> changeProfileImage(@LoginUserId Long userId,
                                                                 @RequestParam("image") MultipartFile image) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         // 이미지가 첨부되지 않았을 경우 예외 처리
         if (image == null || image.isEmpty()) {
@@ -174,13 +210,44 @@ public class MemberController {
         }
 
         try {
-            memberService.updateProfileImage(userId, image);
-            return ApiResponse.success_only(SuccessStatus.UPDATE_PROFILE_IMAGE_SUCCESS);
+            profileImageService.acceptUpload(userId, image);
+            return ApiResponse.success_only(SuccessStatus.ACCEPT_PROFILE_IMAGE_SUCCESS);
         } catch (IOException e) {
             throw new InternalServerException(ErrorStatus.FAIL_UPLOAD_PROFILE_IMAGE.getMessage());
         }
     }
 
+    @Operation(
+            summary = "프로필 사진 업로드 URL 발급 API",
+            description = "프로필 사진을 저장소에 직접 업로드할 수 있는 서명 URL을 발급합니다. | 발급된 URL로 PUT 요청 시 Content-Type, Content-Length 헤더는 요청한 값과 같아야 하며, 업로드 후 완료 API를 호출해야 프로필 사진이 변경됩니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "프로필 사진 업로드 URL 발급 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미지 파일(jpg, jpeg, png, bmp, webp) 만 업로드할 수 있습니다. / 프로필 이미지 파일 크기가 허용 범위를 벗어났습니다.")
+    })
+    @PostMapping("/profile-image/upload-url")
+    public ResponseEntity<ApiResponse<ProfileImageUploadUrlResponseDTO>> createProfileImageUploadUrl(@LoginUserId Long userId,
+                                                                                                    @RequestBody ProfileImageUploadUrlRequestDTO request) {
+        ProfileImageUploadUrlResponseDTO response = profileImageService.createUploadUrl(userId, request);
+        return ApiResponse.success(SuccessStatus.ISSUE_PROFILE_IMAGE_UPLOAD_URL_SUCCESS, response);
+    }
+
+    @Operation(
+            summary = "프로필 사진 업로드 완료 API",
+            description = "서명 URL로 업로드한 파일을 확인한 뒤 프로필 사진으로 변경합니다. (썸네일은 응답 후 생성되어 잠시 뒤 교체됩니다)"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "프로필 사진 변경 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 프로필 이미지 업로드 키입니다. / 업로드된 프로필 이미지를 찾을 수 없습니다. / 이미지를 읽을 수 없거나 해상도가 허용 범위를 벗어났습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
+    })
+    @PostMapping("/profile-image/complete")
+    public ResponseEntity<ApiResponse<Void>> completeProfileImageUpload(@LoginUserId Long userId,
+                                                                       @RequestBody ProfileImageCompleteRequestDTO request) {
+        profileImageService.completeUpload(userId, request.getKey());
+        return ApiResponse.success_only(SuccessStatus.UPDATE_PROFILE_IMAGE_SUCCESS);
+    }
+
     @Operation(
             summary = "닉네임 변경 API",
             description = "사용자의 닉네임을 변경합니다. (닉네임 필터 조건 : 닉네임은 10자 이하로 설정, 닉네임은 영문, 숫자, 한글만 사용가능, 현재 다른 사용자가 사용중인 닉네임은 사용 불가)"
@@ -190,9 +257,8 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "닉네임이 입력되지 않았습니다."),
     })
     @PatchMapping("/change-nickname")
-    public ResponseEntity<ApiResponse<Void>> changeNickname(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> changeNickname(@LoginUserId Long userId,
                                                             @RequestParam("nickname") String nickname) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         // 닉네임이 입력되지 않았을 경우 예외 처리
         if (nickname == null || nickname.isEmpty()) {
@@ -232,9 +298,8 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
     })
     @PutMapping("/change-info-open")
-    public ResponseEntity<ApiResponse<Void>> changeInfoOpen(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> changeInfoOpen(@LoginUserId Long userId,
                                                             @RequestBody InfoOpenRequestDTO infoOpenRequestDTO) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
 
         // 정보 공개 여부 값이 입력되지 않았을 경우 예외 처리
         if (infoOpenRequestDTO == null) {
@@ -251,8 +316,7 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
     })
     @DeleteMapping("/quit")
-    public ResponseEntity<ApiResponse<Void>> quitMember(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<Void>> quitMember(@LoginUserId Long userId) {
 
         memberService.quitMember(userId);
         return ApiResponse.success_only(SuccessStatus.DELETE_MEMBER_SUCCESS);
@@ -264,9 +328,8 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
     })
     @PostMapping("/follow")
-    public ResponseEntity<ApiResponse<Void>> followMember(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> followMember(@LoginUserId Long userId,
                                                           @RequestBody FollowRequestDTO followRequestDTO) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
         boolean isFollowed = memberService.followOrUnfollowMember(userId, followRequestDTO.getFollowingId());
 
         if(isFollowed){
@@ -285,8 +348,7 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
     })
     @GetMapping("/follow")
-    public ResponseEntity<ApiResponse<List<FollowedUserDTO>>> getFollowedUsers(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<List<FollowedUserDTO>>> getFollowedUsers(@LoginUserId Long userId) {
         List<FollowedUserDTO> followedUsers = memberService.getFollowedUsers(userId);
         return ApiResponse.success(SuccessStatus.GET_FOLLOWED_USERS_SUCCESS, followedUsers);
     }
@@ -297,12 +359,25 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
     })
     @GetMapping("/follower")
-    public ResponseEntity<ApiResponse<List<FollowerUserDTO>>> getFollowers(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<List<FollowerUserDTO>>> getFollowers(@LoginUserId Long userId) {
         List<FollowerUserDTO> followers = memberService.getFollowers(userId);
+
+        // 기동 시 캐시 예열 대상 집계
+        hotKeyTracker.record(FollowerCacheWarmer.HOT_KEY_CATEGORY, userId);
         return ApiResponse.success(SuccessStatus.GET_FOLLOWER_USERS_SUCCESS, followers);
     }
 
+    @Operation(summary = "팔로우 추천 사용자 목록 조회 API", description = "함께 아는 사용자, 같은 책을 읽은 사용자, 선호 태그를 기반으로 추천된 사용자 목록을 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추천 사용자 목록 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
+    })
+    @GetMapping("/recommend")
+    public ResponseEntity<ApiResponse<List<FollowedUserDTO>>> getRecommendedUsers(@LoginUserId Long userId) {
+        List<FollowedUserDTO> recommendedUsers = followRecommendService.getRecommendedUsers(userId);
+        return ApiResponse.success(SuccessStatus.GET_RECOMMENDED_USERS_SUCCESS, recommendedUsers);
+    }
+
     @Operation(
             summary = "타인 사용자 정보 조회 API",
             description = "사용자의 ID를 통해 해당 사용자의 정보를 조회합니다."
@@ -313,7 +388,7 @@ public class MemberController {
     })
     @GetMapping("/user-info/{id}")
     public ResponseEntity<ApiResponse<OtherUserInfoResponseDTO>> getOtherUserInfo(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @LoginUserId Long userId,
             @Parameter(description = "조회할 사용자의 ID", required = true)
             @PathVariable Long id) {
 
@@ -322,11 +397,6 @@ public class MemberController {
             throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
         }
 
-        // 조회 사용자 미인증인 경우 예외 처리
-        if (userDetails.getUsername() == null) {
-            throw new BadRequestException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
-        }
-
         OtherUserInfoResponseDTO userInfo = memberService.getOtherUserInfo(id);
         return ApiResponse.success(SuccessStatus.GET_USERINFO_SUCCESS, userInfo);
     }
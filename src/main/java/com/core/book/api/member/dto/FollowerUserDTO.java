@@ -1,10 +1,14 @@
 package com.core.book.api.member.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class FollowerUserDTO {
     private Long id;
     private String nickname;
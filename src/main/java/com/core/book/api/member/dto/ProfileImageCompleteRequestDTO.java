@@ -0,0 +1,12 @@
+package com.core.book.api.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileImageCompleteRequestDTO {
+    private String key;
+}
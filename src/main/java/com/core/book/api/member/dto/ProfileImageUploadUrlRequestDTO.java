@@ -0,0 +1,13 @@
+package com.core.book.api.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileImageUploadUrlRequestDTO {
+    private String contentType;  // 업로드할 파일 MIME 타입
+    private Long contentLength;  // 업로드할 파일 크기 (byte)
+}
@@ -0,0 +1,14 @@
+package com.core.book.api.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ProfileImageUploadUrlResponseDTO {
+    private final String uploadUrl;          // PUT 업로드 URL (Content-Type, Content-Length 헤더를 요청 값과 동일하게 전송)
+    private final String key;                // 업로드 완료 API 에 전달할 파일 키
+    private final LocalDateTime expiresAt;   // 업로드 URL 만료 시각
+}
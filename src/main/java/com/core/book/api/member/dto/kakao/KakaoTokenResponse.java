@@ -0,0 +1,11 @@
+package com.core.book.api.member.dto.kakao;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 카카오 토큰 발급 응답 (사용하는 필드만 매핑)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KakaoTokenResponse(
+        @JsonProperty("access_token") String accessToken
+) {
+}
@@ -0,0 +1,40 @@
+package com.core.book.api.member.dto.kakao;
+
+import com.core.book.api.member.dto.KakaoUserInfoDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 카카오 사용자 정보 응답 (사용하는 필드만 매핑)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KakaoUserResponse(
+        Long id,
+        @JsonProperty("kakao_account") KakaoAccount kakaoAccount
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record KakaoAccount(
+            String email,
+            Profile profile
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Profile(
+            String nickname,
+            @JsonProperty("thumbnail_image_url") String thumbnailImageUrl
+    ) {
+    }
+
+    public KakaoUserInfoDTO toUserInfo() {
+        KakaoUserInfoDTO userInfo = new KakaoUserInfoDTO();
+        userInfo.setId(String.valueOf(id));
+        if (kakaoAccount != null) {
+            userInfo.setEmail(kakaoAccount.email());
+            if (kakaoAccount.profile() != null) {
+                userInfo.setNickname(kakaoAccount.profile().nickname());
+                userInfo.setProfileImage(kakaoAccount.profile().thumbnailImageUrl());
+            }
+        }
+        return userInfo;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +37,8 @@ public class Member extends BaseTimeEntity implements UserDetails {
 
     private String refreshToken; // 리프레시 토큰
 
+    private LocalDateTime deletedAt; // 탈퇴 시각 (탈퇴 후 데이터는 백그라운드 작업이 정리)
+
     @OneToMany(mappedBy = "follower", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Follow> following;  // 내가 팔로우 하는 사람들
 
@@ -80,6 +83,20 @@ public class Member extends BaseTimeEntity implements UserDetails {
                 .build();
     }
 
+    // 탈퇴 처리 - 토큰/소셜 식별자/닉네임을 즉시 해제하여 재로그인 및 닉네임 재사용 가능
+    public Member markDeleted() {
+        return this.toBuilder()
+                .deletedAt(LocalDateTime.now())
+                .refreshToken(null)
+                .socialId(null)
+                .nickname(null)
+                .build();
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(() -> this.role.getKey());
@@ -0,0 +1,67 @@
+package com.core.book.api.member.entity;
+
+import com.core.book.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Builder(toBuilder = true)
+@Table(name = "MEMBER_PURGE_JOB", indexes = @Index(name = "idx_member_purge_job_next_attempt", columnList = "step, next_attempt_at"))
+@AllArgsConstructor
+public class MemberPurgeJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "purge_job_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long memberId; // 탈퇴 회원 ID
+
+    @Enumerated(EnumType.STRING)
+    private PurgeStep step; // 현재 진행 단계
+
+    private long deletedRows; // 누적 삭제 행 수
+
+    private int attempts; // 연속 실패 횟수
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt; // 다음 처리 가능 시각 (실패 시 백오프)
+
+    @Column(length = 500)
+    private String lastError;
+
+    // 서버 간 동시 처리 방지 (먼저 커밋한 서버만 진행, 기존 행은 0 부터 시작)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    // 청크 삭제 진행 상황 반영
+    public MemberPurgeJob addDeletedRows(int rows) {
+        return this.toBuilder()
+                .deletedRows(this.deletedRows + rows)
+                .attempts(0)
+                .lastError(null)
+                .build();
+    }
+
+    // 다음 단계로 이동
+    public MemberPurgeJob moveToNextStep() {
+        return this.toBuilder()
+                .step(this.step.next())
+                .build();
+    }
+
+    // 실패 기록 및 재시도 시각 설정
+    public MemberPurgeJob recordFailure(String error, LocalDateTime retryAt) {
+        return this.toBuilder()
+                .attempts(this.attempts + 1)
+                .lastError(error != null && error.length() > 500 ? error.substring(0, 500) : error)
+                .nextAttemptAt(retryAt)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.core.book.api.member.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Builder
+@Table(name = "MEMBER_STATS")
+@AllArgsConstructor
+public class MemberStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long memberId; // 회원 ID (MEMBER PK 와 동일)
+
+    private int readBooksCnt; // 읽은 책 수
+    private int wishBooksCnt; // 읽고 싶은 책 수
+    private int articleCnt; // 작성한 게시글 수
+    private int followerCnt; // 팔로워 수
+    private int followingCnt; // 팔로잉 수
+}
@@ -0,0 +1,18 @@
+package com.core.book.api.member.entity;
+
+// 탈퇴 회원 데이터 정리 단계 (자식 테이블 -> 부모 테이블 순서)
+public enum PurgeStep {
+    ARTICLE_LIKES,
+    COMMENTS,
+    QNA_COMMENTS,
+    ARTICLES,
+    READ_BOOKS,
+    WISH_BOOKS,
+    FOLLOWS,
+    PROFILE,
+    COMPLETED;
+
+    public PurgeStep next() {
+        return this == COMPLETED ? COMPLETED : values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,29 @@
+package com.core.book.api.member.event;
+
+import com.core.book.common.cache.CacheInvalidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class FollowCacheInvalidationListener {
+
+    private static final List<String> FOLLOW_CACHES = List.of("followers", "following", "userInfo");
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    /*
+     * 팔로우/언팔로우 커밋 후 양쪽 회원의 캐시 무효화
+     * - 팔로워 : 팔로잉 목록, 팔로워 목록의 맞팔로우 여부, 사용자 정보
+     * - 대상 회원 : 팔로워 목록, 사용자 정보
+     * 커밋 전에 삭제하면 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있어 커밋 이후에 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFollowChanged(FollowChangedEvent event) {
+        cacheInvalidationService.evict(FOLLOW_CACHES, List.of(event.followerId(), event.followingId()));
+    }
+}
@@ -0,0 +1,5 @@
+package com.core.book.api.member.event;
+
+// 팔로우/언팔로우 트랜잭션 커밋 후 처리를 위한 이벤트
+public record FollowChangedEvent(Long followerId, Long followingId, boolean followed) {
+}
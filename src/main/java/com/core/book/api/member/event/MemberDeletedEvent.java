@@ -0,0 +1,4 @@
+package com.core.book.api.member.event;
+
+public record MemberDeletedEvent(Long memberId) {
+}
@@ -0,0 +1,178 @@
+package com.core.book.api.member.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * 팔로우 관계 인접 리스트 (메모리 인덱스)
+ * - 회원별 팔로잉/팔로워 ID를 정렬된 long[] 로 보관 (간선당 8바이트, 박싱 없음)
+ * - 조회는 이진 탐색으로 처리하고, 변경 시 배열을 새로 만들어 교체 (copy-on-write)
+ * - 외부로 반환하는 배열은 복사본 (내부 배열을 수정하면 정렬/공유가 깨지므로)
+ */
+public class FollowGraph {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, long[]> following; // 내가 팔로우 하는 사람들
+    private final Map<Long, long[]> followers; // 나를 팔로우 하는 사람들
+
+    private FollowGraph(Map<Long, long[]> following, Map<Long, long[]> followers) {
+        this.following = following;
+        this.followers = followers;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // A가 B를 팔로우 하는지 여부
+    public boolean follows(long followerId, long followingId) {
+        return Arrays.binarySearch(followingOf(followerId), followingId) >= 0;
+    }
+
+    public long[] getFollowing(long memberId) {
+        return followingOf(memberId).clone();
+    }
+
+    /*
+     * 최대 limit 개 무작위 표본 (배치 작업의 탐색 상한)
+     * - 앞에서부터 자르면 항상 ID가 작은(오래된) 회원만 탐색되므로 부분 Fisher-Yates 로 표본 추출
+     */
+    public long[] sampleFollowing(long memberId, int limit, RandomGenerator random) {
+        long[] ids = followingOf(memberId);
+        if (ids.length <= limit) {
+            return ids.clone();
+        }
+        long[] copy = ids.clone();
+        for (int i = 0; i < limit; i++) {
+            int j = i + random.nextInt(copy.length - i);
+            long tmp = copy[i];
+            copy[i] = copy[j];
+            copy[j] = tmp;
+        }
+        return Arrays.copyOf(copy, limit);
+    }
+
+    public long[] getFollowers(long memberId) {
+        return followersOf(memberId).clone();
+    }
+
+    public int followingCount(long memberId) {
+        return followingOf(memberId).length;
+    }
+
+    public int followerCount(long memberId) {
+        return followersOf(memberId).length;
+    }
+
+    private long[] followingOf(long memberId) {
+        return following.getOrDefault(memberId, EMPTY);
+    }
+
+    private long[] followersOf(long memberId) {
+        return followers.getOrDefault(memberId, EMPTY);
+    }
+
+    public void addEdge(long followerId, long followingId) {
+        following.compute(followerId, (id, ids) -> insert(ids, followingId));
+        followers.compute(followingId, (id, ids) -> insert(ids, followerId));
+    }
+
+    public void removeEdge(long followerId, long followingId) {
+        following.computeIfPresent(followerId, (id, ids) -> remove(ids, followingId));
+        followers.computeIfPresent(followingId, (id, ids) -> remove(ids, followerId));
+    }
+
+    // 탈퇴 회원의 모든 간선 제거
+    public void removeMember(long memberId) {
+        for (long followingId : followingOf(memberId)) {
+            removeEdge(memberId, followingId);
+        }
+        for (long followerId : followersOf(memberId)) {
+            removeEdge(followerId, memberId);
+        }
+    }
+
+    private static long[] insert(long[] ids, long value) {
+        if (ids == null) {
+            return new long[]{value};
+        }
+        int pos = Arrays.binarySearch(ids, value);
+        if (pos >= 0) {
+            return ids; // 이미 존재
+        }
+        int insertAt = -pos - 1;
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insertAt);
+        result[insertAt] = value;
+        System.arraycopy(ids, insertAt, result, insertAt + 1, ids.length - insertAt);
+        return result;
+    }
+
+    private static long[] remove(long[] ids, long value) {
+        int pos = Arrays.binarySearch(ids, value);
+        if (pos < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null; // 빈 배열은 맵에서 제거
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, pos);
+        System.arraycopy(ids, pos + 1, result, pos, ids.length - pos - 1);
+        return result;
+    }
+
+    /**
+     * 팔로우 테이블 전체 로딩용 빌더
+     * - 간선을 회원별 가변 배열에 모은 뒤 마지막에 한 번만 정렬 (간선 단위 insert 의 O(n^2) 회피)
+     */
+    public static class Builder {
+
+        private final Map<Long, LongArray> following = new HashMap<>();
+        private final Map<Long, LongArray> followers = new HashMap<>();
+
+        public Builder addEdge(long followerId, long followingId) {
+            following.computeIfAbsent(followerId, id -> new LongArray()).add(followingId);
+            followers.computeIfAbsent(followingId, id -> new LongArray()).add(followerId);
+            return this;
+        }
+
+        public FollowGraph build() {
+            return new FollowGraph(toSortedMap(following), toSortedMap(followers));
+        }
+
+        private static Map<Long, long[]> toSortedMap(Map<Long, LongArray> source) {
+            Map<Long, long[]> result = new ConcurrentHashMap<>(Math.max(16, source.size() * 4 / 3 + 1));
+            source.forEach((id, ids) -> result.put(id, ids.toSortedDistinctArray()));
+            return result;
+        }
+    }
+
+    private static class LongArray {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedDistinctArray() {
+            Arrays.sort(values, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || values[distinct - 1] != values[i]) {
+                    values[distinct++] = values[i];
+                }
+            }
+            return Arrays.copyOf(values, distinct);
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package com.core.book.api.member.jwt.filter;
 
-import com.core.book.api.member.entity.Member;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.core.book.common.auth.AuthMember;
 import com.core.book.api.member.repository.MemberRepository;
 import com.core.book.api.member.jwt.service.JwtService;
-import com.core.book.api.member.jwt.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,6 +21,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -29,9 +31,6 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     @Value("${jwt.access.header}")
     private String accessTokenHeader;
 
-    @Value("${jwt.refresh.header}")
-    private String refreshTokenHeader;
-
     private static final String NO_CHECK_URL = "/oauth2/authorization/kakao"; // 카카오 OAuth 요청 제외
     private static final String TOKEN_REISSUE_URL = "/api/v1/member/token-reissue"; // 토큰 재발급 엔드포인트
 
@@ -50,49 +49,34 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 리프레시 토큰 재발급 로직은 /token-reissue 엔드포인트에서만 수행
+        // 토큰 재발급은 /token-reissue 엔드포인트(컨트롤러)에서 리프레시 토큰으로 처리
         if (requestURI.equals(TOKEN_REISSUE_URL)) {
-            // Refresh Token이 존재하는지 확인
-            Optional<String> refreshToken = extractToken(request, refreshTokenHeader)
-                    .filter(jwtService::isTokenValid);
-
-            // Refresh Token이 유효하면 Access Token을 재발급하고 인증 정보를 설정
-            if (refreshToken.isPresent()) {
-                handleRefreshToken(response, refreshToken.get());
-            }
             filterChain.doFilter(request, response);
             return;
         }
 
-        // Access Token이 존재하고 유효한지 확인
-        Optional<String> accessToken = extractToken(request, accessTokenHeader)
-                .filter(jwtService::isTokenValid);
-
-        accessToken.ifPresent(token -> jwtService.extractEmail(token)
-                .ifPresent(email -> memberRepository.findByEmail(email)
-                        .ifPresent(this::setAuthentication)));
+        // Access Token이 존재하고 유효한지 확인 (검증/디코딩 1회, 폐기 여부는 메모리에서 확인)
+        extractToken(request, accessTokenHeader)
+                .flatMap(jwtService::verifyAccessToken)
+                .ifPresent(this::authenticate);
 
         filterChain.doFilter(request, response);
     }
 
-    // Refresh Token을 처리하여 Access Token 재발급 및 인증 처리
-    private void handleRefreshToken(HttpServletResponse response, String refreshToken) {
-        memberRepository.findByRefreshToken(refreshToken)
-                .ifPresent(user -> {
-                    String newAccessToken = jwtService.createAccessToken(user.getEmail());
-                    String newRefreshToken = jwtService.createRefreshToken(user.getEmail());
-
-                    // Refresh Token 업데이트
-                    jwtService.updateRefreshToken(user.getEmail(), newRefreshToken);
-
-                    // 새로운 Access Token과 Refresh Token을 헤더로 설정
-                    response.setHeader(accessTokenHeader, "Bearer " + newAccessToken);
-                    response.setHeader(refreshTokenHeader, "Bearer " + newRefreshToken);
+    // 토큰의 회원 ID, 권한 클레임으로 인증 처리 (DB 조회 없음)
+    private void authenticate(DecodedJWT accessToken) {
+        Long memberId = accessToken.getClaim(JwtService.ID_CLAIM).asLong();
+        String role = accessToken.getClaim(JwtService.ROLE_CLAIM).asString();
+        if (memberId != null && role != null) {
+            setAuthentication(memberId, accessToken.getSubject(), role);
+            return;
+        }
 
-                    log.info("Access Token, Refresh Token 재발급 완료");
-                    log.info("Access Token : {}", newAccessToken);
-                    log.info("Refresh Token : {}", newRefreshToken);
-                });
+        // 클레임 추가 이전에 발급된 토큰은 DB 조회로 처리
+        memberRepository.findByEmail(accessToken.getSubject())
+                .filter(member -> !member.isDeleted()) // 탈퇴 회원 토큰 거부
+                .filter(member -> !accessToken.getToken().equals(member.getRefreshToken())) // 저장된 Refresh Token 거부
+                .ifPresent(member -> setAuthentication(member.getId(), member.getEmail(), member.getRole().name()));
     }
 
     // 요청 헤더에서 토큰을 추출하는 메서드
@@ -105,17 +89,9 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     }
 
     // 인증 정보를 SecurityContext에 설정하는 메서드
-    private void setAuthentication(Member member) {
-        String password = member.getPassword();
-        if (password == null) {
-            password = PasswordUtil.generateRandomPassword();
-        }
-
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(member.getEmail())
-                .password(password)
-                .roles(member.getRole().name())
-                .build();
+    private void setAuthentication(Long memberId, String email, String role) {
+        UserDetails userDetails = new AuthMember(memberId, email,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role)));
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 userDetails, null, authoritiesMapper.mapAuthorities(userDetails.getAuthorities()));
@@ -1,21 +1,31 @@
 package com.core.book.api.member.jwt.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.core.book.api.member.entity.Member;
+import com.core.book.api.member.event.MemberDeletedEvent;
 import com.core.book.api.member.repository.MemberRepository;
-import jakarta.transaction.Transactional;
+import com.core.book.common.exception.UnauthorizedException;
+import com.core.book.common.response.ErrorStatus;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+
+import static com.core.book.api.member.jwt.service.RefreshTokenStore.DEFAULT_DEVICE_ID;
 
 @Service
 @RequiredArgsConstructor
@@ -32,37 +42,59 @@ public class JwtService {
     @Value("${jwt.refresh.expiration}")
     private Long refreshTokenExpirationPeriod;
 
+    public static final String ID_CLAIM = "id";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_USE_CLAIM = "token_use";
+    private static final String ACCESS_TOKEN_USE = "access";
+    private static final String REFRESH_TOKEN_USE = "refresh";
+
     private final MemberRepository memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
 
-    // Access Token 생성
-    public String createAccessToken(String email) {
-        Date now = new Date();
-        return JWT.create()
-                .withSubject(email)
-                .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+    // 서명/검증 객체는 스레드 안전하므로 한 번만 생성하여 재사용
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    void init() {
+        this.algorithm = Algorithm.HMAC512(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+    }
+
+    // Access Token 생성 (회원 ID, 권한 클레임 포함 - 인증 시 DB 조회 불필요, jti/iat 는 폐기 처리에 사용)
+    public String createAccessToken(Member member) {
+        return createToken(member, ACCESS_TOKEN_USE, accessTokenExpirationPeriod);
     }
 
-    // Refresh Token 생성
-    public String createRefreshToken(String email) {
+    // Refresh Token 생성 (같은 시각에 발급되어도 토큰이 겹치지 않도록 jti 포함)
+    private String createRefreshToken(Member member) {
+        return createToken(member, REFRESH_TOKEN_USE, refreshTokenExpirationPeriod);
+    }
+
+    // 두 토큰은 같은 키로 서명하므로 token_use 클레임으로 용도 구분 (Refresh Token 을 Access Token 으로 사용 불가)
+    private String createToken(Member member, String tokenUse, long expirationPeriod) {
         Date now = new Date();
         return JWT.create()
-                .withSubject(email)
-                .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .withSubject(member.getEmail())
+                .withJWTId(UUID.randomUUID().toString())
+                .withIssuedAt(now)
+                .withClaim(ID_CLAIM, member.getId())
+                .withClaim(ROLE_CLAIM, member.getRole().name())
+                .withClaim(TOKEN_USE_CLAIM, tokenUse)
+                .withExpiresAt(new Date(now.getTime() + expirationPeriod))
+                .sign(algorithm);
     }
 
     // Access Token과 Refresh Token 발급 및 반환
-    public Map<String, String> createAccessAndRefreshToken(String email) {
-        String accessToken = createAccessToken(email);
-        String refreshToken = createRefreshToken(email);
+    public Map<String, String> createAccessAndRefreshToken(Member member, String deviceId) {
+        String accessToken = createAccessToken(member);
+        String refreshToken = createRefreshToken(member);
 
-        // Refresh Token DB에 업데이트
-        updateRefreshToken(email, refreshToken);
+        // Refresh Token은 Redis 기기별 세션에 저장 (기존 같은 기기 토큰은 폐기)
+        refreshTokenStore.save(member.getId(), normalizeDeviceId(deviceId), refreshToken, refreshTokenExpirationPeriod);
 
         log.info("Access Token, Refresh Token 발급 완료");
-        log.info("Access Token : {}", accessToken);
-        log.info("Refresh Token : {}", refreshToken);
 
         // Access Token과 Refresh Token을 Map으로 반환
         return Map.of(
@@ -71,40 +103,147 @@ public class JwtService {
         );
     }
 
-    @Transactional
-    public void updateRefreshToken(String email, String refreshToken) {
-        memberRepository.findByEmail(email).ifPresent(member -> {
-            Member updatedMember = member.updateRefreshToken(refreshToken);
-            memberRepository.save(updatedMember);
-        });
+    /*
+     * 토큰 재발급
+     * - 리프레시 토큰은 1회용 : 재발급 시 새 토큰으로 교체되고, 이전 토큰이 다시 사용되면 해당 기기 세션 폐기
+     * - 권한은 회원 정보에서 다시 읽어 권한 변경을 바로 반영 (탈퇴 회원은 거부)
+     */
+    public Map<String, String> reissueTokens(String refreshToken) {
+        DecodedJWT decoded = verify(refreshToken)
+                .filter(this::isRefreshToken)
+                .orElseThrow(() -> new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage()));
+
+        Long memberId = decoded.getClaim(ID_CLAIM).asLong();
+        if (memberId == null) {
+            return reissueLegacyToken(refreshToken);
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage()));
+
+        String newRefreshToken = createRefreshToken(member);
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(memberId, refreshToken, newRefreshToken, refreshTokenExpirationPeriod);
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            log.warn("재사용된 리프레시 토큰 감지 - memberId={}", memberId);
+        }
+        if (result != RefreshTokenStore.RotationResult.ROTATED) {
+            throw new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage());
+        }
+
+        log.info("Access Token, Refresh Token 재발급 완료");
+
+        return Map.of(
+                "accessToken", createAccessToken(member),
+                "refreshToken", newRefreshToken
+        );
+    }
+
+    // Redis 저장소 도입 이전에 MEMBER 테이블에 저장된 리프레시 토큰은 한 번만 허용하고 새 저장소로 이전
+    private Map<String, String> reissueLegacyToken(String refreshToken) {
+        Member member = memberRepository.findByRefreshToken(refreshToken)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage()));
+
+        memberRepository.save(member.updateRefreshToken(null));
+        return createAccessAndRefreshToken(member, DEFAULT_DEVICE_ID);
+    }
+
+    // 로그아웃 - 현재 Access Token 즉시 폐기 및 해당 기기 리프레시 토큰 폐기
+    public void logout(Long memberId, String accessToken, String deviceId) {
+        verify(accessToken).ifPresent(tokenRevocationService::revoke);
+        revokeRefreshToken(memberId, deviceId);
     }
 
-    public boolean isTokenValid(String token) {
+    // 회원의 모든 토큰 폐기 (회원 탈퇴)
+    public void revokeAllTokens(Long memberId) {
+        tokenRevocationService.revokeMember(memberId);
+        revokeAllRefreshTokens(memberId);
+    }
+
+    /*
+     * 탈퇴 커밋 후 한 번 더 폐기
+     * - 인증 필터는 토큰 클레임만으로 인증하므로 탈퇴 회원 차단은 회원 단위 폐기에 의존
+     * - 탈퇴 트랜잭션 중 MEMBER 를 먼저 읽은 재발급 요청이 폐기 시각 이후에 발급한 토큰까지 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberDeleted(MemberDeletedEvent event) {
+        revokeAllTokens(event.memberId());
+    }
+
+    // 특정 기기 로그아웃
+    public void revokeRefreshToken(Long memberId, String deviceId) {
+        refreshTokenStore.revoke(memberId, normalizeDeviceId(deviceId));
+    }
+
+    // 전체 기기 로그아웃
+    public void revokeAllRefreshTokens(Long memberId) {
+        refreshTokenStore.revokeAll(memberId);
+    }
+
+    // 기기 ID 미입력 시 기본 세션 사용 (저장 형식 구분자 제거, 길이 제한)
+    private String normalizeDeviceId(String deviceId) {
+        if (deviceId == null || deviceId.isBlank()) {
+            return DEFAULT_DEVICE_ID;
+        }
+        String normalized = deviceId.replace("|", "").trim();
+        return normalized.length() > 64 ? normalized.substring(0, 64) : normalized;
+    }
+
+    // 토큰 검증 및 디코딩 (요청당 한 번만 호출)
+    public Optional<DecodedJWT> verify(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-            return true;
+            return Optional.of(verifier.verify(token));
         } catch (TokenExpiredException e) {
             log.error("토큰이 만료되었습니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (SignatureVerificationException e) {
             log.error("토큰 서명 검증 실패: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (Exception e) {
             log.error("유효하지 않은 토큰입니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
-    public Optional<String> extractEmail(String accessToken) {
-        try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
-                    .getClaim("sub")
-                    .asString());
-        } catch (Exception e) {
-            log.error("액세스 토큰이 유효하지 않습니다.");
-            return Optional.empty();
+    // 서명/만료 검증 후 토큰 용도와 폐기 목록까지 확인 (인증 필터용)
+    public Optional<DecodedJWT> verifyAccessToken(String token) {
+        return verify(token)
+                .filter(this::isAccessToken)
+                .filter(decoded -> !tokenRevocationService.isRevoked(decoded));
+    }
+
+    /*
+     * token_use 클레임이 없는 토큰은 Redis 저장소 도입 이전 형식(sub, exp 만 있음)만 허용
+     * - Access Token : 남은 유효 기간이 Access Token 만료 시간 이내인 경우만 허용
+     * - Refresh Token : MEMBER 테이블에 저장된 토큰과 비교하여 재발급
+     */
+    private boolean isAccessToken(DecodedJWT decoded) {
+        String tokenUse = decoded.getClaim(TOKEN_USE_CLAIM).asString();
+        if (tokenUse != null) {
+            return ACCESS_TOKEN_USE.equals(tokenUse);
         }
+        return isLegacyToken(decoded)
+                && decoded.getExpiresAt().getTime() - System.currentTimeMillis() <= accessTokenExpirationPeriod;
+    }
+
+    private boolean isRefreshToken(DecodedJWT decoded) {
+        String tokenUse = decoded.getClaim(TOKEN_USE_CLAIM).asString();
+        if (tokenUse != null) {
+            return REFRESH_TOKEN_USE.equals(tokenUse);
+        }
+        return isLegacyToken(decoded);
+    }
+
+    private boolean isLegacyToken(DecodedJWT decoded) {
+        return decoded.getClaim(ID_CLAIM).isMissing();
+    }
+
+    public boolean isTokenValid(String token) {
+        return verify(token).isPresent();
+    }
+
+    public Optional<String> extractEmail(String accessToken) {
+        return verify(accessToken).map(DecodedJWT::getSubject);
     }
 }
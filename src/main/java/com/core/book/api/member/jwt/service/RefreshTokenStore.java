@@ -0,0 +1,229 @@
+package com.core.book.api.member.jwt.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 리프레시 토큰 저장소
+ * - refresh:{회원ID}:token:{토큰 SHA-256} -> "회원ID|기기ID|상태" (A: 사용 가능, R: 재발급에 사용됨), TTL = 리프레시 토큰 만료 시간
+ * - refresh:{회원ID}:session              -> Hash(기기ID -> 현재 토큰 해시), 기기별 세션 관리 및 일괄 폐기용
+ * 재발급은 Lua 스크립트로 원자적으로 처리하며, 이미 사용된 토큰이 다시 들어오면 탈취로 보고 해당 기기 세션을 폐기
+ *
+ * Redis Cluster 대응
+ * - 회원 ID 를 해시 태그로 사용하여 한 회원의 키는 모두 같은 슬롯에 저장
+ * - 스크립트가 사용하는 키는 모두 KEYS 로 전달 : 세션에서 읽어야 하는 키는 먼저 조회한 뒤, 스크립트에서 조회 값이 그대로인지 확인
+ *   (그 사이 다른 요청이 세션을 바꾸었으면 CONFLICT 를 반환하고 다시 시도)
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    public static final String DEFAULT_DEVICE_ID = "default";
+
+    private static final String KEY_PREFIX = "refresh:{";
+    private static final String TOKEN_KEY_INFIX = "}:token:";
+    private static final String SESSION_KEY_SUFFIX = "}:session";
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long CONFLICT = -2L;
+
+    /*
+     * 기기 세션에 새 토큰 등록 (기존 토큰은 폐기)
+     * KEYS : 새 토큰, 세션, [기존 토큰]
+     * ARGV : 회원ID, 기기ID, TTL, 새 토큰 해시, 조회 시점의 기존 토큰 해시 (없으면 빈 문자열)
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[2], ARGV[2]) or ''
+            if previous ~= ARGV[5] then
+                return -2
+            end
+            if KEYS[3] then
+                redis.call('DEL', KEYS[3])
+            end
+            redis.call('SET', KEYS[1], ARGV[1] .. '|' .. ARGV[2] .. '|A', 'PX', ARGV[3])
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /*
+     * 토큰 교체
+     * KEYS : 기존 토큰, 새 토큰, 세션, [기기의 현재 토큰]
+     * ARGV : TTL, 새 토큰 해시, 조회 시점의 기존 토큰 값, 조회 시점의 기기 현재 토큰 해시 (없으면 빈 문자열)
+     *  1 : 성공
+     *  0 : 존재하지 않거나 만료된 토큰
+     * -1 : 이미 사용된 토큰 재사용 감지 (해당 기기 세션 폐기)
+     * -2 : 조회 이후 토큰/세션이 변경됨 (다시 시도)
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+                return 0
+            end
+            if value ~= ARGV[3] then
+                return -2
+            end
+            local memberId, deviceId, status = string.match(value, '^([^|]+)|([^|]+)|([^|]+)$')
+            local current = redis.call('HGET', KEYS[3], deviceId) or ''
+            if current ~= ARGV[4] then
+                return -2
+            end
+            if status ~= 'A' then
+                if KEYS[4] then
+                    redis.call('DEL', KEYS[4])
+                end
+                redis.call('HDEL', KEYS[3], deviceId)
+                return -1
+            end
+            redis.call('SET', KEYS[1], memberId .. '|' .. deviceId .. '|R', 'PX', ARGV[1])
+            redis.call('SET', KEYS[2], memberId .. '|' .. deviceId .. '|A', 'PX', ARGV[1])
+            redis.call('HSET', KEYS[3], deviceId, ARGV[2])
+            redis.call('PEXPIRE', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /*
+     * 조회한 기기 세션 폐기
+     * KEYS : 세션, 토큰...
+     * ARGV : 기기ID, 토큰 해시 (KEYS 의 토큰 순서와 같음)
+     * 조회 이후 바뀐 기기 세션은 남겨 두고, 남은 기기 수 반환
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #KEYS do
+                redis.call('DEL', KEYS[i])
+                local deviceId = ARGV[(i - 2) * 2 + 1]
+                if redis.call('HGET', KEYS[1], deviceId) == ARGV[(i - 2) * 2 + 2] then
+                    redis.call('HDEL', KEYS[1], deviceId)
+                end
+            end
+            return redis.call('HLEN', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void save(Long memberId, String deviceId, String refreshToken, long ttlMillis) {
+        String hash = hash(refreshToken);
+        String sessionKey = sessionKey(memberId);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String previous = (String) stringRedisTemplate.opsForHash().get(sessionKey, deviceId);
+
+            List<String> keys = new ArrayList<>(List.of(tokenKey(memberId, hash), sessionKey));
+            if (previous != null) {
+                keys.add(tokenKey(memberId, previous));
+            }
+            Long result = stringRedisTemplate.execute(ISSUE_SCRIPT, keys,
+                    String.valueOf(memberId), deviceId, String.valueOf(ttlMillis), hash, previous == null ? "" : previous);
+            if (result == null || result != CONFLICT) {
+                return;
+            }
+        }
+        throw new IllegalStateException("리프레시 토큰 저장 실패 - 동시 변경이 계속됨, memberId=" + memberId);
+    }
+
+    public RotationResult rotate(Long memberId, String oldRefreshToken, String newRefreshToken, long ttlMillis) {
+        String oldKey = tokenKey(memberId, hash(oldRefreshToken));
+        String newHash = hash(newRefreshToken);
+        String sessionKey = sessionKey(memberId);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String value = stringRedisTemplate.opsForValue().get(oldKey);
+            if (value == null) {
+                return RotationResult.NOT_FOUND;
+            }
+            String[] parts = value.split("\\|");
+            if (parts.length != 3 || !parts[0].equals(String.valueOf(memberId))) {
+                return RotationResult.NOT_FOUND;
+            }
+            String current = (String) stringRedisTemplate.opsForHash().get(sessionKey, parts[1]);
+
+            List<String> keys = new ArrayList<>(List.of(oldKey, tokenKey(memberId, newHash), sessionKey));
+            if (current != null) {
+                keys.add(tokenKey(memberId, current));
+            }
+            Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, keys,
+                    String.valueOf(ttlMillis), newHash, value, current == null ? "" : current);
+
+            if (result == null || result == 0L) {
+                return RotationResult.NOT_FOUND;
+            }
+            if (result != CONFLICT) {
+                return result > 0 ? RotationResult.ROTATED : RotationResult.REUSED;
+            }
+        }
+        return RotationResult.NOT_FOUND;
+    }
+
+    // 특정 기기 로그아웃
+    public void revoke(Long memberId, String deviceId) {
+        String sessionKey = sessionKey(memberId);
+        Object hash = stringRedisTemplate.opsForHash().get(sessionKey, deviceId);
+        if (hash != null) {
+            stringRedisTemplate.delete(tokenKey(memberId, (String) hash));
+        }
+        stringRedisTemplate.opsForHash().delete(sessionKey, deviceId);
+    }
+
+    // 전체 기기 로그아웃 (회원 탈퇴, 토큰 탈취 의심 시) - 폐기 도중 추가된 기기 세션이 있으면 다시 폐기
+    public void revokeAll(Long memberId) {
+        String sessionKey = sessionKey(memberId);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Map<Object, Object> sessions = stringRedisTemplate.opsForHash().entries(sessionKey);
+            if (sessions.isEmpty()) {
+                return;
+            }
+
+            List<String> keys = new ArrayList<>(sessions.size() + 1);
+            List<String> args = new ArrayList<>(sessions.size() * 2);
+            keys.add(sessionKey);
+            sessions.forEach((deviceId, hash) -> {
+                keys.add(tokenKey(memberId, (String) hash));
+                args.add((String) deviceId);
+                args.add((String) hash);
+            });
+
+            Long remaining = stringRedisTemplate.execute(REVOKE_SCRIPT, keys, args.toArray());
+            if (remaining == null || remaining == 0L) {
+                stringRedisTemplate.delete(sessionKey);
+                return;
+            }
+        }
+        throw new IllegalStateException("리프레시 토큰 전체 폐기 실패 - 동시 변경이 계속됨, memberId=" + memberId);
+    }
+
+    private static String tokenKey(Long memberId, String hash) {
+        return KEY_PREFIX + memberId + TOKEN_KEY_INFIX + hash;
+    }
+
+    private static String sessionKey(Long memberId) {
+        return KEY_PREFIX + memberId + SESSION_KEY_SUFFIX;
+    }
+
+    // 토큰 원문 대신 해시만 저장
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public enum RotationResult {
+        ROTATED,
+        NOT_FOUND,
+        REUSED
+    }
+}
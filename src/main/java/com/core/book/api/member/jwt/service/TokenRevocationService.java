@@ -0,0 +1,203 @@
+package com.core.book.api.member.jwt.service;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.core.book.common.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 폐기 목록 (로그아웃, 회원 탈퇴, 탈취 대응)
+ * - 요청마다 Redis/DB 조회 없이 서버 메모리에서 확인 : Bloom Filter 로 대부분 즉시 통과, 걸린 경우에만 정확한 목록 확인
+ * - 폐기 항목은 Redis Pub/Sub 으로 모든 서버에 전파하고, 기동 시 복구를 위해 Redis ZSET(score = 만료 시각)에도 저장
+ * - Pub/Sub 메시지는 연결이 끊긴 동안 유실될 수 있으므로 정리 주기마다 ZSET 의 회원 단위 폐기 항목을 다시 반영 (탈퇴 회원 차단)
+ * - 항목은 토큰 만료 시각이 지나면 정리 (회원 단위 폐기는 리프레시 토큰 만료 시간까지 유지)
+ *
+ * 메시지/ZSET 멤버 형식
+ * - T:{jti}                     : 토큰 단건 폐기
+ * - M:{회원ID}:{폐기 시각(ms)} : 해당 시각 이전에 발급된 회원의 모든 토큰 폐기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService implements MessageListener {
+
+    public static final String CHANNEL = "token:revocation";
+    private static final String REVOKED_KEY = "token:revoked";
+    private static final String TOKEN_PREFIX = "T:";
+    private static final String MEMBER_PREFIX = "M:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${jwt.access.expiration}")
+    private Long accessTokenExpirationPeriod;
+
+    @Value("${jwt.refresh.expiration}")
+    private Long refreshTokenExpirationPeriod;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private long expectedEntries;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>(); // jti -> 만료 시각
+    private final Map<Long, Revocation> revokedMembers = new ConcurrentHashMap<>(); // 회원ID -> 폐기 기준 시각
+    private volatile BloomFilter revokedTokenFilter;
+    private final Object tokenLock = new Object(); // 단건 폐기 추가와 Bloom Filter 재구성/교체를 직렬화 (재구성 중 추가된 항목 유실 방지)
+
+    @PostConstruct
+    void init() {
+        revokedTokenFilter = newFilter();
+        loadFromRedis();
+    }
+
+    // 토큰 폐기 여부 (요청마다 호출, 외부 저장소 조회 없음)
+    public boolean isRevoked(DecodedJWT token) {
+        String jti = token.getId();
+        if (jti != null && revokedTokenFilter.mightContain(jti) && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+
+        Long memberId = token.getClaim(JwtService.ID_CLAIM).asLong();
+        if (memberId == null || revokedMembers.isEmpty()) {
+            return false;
+        }
+        Revocation revocation = revokedMembers.get(memberId);
+        return revocation != null && issuedAt(token) <= revocation.revokedAt();
+    }
+
+    // 토큰 단건 폐기 (로그아웃)
+    public void revoke(DecodedJWT token) {
+        if (token.getId() == null) {
+            return;
+        }
+        long expiresAt = token.getExpiresAt().getTime();
+        applyToken(token.getId(), expiresAt);
+        publish(TOKEN_PREFIX + token.getId(), expiresAt);
+    }
+
+    // 회원의 현재까지 발급된 모든 토큰 폐기 (회원 탈퇴, 전체 로그아웃) - 그 시각 이전에 발급된 어떤 토큰보다 오래 유지
+    public void revokeMember(Long memberId) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + Math.max(accessTokenExpirationPeriod, refreshTokenExpirationPeriod);
+        applyMember(memberId, now, expiresAt);
+        publish(MEMBER_PREFIX + memberId + ":" + now, expiresAt);
+    }
+
+    private void publish(String entry, long expiresAt) {
+        stringRedisTemplate.opsForZSet().add(REVOKED_KEY, entry, expiresAt);
+        stringRedisTemplate.convertAndSend(CHANNEL, entry + "|" + expiresAt);
+    }
+
+    // 다른 서버에서 발생한 폐기 반영
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            apply(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 메시지 처리 실패 - {}", body, e);
+        }
+    }
+
+    // 기동 시 아직 만료되지 않은 폐기 항목 복구
+    private void loadFromRedis() {
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, now);
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    stringRedisTemplate.opsForZSet().rangeByScoreWithScores(REVOKED_KEY, now, Double.MAX_VALUE);
+            if (entries != null) {
+                entries.forEach(entry -> apply(entry.getValue(), entry.getScore().longValue()));
+            }
+            log.info("토큰 폐기 목록 복구 완료 - 토큰 {}건, 회원 {}건", revokedTokens.size(), revokedMembers.size());
+        } catch (RuntimeException e) {
+            log.error("토큰 폐기 목록 복구 실패", e);
+        }
+    }
+
+    private void apply(String entry, long expiresAt) {
+        if (entry.startsWith(TOKEN_PREFIX)) {
+            applyToken(entry.substring(TOKEN_PREFIX.length()), expiresAt);
+        } else if (entry.startsWith(MEMBER_PREFIX)) {
+            String[] parts = entry.substring(MEMBER_PREFIX.length()).split(":");
+            applyMember(Long.parseLong(parts[0]), Long.parseLong(parts[1]), expiresAt);
+        }
+    }
+
+    private void applyToken(String jti, long expiresAt) {
+        synchronized (tokenLock) {
+            revokedTokens.put(jti, expiresAt);
+            revokedTokenFilter.put(jti);
+        }
+    }
+
+    private void applyMember(Long memberId, long revokedAt, long expiresAt) {
+        revokedMembers.merge(memberId, new Revocation(revokedAt, expiresAt),
+                (previous, current) -> previous.revokedAt() >= current.revokedAt() ? previous : current);
+    }
+
+    // 만료된 항목 정리 및 Bloom Filter 재구성 (삭제가 불가능한 구조이므로 남은 항목으로 다시 생성)
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        revokedMembers.values().removeIf(revocation -> revocation.expiresAt() <= now);
+
+        synchronized (tokenLock) {
+            revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+            BloomFilter filter = newFilter();
+            revokedTokens.keySet().forEach(filter::put);
+            revokedTokenFilter = filter;
+        }
+
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, now);
+            resyncMembers(now);
+        } catch (RuntimeException e) {
+            log.warn("만료된 토큰 폐기 항목 정리 실패", e);
+        }
+    }
+
+    // 유실된 메시지 보완 - 회원 단위 폐기만 다시 반영 (토큰 단건 폐기는 해당 토큰 만료로 해소)
+    private void resyncMembers(long now) {
+        Set<ZSetOperations.TypedTuple<String>> entries =
+                stringRedisTemplate.opsForZSet().rangeByScoreWithScores(REVOKED_KEY, now, Double.MAX_VALUE);
+        if (entries == null) {
+            return;
+        }
+        entries.stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue().startsWith(MEMBER_PREFIX))
+                .forEach(entry -> apply(entry.getValue(), entry.getScore().longValue()));
+    }
+
+    // jti/iat 가 없는 이전 형식 토큰은 만료 시각에서 발급 시각을 역산
+    private long issuedAt(DecodedJWT token) {
+        Date issuedAt = token.getIssuedAt();
+        if (issuedAt != null) {
+            return issuedAt.getTime();
+        }
+        return token.getExpiresAt().getTime() - accessTokenExpirationPeriod;
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedEntries, 0.001);
+    }
+
+    private record Revocation(long revokedAt, long expiresAt) {
+    }
+}
@@ -1,7 +1,9 @@
 package com.core.book.api.member.repository;
 
+import com.core.book.api.member.dto.FollowedUserDTO;
 import com.core.book.api.member.entity.Follow;
 import com.core.book.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,5 +18,34 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId")
     List<Long> findFollowingIdsByFollowerId(@Param("followerId") Long followerId);
 
+    // 맞팔로우 중인 회원 ID (회원이 팔로우 하는 사람 중 회원을 팔로우 하는 사람)
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :memberId " +
+            "AND f.following.id IN (SELECT f2.follower.id FROM Follow f2 WHERE f2.following.id = :memberId)")
+    List<Long> findMutualFollowIds(@Param("memberId") Long memberId);
+
     long countByFollowingId(Long followingId);
+
+    long countByFollowerId(Long followerId);
+
+    // 내가 팔로우 하는 사용자 프로필 (엔티티 그래프 로딩 없이 필요한 컬럼만 조회)
+    @Query("SELECT new com.core.book.api.member.dto.FollowedUserDTO(m.id, m.nickname, m.imageUrl) " +
+            "FROM Follow f JOIN f.following m WHERE f.follower.id = :memberId AND m.deletedAt IS NULL")
+    List<FollowedUserDTO> findFollowingProfilesByMemberId(@Param("memberId") Long memberId);
+
+    // 나를 팔로우 하는 사용자 프로필
+    @Query("SELECT new com.core.book.api.member.dto.FollowedUserDTO(m.id, m.nickname, m.imageUrl) " +
+            "FROM Follow f JOIN f.follower m WHERE f.following.id = :memberId AND m.deletedAt IS NULL")
+    List<FollowedUserDTO> findFollowerProfilesByMemberId(@Param("memberId") Long memberId);
+
+    // 팔로우 그래프 적재용 간선 조회 (follow_id 기준 키셋 페이징, 정리 대기 중인 탈퇴 회원 제외)
+    @Query("SELECT f.id AS id, f.follower.id AS followerId, f.following.id AS followingId " +
+            "FROM Follow f JOIN f.follower a JOIN f.following b " +
+            "WHERE f.id > :lastId AND a.deletedAt IS NULL AND b.deletedAt IS NULL ORDER BY f.id")
+    List<FollowEdge> findEdgesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    interface FollowEdge {
+        Long getId();
+        Long getFollowerId();
+        Long getFollowingId();
+    }
 }
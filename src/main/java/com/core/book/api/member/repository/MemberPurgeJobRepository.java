@@ -0,0 +1,16 @@
+package com.core.book.api.member.repository;
+
+import com.core.book.api.member.entity.MemberPurgeJob;
+import com.core.book.api.member.entity.PurgeStep;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MemberPurgeJobRepository extends JpaRepository<MemberPurgeJob, Long> {
+
+    List<MemberPurgeJob> findByStepNotAndNextAttemptAtBeforeOrderByIdAsc(PurgeStep step, LocalDateTime now, Pageable pageable);
+
+    boolean existsByMemberId(Long memberId);
+}
@@ -1,8 +1,15 @@
 package com.core.book.api.member.repository;
 
+import com.core.book.api.member.dto.FollowedUserDTO;
 import com.core.book.api.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -14,4 +21,29 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findBySocialId(String socialId);
 
     boolean existsByNickname(String nickname);
+
+    // 배치 작업용 회원 ID 키셋 페이징
+    @Query("SELECT m.id FROM Member m WHERE m.id > :lastId AND m.deletedAt IS NULL ORDER BY m.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 닉네임 필터 적재용
+    @Query("SELECT m.id AS id, m.nickname AS nickname FROM Member m WHERE m.id > :lastId ORDER BY m.id")
+    List<MemberNickname> findNicknamesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT new com.core.book.api.member.dto.FollowedUserDTO(m.id, m.nickname, m.imageUrl) FROM Member m WHERE m.id IN :ids AND m.deletedAt IS NULL")
+    List<FollowedUserDTO> findProfilesByIds(@Param("ids") Collection<Long> ids);
+
+    // 프로필 이미지 교체 전 기존 URL 조회 및 행 잠금 (탈퇴 회원이면 empty, 이미지가 없으면 빈 문자열)
+    @Query(value = "SELECT COALESCE(image_url, '') FROM member WHERE user_id = :id AND deleted_at IS NULL FOR UPDATE", nativeQuery = true)
+    Optional<String> findImageUrlForUpdate(@Param("id") Long id);
+
+    // 프로필 이미지 URL 만 변경 (엔티티 병합으로 다른 컬럼을 덮어쓰지 않음)
+    @Modifying
+    @Query(value = "UPDATE member SET image_url = :imageUrl WHERE user_id = :id AND deleted_at IS NULL", nativeQuery = true)
+    int updateImageUrl(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+
+    interface MemberNickname {
+        Long getId();
+        String getNickname();
+    }
 }
@@ -0,0 +1,62 @@
+package com.core.book.api.member.repository;
+
+import com.core.book.api.member.entity.MemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    /*
+     * 통계 행이 없는 기존 회원 - 실제 데이터 개수 계산과 행 생성을 한 문장으로 처리
+     * - INSERT ... SELECT 의 SELECT 는 잠금 읽기이므로 진행 중인 책장/게시글/팔로우 변경이 커밋될 때까지 기다린 뒤 계산
+     *   (계산 후 행 생성 전에 커밋된 증감이 빠지거나 두 번 반영되지 않음)
+     * - 이미 행이 있으면 변경 없음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_stats (user_id, read_books_cnt, wish_books_cnt, article_cnt, follower_cnt, following_cnt) " +
+            "SELECT :memberId, " +
+            "(SELECT COUNT(*) FROM readbooks WHERE user_id = :memberId), " +
+            "(SELECT COUNT(*) FROM wishbooks WHERE user_id = :memberId), " +
+            "(SELECT COUNT(*) FROM review_article WHERE user_id = :memberId) " +
+            "+ (SELECT COUNT(*) FROM phrase_article WHERE user_id = :memberId) " +
+            "+ (SELECT COUNT(*) FROM qna_article WHERE user_id = :memberId), " +
+            "(SELECT COUNT(*) FROM follow WHERE following_id = :memberId), " +
+            "(SELECT COUNT(*) FROM follow WHERE follower_id = :memberId) " +
+            "ON DUPLICATE KEY UPDATE user_id = user_id", nativeQuery = true)
+    int initStats(@Param("memberId") Long memberId);
+
+    // 카운터는 UPDATE 문 한 번으로 원자적으로 증감 (동시 요청 시 갱신 유실 방지)
+    @Modifying
+    @Query("UPDATE MemberStats ms SET ms.readBooksCnt = ms.readBooksCnt + :delta WHERE ms.memberId = :memberId")
+    int addReadBooksCnt(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE MemberStats ms SET ms.wishBooksCnt = ms.wishBooksCnt + :delta WHERE ms.memberId = :memberId")
+    int addWishBooksCnt(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE MemberStats ms SET ms.articleCnt = ms.articleCnt + :delta WHERE ms.memberId = :memberId")
+    int addArticleCnt(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE MemberStats ms SET ms.followerCnt = ms.followerCnt + :delta WHERE ms.memberId = :memberId")
+    int addFollowerCnt(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE MemberStats ms SET ms.followingCnt = ms.followingCnt + :delta WHERE ms.memberId = :memberId")
+    int addFollowingCnt(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    // 탈퇴 회원이 팔로우하던 사용자들의 팔로워 수 감소
+    @Modifying
+    @Query("UPDATE MemberStats ms SET ms.followerCnt = ms.followerCnt - 1 " +
+            "WHERE ms.memberId IN (SELECT f.following.id FROM Follow f WHERE f.follower.id = :memberId)")
+    int decreaseFollowerCntOfFollowings(@Param("memberId") Long memberId);
+
+    // 탈퇴 회원을 팔로우하던 사용자들의 팔로잉 수 감소
+    @Modifying
+    @Query("UPDATE MemberStats ms SET ms.followingCnt = ms.followingCnt - 1 " +
+            "WHERE ms.memberId IN (SELECT f.follower.id FROM Follow f WHERE f.following.id = :memberId)")
+    int decreaseFollowingCntOfFollowers(@Param("memberId") Long memberId);
+}
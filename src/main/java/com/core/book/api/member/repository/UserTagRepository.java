@@ -3,11 +3,29 @@ package com.core.book.api.member.repository;
 import com.core.book.api.member.entity.Member;
 import com.core.book.api.member.entity.UserTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserTagRepository extends JpaRepository<UserTag, Long> {
 
     Optional<UserTag> findByMember(Member member);
 
+    // 추천 배치용 - 회원들의 선호 태그
+    @Query("SELECT ut.member.id AS memberId, ut.tag1 AS tag1, ut.tag2 AS tag2, ut.tag3 AS tag3, ut.tag4 AS tag4, ut.tag5 AS tag5 " +
+            "FROM UserTag ut WHERE ut.member.id IN :memberIds")
+    List<MemberTags> findTagsByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    interface MemberTags {
+        Long getMemberId();
+        String getTag1();
+        String getTag2();
+        String getTag3();
+        String getTag4();
+        String getTag5();
+    }
+
 }
\ No newline at end of file
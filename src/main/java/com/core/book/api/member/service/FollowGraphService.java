@@ -0,0 +1,153 @@
+package com.core.book.api.member.service;
+
+import com.core.book.api.member.event.FollowChangedEvent;
+import com.core.book.api.member.event.MemberDeletedEvent;
+import com.core.book.api.member.graph.FollowGraph;
+import com.core.book.api.member.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowGraphService {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final FollowRepository followRepository;
+
+    private volatile FollowGraph graph; // 최초 적재 전에는 null (DB 조회로 대체)
+
+    // 재적재 중 커밋된 변경 사항 (적재 완료 후 새 그래프에 재적용)
+    private final List<FollowChangedEvent> pendingChanges = new ArrayList<>();
+    private boolean reloading;
+
+    @Value("${follow-graph.reload-interval-ms:600000}")
+    private long reloadIntervalMs;
+
+    @Value("${follow-graph.reload-jitter-ms:300000}")
+    private long reloadJitterMs;
+
+    private long nextReloadAt; // 다음 재적재 시각 (System.nanoTime 기준, 스케줄러 스레드에서만 접근)
+
+    /*
+     * 팔로우 테이블 전체 적재
+     * - 기동 직후 1회, 이후 주기적으로 재적재하여 다른 서버에서 발생한 변경 사항을 반영
+     * - 재적재 간격에 서버마다 임의 지연을 더해 여러 서버가 같은 시각에 전체 테이블을 읽지 않도록 분산
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${follow-graph.reload-check-interval-ms:30000}")
+    public void reloadIfDue() {
+        if (graph != null && System.nanoTime() - nextReloadAt < 0) {
+            return;
+        }
+        reload();
+        long jitterMs = reloadJitterMs > 0 ? ThreadLocalRandom.current().nextLong(reloadJitterMs) : 0;
+        nextReloadAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reloadIntervalMs + jitterMs);
+    }
+
+    public void reload() {
+        synchronized (this) {
+            reloading = true;
+        }
+
+        FollowGraph loaded;
+        try {
+            loaded = loadGraph();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                reloading = false;
+                pendingChanges.clear();
+            }
+            log.error("팔로우 그래프 적재 실패", e);
+            return;
+        }
+
+        synchronized (this) {
+            // 적재 중 커밋된 변경 사항 재적용 (추가/삭제 모두 멱등)
+            pendingChanges.forEach(event -> apply(loaded, event));
+            pendingChanges.clear();
+            graph = loaded;
+            reloading = false;
+        }
+    }
+
+    private FollowGraph loadGraph() {
+        long start = System.currentTimeMillis();
+        FollowGraph.Builder builder = FollowGraph.builder();
+        long lastId = 0L;
+        long edgeCount = 0L;
+
+        List<FollowRepository.FollowEdge> edges;
+        do {
+            edges = followRepository.findEdgesAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (FollowRepository.FollowEdge edge : edges) {
+                builder.addEdge(edge.getFollowerId(), edge.getFollowingId());
+                lastId = edge.getId();
+            }
+            edgeCount += edges.size();
+        } while (edges.size() == LOAD_CHUNK_SIZE);
+
+        log.info("팔로우 그래프 적재 완료 - 간선 {}개, {}ms", edgeCount, System.currentTimeMillis() - start);
+        return builder.build();
+    }
+
+    // 팔로우/언팔로우 커밋 후 그래프 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFollowChanged(FollowChangedEvent event) {
+        synchronized (this) {
+            if (graph != null) {
+                apply(graph, event);
+            }
+            if (reloading) {
+                pendingChanges.add(event);
+            }
+        }
+    }
+
+    // 탈퇴 커밋 후 그래프에서 제거 (팔로우 행은 백그라운드 정리 작업이 나중에 삭제)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberDeleted(MemberDeletedEvent event) {
+        synchronized (this) {
+            if (graph != null) {
+                graph.removeMember(event.memberId());
+            }
+        }
+    }
+
+    private void apply(FollowGraph target, FollowChangedEvent event) {
+        if (event.followed()) {
+            target.addEdge(event.followerId(), event.followingId());
+        } else {
+            target.removeEdge(event.followerId(), event.followingId());
+        }
+    }
+
+    // A가 B를 팔로우 하는지 여부
+    public boolean follows(Long followerId, Long followingId) {
+        FollowGraph current = graph;
+        if (current != null) {
+            return current.follows(followerId, followingId);
+        }
+        return followRepository.findFollowingIdsByFollowerId(followerId).contains(followingId);
+    }
+
+    public boolean isLoaded() {
+        return graph != null;
+    }
+
+    // 배치 작업용 현재 그래프 스냅샷 (적재 전이면 null)
+    public FollowGraph getGraph() {
+        return graph;
+    }
+}
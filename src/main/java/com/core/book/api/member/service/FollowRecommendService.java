@@ -0,0 +1,405 @@
+package com.core.book.api.member.service;
+
+import com.core.book.api.bookshelf.repository.ReadBooksRepository;
+import com.core.book.api.member.dto.FollowedUserDTO;
+import com.core.book.api.member.graph.FollowGraph;
+import com.core.book.api.member.repository.MemberRepository;
+import com.core.book.api.member.repository.UserTagRepository;
+import com.core.book.common.exception.NotFoundException;
+import com.core.book.common.lock.DistributedLock;
+import com.core.book.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 추천 (알 수도 있는 사람)
+ * - 배치 작업이 회원 파티션 단위로 후보를 계산해 회원별 상위 K명을 Redis 에 저장 (여러 서버 중 잠금을 얻은 한 서버만 실행)
+ * - 조회 API 는 Redis 키 1개 조회 + 프로필 IN 조회로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowRecommendService {
+
+    private static final String KEY_PREFIX = "recommend:follow:";
+    private static final String LOCK_NAME = "follow-recommend";
+    private static final int MEMBER_ID_CHUNK_SIZE = 10_000;
+    private static final int QUERY_IN_SIZE = 1_000;
+
+    // 후보 생성 시 탐색 상한 (인기 회원/인기 도서로 인한 후보 폭증 방지)
+    private static final int MAX_FOLLOWING_FANOUT = 200;
+    private static final int MAX_SECOND_DEGREE_FANOUT = 200;
+    private static final int MAX_READERS_PER_ISBN = 200;
+    private static final int MAX_ISBNS_PER_MEMBER = 300;
+
+    // 점수 가중치
+    private static final double SECOND_DEGREE_WEIGHT = 1.0;
+    private static final double SHARED_BOOK_WEIGHT = 2.0;
+    private static final double SHARED_TAG_WEIGHT = 0.5;
+
+    private final MemberRepository memberRepository;
+    private final ReadBooksRepository readBooksRepository;
+    private final UserTagRepository userTagRepository;
+    private final FollowGraphService followGraphService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final DistributedLock distributedLock;
+
+    @Value("${follow-recommend.top-k:20}")
+    private int topK;
+
+    @Value("${follow-recommend.partition-size:500}")
+    private int partitionSize;
+
+    @Value("${follow-recommend.parallelism:4}")
+    private int parallelism;
+
+    @Value("${follow-recommend.ttl-hours:48}")
+    private long ttlHours;
+
+    @Value("${follow-recommend.lock-at-most-for:3h}")
+    private Duration lockAtMostFor;
+
+    @Value("${follow-recommend.lock-at-least-for:10m}")
+    private Duration lockAtLeastFor;
+
+    // 추천 목록 조회 (배치 결과가 없으면 빈 목록)
+    public List<FollowedUserDTO> getRecommendedUsers(Long userId) {
+        if (!memberRepository.existsById(userId)) {
+            throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+        }
+
+        String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        if (!StringUtils.hasText(value)) {
+            return Collections.emptyList();
+        }
+
+        // 배치 이후 팔로우 한 회원은 제외
+        List<Long> ids = Arrays.stream(value.split(","))
+                .map(Long::valueOf)
+                .filter(id -> !followGraphService.follows(userId, id))
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 점수 순서 유지 (탈퇴한 회원은 자연스럽게 제외)
+        Map<Long, FollowedUserDTO> profiles = memberRepository.findProfilesByIds(ids).stream()
+                .collect(Collectors.toMap(FollowedUserDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(cron = "${follow-recommend.cron:0 0 4 * * *}")
+    public void refreshRecommendations() {
+        // 그래프가 없는 서버가 잠금을 잡아 다른 서버의 실행을 막지 않도록 먼저 확인
+        FollowGraph graph = followGraphService.getGraph();
+        if (graph == null) {
+            log.warn("팔로우 그래프가 적재되지 않아 추천 배치를 건너뜁니다.");
+            return;
+        }
+        distributedLock.tryRun(LOCK_NAME, lockAtMostFor, lockAtLeastFor, () -> computeRecommendations(graph));
+    }
+
+    private void computeRecommendations(FollowGraph graph) {
+
+        long start = System.currentTimeMillis();
+        long[] memberIds = loadMemberIds();
+        AtomicLong stored = new AtomicLong();
+
+        // DB 커넥션 사용량을 제한하기 위해 전용 풀 사용
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new PartitionTask(graph, memberIds, 0, memberIds.length, stored));
+        } finally {
+            pool.shutdown();
+        }
+
+        log.info("팔로우 추천 배치 완료 - 회원 {}명, 저장 {}건, {}ms",
+                memberIds.length, stored.get(), System.currentTimeMillis() - start);
+    }
+
+    private long[] loadMemberIds() {
+        long[] ids = new long[MEMBER_ID_CHUNK_SIZE];
+        int size = 0;
+        long lastId = 0L;
+
+        List<Long> chunk;
+        do {
+            chunk = memberRepository.findIdsAfter(lastId, PageRequest.of(0, MEMBER_ID_CHUNK_SIZE));
+            if (size + chunk.size() > ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(ids.length * 2, size + chunk.size()));
+            }
+            for (Long id : chunk) {
+                ids[size++] = id;
+                lastId = id;
+            }
+        } while (chunk.size() == MEMBER_ID_CHUNK_SIZE);
+
+        return Arrays.copyOf(ids, size);
+    }
+
+    // 회원 ID 범위를 파티션 크기 이하가 될 때까지 분할
+    private class PartitionTask extends RecursiveAction {
+
+        private final FollowGraph graph;
+        private final long[] memberIds;
+        private final int from;
+        private final int to;
+        private final AtomicLong stored;
+
+        PartitionTask(FollowGraph graph, long[] memberIds, int from, int to, AtomicLong stored) {
+            this.graph = graph;
+            this.memberIds = memberIds;
+            this.from = from;
+            this.to = to;
+            this.stored = stored;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= partitionSize) {
+                try {
+                    stored.addAndGet(computePartition(graph, Arrays.copyOfRange(memberIds, from, to)));
+                } catch (RuntimeException e) {
+                    // 한 파티션 실패가 전체 배치를 중단시키지 않도록 처리
+                    log.error("팔로우 추천 파티션 처리 실패 - memberId {} ~ {}", memberIds[from], memberIds[to - 1], e);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PartitionTask(graph, memberIds, from, mid, stored),
+                    new PartitionTask(graph, memberIds, mid, to, stored));
+        }
+    }
+
+    /*
+     * 파티션 단위 추천 계산
+     * - 후보 점수는 회원 한 명씩 계산 (점수표는 회원마다 비우고 재사용) 후 상위 후보(top-K x 3)만 남김
+     *   -> 메모리 사용량은 파티션 크기 x 상위 후보 수 + 회원 1명의 탐색 상한으로 제한
+     * 1. 2촌 팔로우 (팔로우 그래프)
+     * 2. 같은 책을 읽은 독자 (회원 당 최근 ISBN 상한, ISBN 당 최근 독자 상한, 회원 묶음 단위 조회)
+     * 3. 선호 태그 겹침 (1, 2 로 모인 상위 후보의 가산점)
+     * - 후보가 없는 회원은 이전 배치의 추천 키 삭제
+     */
+    private int computePartition(FollowGraph graph, long[] partition) {
+        Map<Long, List<String>> isbnsByMember = loadRecentIsbns(partition);
+
+        Map<Long, Map<Long, Double>> preliminary = new HashMap<>(partition.length * 2);
+        Map<Long, Double> candidates = new HashMap<>();
+        RandomGenerator random = ThreadLocalRandom.current();
+        for (List<Long> chunk : isbnChunks(partition, isbnsByMember)) {
+            Map<String, List<Long>> readersByIsbn = loadRecentReaders(chunk, isbnsByMember);
+            for (long memberId : chunk) {
+                candidates.clear();
+                addSecondDegreeScores(graph, memberId, random, candidates);
+                addSharedBookScores(graph, memberId, isbnsByMember.getOrDefault(memberId, Collections.emptyList()),
+                        readersByIsbn, candidates);
+
+                Map<Long, Double> top = topCandidates(candidates, topK * 3);
+                if (!top.isEmpty()) {
+                    preliminary.put(memberId, top);
+                }
+            }
+        }
+
+        // 태그 가산점은 상위 후보에 한해 적용 (조회 대상 회원 수 제한)
+        Set<Long> tagTargets = new HashSet<>();
+        preliminary.forEach((memberId, top) -> {
+            tagTargets.add(memberId);
+            tagTargets.addAll(top.keySet());
+        });
+        Map<Long, Set<String>> tags = loadTags(tagTargets);
+
+        Map<String, String> results = new HashMap<>();
+        List<String> emptyKeys = new ArrayList<>();
+        for (long memberId : partition) {
+            Map<Long, Double> top = preliminary.get(memberId);
+            if (top == null) {
+                emptyKeys.add(KEY_PREFIX + memberId);
+                continue;
+            }
+            Set<String> myTags = tags.getOrDefault(memberId, Collections.emptySet());
+            Map<Long, Double> boosted = new HashMap<>(top.size() * 2);
+            top.forEach((candidateId, score) -> {
+                long sharedTags = tags.getOrDefault(candidateId, Collections.emptySet()).stream()
+                        .filter(myTags::contains)
+                        .count();
+                boosted.put(candidateId, score + sharedTags * SHARED_TAG_WEIGHT);
+            });
+            results.put(KEY_PREFIX + memberId, topCandidates(boosted, topK).keySet().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        }
+
+        storeResults(results, emptyKeys);
+        return results.size();
+    }
+
+    // 탐색 상한을 넘는 팔로잉은 배치마다 다른 무작위 표본으로 탐색 (모든 관계가 돌아가며 반영되도록)
+    private void addSecondDegreeScores(FollowGraph graph, long memberId, RandomGenerator random, Map<Long, Double> candidates) {
+        for (long followingId : graph.sampleFollowing(memberId, MAX_FOLLOWING_FANOUT, random)) {
+            for (long candidateId : graph.sampleFollowing(followingId, MAX_SECOND_DEGREE_FANOUT, random)) {
+                if (isCandidate(graph, memberId, candidateId)) {
+                    candidates.merge(candidateId, SECOND_DEGREE_WEIGHT, Double::sum);
+                }
+            }
+        }
+    }
+
+    private void addSharedBookScores(FollowGraph graph, long memberId, List<String> isbns,
+                                     Map<String, List<Long>> readersByIsbn, Map<Long, Double> candidates) {
+        for (String isbn : isbns) {
+            for (Long readerId : readersByIsbn.getOrDefault(isbn, Collections.emptyList())) {
+                if (isCandidate(graph, memberId, readerId)) {
+                    candidates.merge(readerId, SHARED_BOOK_WEIGHT, Double::sum);
+                }
+            }
+        }
+    }
+
+    /*
+     * ISBN 별 최근 독자 조회 단위로 파티션 회원을 분할
+     * - 회원 한 명씩 조회하지 않고, 고유 ISBN 이 IN 절 크기를 넘지 않는 만큼 회원을 묶어 한 번에 조회
+     * - 조회 결과는 ISBN 수 x ISBN 당 독자 상한으로 제한됨
+     */
+    private List<List<Long>> isbnChunks(long[] partition, Map<Long, List<String>> isbnsByMember) {
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>();
+        Set<String> chunkIsbns = new HashSet<>();
+        for (long memberId : partition) {
+            List<String> isbns = isbnsByMember.getOrDefault(memberId, Collections.emptyList());
+            long added = isbns.stream().filter(isbn -> !chunkIsbns.contains(isbn)).distinct().count();
+            if (!chunk.isEmpty() && chunkIsbns.size() + added > QUERY_IN_SIZE) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkIsbns.clear();
+            }
+            chunk.add(memberId);
+            chunkIsbns.addAll(isbns);
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    // 회원 묶음이 읽은 ISBN 별 최근 독자 (ISBN 당 상한)
+    private Map<String, List<Long>> loadRecentReaders(List<Long> memberIds, Map<Long, List<String>> isbnsByMember) {
+        Set<String> isbns = new HashSet<>();
+        memberIds.forEach(memberId -> isbns.addAll(isbnsByMember.getOrDefault(memberId, Collections.emptyList())));
+        if (isbns.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<Long>> readersByIsbn = new HashMap<>(isbns.size() * 2);
+        readBooksRepository.findRecentReadersByIsbns(isbns, MAX_READERS_PER_ISBN).forEach(row ->
+                readersByIsbn.computeIfAbsent(row.getIsbn(), isbn -> new ArrayList<>()).add(row.getMemberId()));
+        return readersByIsbn;
+    }
+
+    // 파티션 회원별 최근 읽은 책 (회원 당 상한)
+    private Map<Long, List<String>> loadRecentIsbns(long[] partition) {
+        Map<Long, List<String>> isbnsByMember = new HashMap<>(partition.length * 2);
+        List<Long> memberIds = Arrays.stream(partition).boxed().toList();
+        for (List<Long> chunk : chunks(memberIds)) {
+            readBooksRepository.findRecentIsbnsByMemberIds(chunk, MAX_ISBNS_PER_MEMBER).forEach(row ->
+                    isbnsByMember.computeIfAbsent(row.getMemberId(), id -> new ArrayList<>()).add(row.getIsbn()));
+        }
+        return isbnsByMember;
+    }
+
+    private Map<Long, Set<String>> loadTags(Set<Long> memberIds) {
+        Map<Long, Set<String>> tags = new HashMap<>(memberIds.size() * 2);
+        for (List<Long> chunk : chunks(memberIds)) {
+            userTagRepository.findTagsByMemberIds(chunk).forEach(row -> {
+                Set<String> memberTags = new HashSet<>();
+                for (String tag : new String[]{row.getTag1(), row.getTag2(), row.getTag3(), row.getTag4(), row.getTag5()}) {
+                    if (StringUtils.hasText(tag)) {
+                        memberTags.add(tag);
+                    }
+                }
+                tags.put(row.getMemberId(), memberTags);
+            });
+        }
+        return tags;
+    }
+
+    // 본인 및 이미 팔로우 중인 회원 제외
+    private boolean isCandidate(FollowGraph graph, long memberId, long candidateId) {
+        return candidateId != memberId && !graph.follows(memberId, candidateId);
+    }
+
+    // 상위 K개 후보 (크기 K의 최소 힙, 점수 내림차순 반환)
+    private Map<Long, Double> topCandidates(Map<Long, Double> candidates, int k) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(k + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : candidates.entrySet()) {
+            if (heap.size() < k) {
+                heap.offer(entry);
+            } else if (entry.getValue() > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            entries.add(heap.poll());
+        }
+        Collections.reverse(entries);
+
+        Map<Long, Double> result = new LinkedHashMap<>(entries.size() * 2);
+        entries.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    // 파티션 결과를 파이프라인으로 한 번에 저장 (후보가 없는 회원의 이전 추천은 삭제)
+    private void storeResults(Map<String, String> results, List<String> emptyKeys) {
+        if (results.isEmpty() && emptyKeys.isEmpty()) {
+            return;
+        }
+        Expiration expiration = Expiration.from(Duration.ofHours(ttlHours));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            results.forEach((key, value) -> connection.stringCommands().set(
+                    key.getBytes(StandardCharsets.UTF_8),
+                    value.getBytes(StandardCharsets.UTF_8),
+                    expiration,
+                    RedisStringCommands.SetOption.upsert()));
+            if (!emptyKeys.isEmpty()) {
+                connection.keyCommands().del(emptyKeys.stream()
+                        .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                        .toArray(byte[][]::new));
+            }
+            return null;
+        });
+    }
+
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += QUERY_IN_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + QUERY_IN_SIZE, list.size())));
+        }
+        return chunks;
+    }
+}
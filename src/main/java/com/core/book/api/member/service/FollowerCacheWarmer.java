@@ -0,0 +1,36 @@
+package com.core.book.api.member.service;
+
+import com.core.book.common.cache.CacheWarmer;
+import com.core.book.common.cache.HotKeyTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 팔로워 목록 조회가 많은 회원의 팔로워 목록 캐시 예열
+@Component
+@RequiredArgsConstructor
+public class FollowerCacheWarmer implements CacheWarmer {
+
+    public static final String HOT_KEY_CATEGORY = "followers";
+
+    private final MemberService memberService;
+    private final HotKeyTracker hotKeyTracker;
+
+    @Value("${cache.warmup.followers-limit:200}")
+    private int limit;
+
+    @Override
+    public String name() {
+        return "followers";
+    }
+
+    @Override
+    public List<Runnable> warmupTasks() {
+        return hotKeyTracker.top(HOT_KEY_CATEGORY, limit).stream()
+                .map(Long::valueOf)
+                .map(memberId -> (Runnable) () -> memberService.getFollowers(memberId))
+                .toList();
+    }
+}
@@ -0,0 +1,304 @@
+package com.core.book.api.member.service;
+
+import com.core.book.api.book.event.BookChangedEvent;
+import com.core.book.api.member.entity.MemberPurgeJob;
+import com.core.book.api.member.entity.PurgeStep;
+import com.core.book.api.member.repository.MemberPurgeJobRepository;
+import com.core.book.common.lock.DistributedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 탈퇴 회원 데이터 정리 작업
+ * - 탈퇴 요청 시 작업만 등록하고, 실제 삭제는 백그라운드에서 단계별 청크 단위로 수행
+ * - 청크마다 별도 트랜잭션으로 커밋하고 진행 상황을 기록하므로 중단되어도 이어서 처리
+ * - 청크 사이 대기 및 실행당 청크 수 제한으로 DB 부하 조절, 실패 시 지수 백오프 후 재시도
+ * - 여러 서버 중 잠금을 얻은 한 서버만 실행, 작업 행은 버전으로 동시 갱신 방지 (잠금이 만료된 경우 대비)
+ * - 다른 회원 게시글의 좋아요/댓글 수와 도서 평점은 삭제하는 청크와 같은 트랜잭션에서 보정
+ */
+@Slf4j
+@Service
+public class MemberPurgeService {
+
+    private static final int JOBS_PER_RUN = 10;
+    private static final String LOCK_NAME = "member-purge";
+
+    private final MemberPurgeJobRepository memberPurgeJobRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributedLock distributedLock;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${member.purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${member.purge.pause-ms:100}")
+    private long pauseMs;
+
+    @Value("${member.purge.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Value("${member.purge.max-backoff-minutes:60}")
+    private long maxBackoffMinutes;
+
+    @Value("${member.purge.lock-at-most-for:15m}")
+    private Duration lockAtMostFor;
+
+    public MemberPurgeService(MemberPurgeJobRepository memberPurgeJobRepository,
+                              NamedParameterJdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              DistributedLock distributedLock,
+                              ApplicationEventPublisher eventPublisher) {
+        this.memberPurgeJobRepository = memberPurgeJobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.distributedLock = distributedLock;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 탈퇴 회원 정리 작업 등록
+    @Transactional
+    public void schedulePurge(Long memberId) {
+        if (memberPurgeJobRepository.existsByMemberId(memberId)) {
+            return;
+        }
+        memberPurgeJobRepository.save(MemberPurgeJob.builder()
+                .memberId(memberId)
+                .step(PurgeStep.values()[0])
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${member.purge.interval-ms:60000}")
+    public void purgeDeletedMembers() {
+        distributedLock.tryRun(LOCK_NAME, lockAtMostFor, Duration.ZERO, this::purgeDueJobs);
+    }
+
+    private void purgeDueJobs() {
+        List<MemberPurgeJob> jobs = memberPurgeJobRepository.findByStepNotAndNextAttemptAtBeforeOrderByIdAsc(
+                PurgeStep.COMPLETED, LocalDateTime.now(), PageRequest.of(0, JOBS_PER_RUN));
+
+        int budget = maxChunksPerRun;
+        for (MemberPurgeJob job : jobs) {
+            budget = process(job, budget);
+            if (budget <= 0) {
+                break;
+            }
+        }
+    }
+
+    private int process(MemberPurgeJob job, int budget) {
+        MemberPurgeJob current = job;
+        while (current.getStep() != PurgeStep.COMPLETED && budget > 0) {
+            MemberPurgeJob snapshot = current;
+            try {
+                // 청크 삭제와 진행 상황 기록을 같은 트랜잭션으로 커밋
+                current = transactionTemplate.execute(status -> {
+                    int processed = purgeChunk(snapshot.getMemberId(), snapshot.getStep());
+                    MemberPurgeJob updated = snapshot.addDeletedRows(processed);
+                    if (processed < chunkSize) {
+                        updated = updated.moveToNextStep();
+                    }
+                    return memberPurgeJobRepository.save(updated);
+                });
+            } catch (OptimisticLockingFailureException e) {
+                // 다른 서버가 같은 작업을 먼저 진행함 - 이번 청크는 롤백되었으므로 건너뜀
+                log.debug("다른 서버가 처리 중인 정리 작업입니다 - memberId={}", snapshot.getMemberId());
+                return budget;
+            } catch (RuntimeException e) {
+                long backoffMinutes = Math.min(maxBackoffMinutes, 1L << Math.min(snapshot.getAttempts(), 20));
+                memberPurgeJobRepository.save(snapshot.recordFailure(e.getMessage(), LocalDateTime.now().plusMinutes(backoffMinutes)));
+                log.warn("탈퇴 회원 데이터 정리 실패 - memberId={}, step={}, {}분 후 재시도",
+                        snapshot.getMemberId(), snapshot.getStep(), backoffMinutes, e);
+                return budget;
+            }
+            budget--;
+            pause();
+        }
+
+        if (current.getStep() == PurgeStep.COMPLETED) {
+            log.info("탈퇴 회원 데이터 정리 완료 - memberId={}, 삭제 {}건", current.getMemberId(), current.getDeletedRows());
+        }
+        return budget;
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 단계별 청크 삭제 - 처리한 대상 행 수 반환 (청크 크기보다 작으면 해당 단계 종료)
+    private int purgeChunk(Long memberId, PurgeStep step) {
+        return switch (step) {
+            case ARTICLE_LIKES -> deleteChunk(memberId,
+                    "SELECT article_like_id FROM article_like WHERE user_id = :memberId LIMIT :limit",
+                    ids -> update(ids,
+                            // 다른 회원 게시글의 좋아요 수 감소 (게시글별 묶음)
+                            "UPDATE article a JOIN (SELECT article_id, COUNT(*) AS cnt FROM article_like " +
+                                    "WHERE article_like_id IN (:ids) GROUP BY article_id) t ON t.article_id = a.id " +
+                                    "SET a.like_cnt = a.like_cnt - t.cnt",
+                            "DELETE FROM article_like WHERE article_like_id IN (:ids)"));
+            case COMMENTS -> deleteChunk(memberId,
+                    "SELECT comment_id FROM comment WHERE user_id = :memberId LIMIT :limit",
+                    ids -> update(ids,
+                            "UPDATE article a JOIN (SELECT article_id, COUNT(*) AS cnt FROM comment " +
+                                    "WHERE comment_id IN (:ids) GROUP BY article_id) t ON t.article_id = a.id " +
+                                    "SET a.comment_cnt = a.comment_cnt - t.cnt",
+                            // 다른 회원의 답글은 유지 (부모 참조만 해제)
+                            "UPDATE comment SET parent_id = NULL WHERE parent_id IN (:ids)",
+                            "DELETE FROM comment WHERE comment_id IN (:ids)"));
+            case QNA_COMMENTS -> deleteChunk(memberId,
+                    "SELECT qna_comment_id FROM qna_comment WHERE user_id = :memberId LIMIT :limit",
+                    ids -> update(ids,
+                            "UPDATE article a JOIN (SELECT qac.qna_article_id AS article_id, COUNT(*) AS cnt FROM qna_comment qc " +
+                                    "JOIN qna_article_content qac ON qac.id = qc.qna_article_content_id " +
+                                    "WHERE qc.qna_comment_id IN (:ids) GROUP BY qac.qna_article_id) t ON t.article_id = a.id " +
+                                    "SET a.comment_cnt = a.comment_cnt - t.cnt",
+                            "UPDATE qna_comment SET parent_id = NULL WHERE parent_id IN (:ids)",
+                            "DELETE FROM qna_comment WHERE qna_comment_id IN (:ids)"));
+            case ARTICLES -> deleteChunk(memberId,
+                    "SELECT id FROM review_article WHERE user_id = :memberId " +
+                            "UNION ALL SELECT id FROM phrase_article WHERE user_id = :memberId " +
+                            "UNION ALL SELECT id FROM qna_article WHERE user_id = :memberId LIMIT :limit",
+                    ids -> {
+                        // 감상평 평점이 반영된 도서
+                        List<String> isbns = findIsbns("SELECT DISTINCT a.book_id FROM article a " +
+                                "JOIN review_article ra ON ra.id = a.id WHERE a.id IN (:ids) AND a.book_id IS NOT NULL", ids);
+
+                        // 게시글에 달린 다른 회원의 댓글/좋아요/태그 및 본문 정리 후 게시글 삭제
+                        update(ids,
+                                "DELETE FROM user_book_tag WHERE review_article_id IN (:ids)",
+                                "DELETE FROM article_like WHERE article_id IN (:ids)",
+                                "UPDATE comment SET parent_id = NULL WHERE article_id IN (:ids)",
+                                "DELETE FROM comment WHERE article_id IN (:ids)",
+                                "UPDATE qna_comment SET parent_id = NULL WHERE qna_article_content_id IN " +
+                                        "(SELECT id FROM qna_article_content WHERE qna_article_id IN (:ids))",
+                                "DELETE FROM qna_comment WHERE qna_article_content_id IN " +
+                                        "(SELECT id FROM qna_article_content WHERE qna_article_id IN (:ids))",
+                                "DELETE FROM qna_article_content WHERE qna_article_id IN (:ids)",
+                                "DELETE FROM phrase_article_content WHERE phrase_article_id IN (:ids)",
+                                "DELETE FROM review_article WHERE id IN (:ids)",
+                                "DELETE FROM phrase_article WHERE id IN (:ids)",
+                                "DELETE FROM qna_article WHERE id IN (:ids)",
+                                "DELETE FROM article WHERE id IN (:ids)");
+                        recalculateBookRatings(isbns);
+                    });
+            case READ_BOOKS -> deleteChunk(memberId,
+                    "SELECT readbooks_id FROM readbooks WHERE user_id = :memberId LIMIT :limit",
+                    ids -> {
+                        List<String> isbns = findIsbns("SELECT DISTINCT book_id FROM readbooks WHERE readbooks_id IN (:ids)", ids);
+                        update(ids,
+                                "DELETE FROM user_book_tag WHERE readbooks_id IN (:ids)",
+                                "DELETE FROM readbooks WHERE readbooks_id IN (:ids)");
+                        recalculateBookRatings(isbns);
+                    });
+            case WISH_BOOKS -> deleteChunk(memberId,
+                    "SELECT wishbooks_id FROM wishbooks WHERE user_id = :memberId LIMIT :limit",
+                    ids -> update(ids, "DELETE FROM wishbooks WHERE wishbooks_id IN (:ids)"));
+            case FOLLOWS -> deleteChunk(memberId,
+                    "SELECT follow_id FROM follow WHERE follower_id = :memberId OR following_id = :memberId LIMIT :limit",
+                    ids -> deleteFollows(memberId, "f.follow_id IN (:ids)", new MapSqlParameterSource("ids", ids)));
+            case PROFILE -> deleteProfile(memberId);
+            case COMPLETED -> 0;
+        };
+    }
+
+    private int deleteChunk(Long memberId, String selectSql, Consumer<List<Long>> deleteAction) {
+        List<Long> ids = jdbcTemplate.queryForList(selectSql, new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        deleteAction.accept(ids);
+        return ids.size();
+    }
+
+    private void update(List<Long> ids, String... sqls) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        for (String sql : sqls) {
+            jdbcTemplate.update(sql, params);
+        }
+    }
+
+    private List<String> findIsbns(String sql, List<Long> ids) {
+        return jdbcTemplate.queryForList(sql, new MapSqlParameterSource("ids", ids), String.class);
+    }
+
+    /*
+     * 도서 평점 다시 계산 (읽은 책 평점 + 감상평 평점)
+     * - 평점이 모두 삭제된 도서는 0 으로 초기화
+     */
+    private void recalculateBookRatings(List<String> isbns) {
+        if (isbns.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE book b LEFT JOIN (" +
+                        "SELECT s.book_id, COUNT(*) AS cnt, SUM(s.rating) AS rating_sum FROM (" +
+                        "SELECT rb.book_id, rb.rating FROM readbooks rb WHERE rb.book_id IN (:isbns) " +
+                        "UNION ALL SELECT a.book_id, ra.rating FROM review_article ra JOIN article a ON a.id = ra.id " +
+                        "WHERE a.book_id IN (:isbns)) s GROUP BY s.book_id) t ON t.book_id = b.book_id " +
+                        "SET b.rating_count = COALESCE(t.cnt, 0), " +
+                        "b.rating_average = COALESCE(ROUND(t.rating_sum / t.cnt, 2), 0) " +
+                        "WHERE b.book_id IN (:isbns)",
+                new MapSqlParameterSource("isbns", isbns));
+
+        // 커밋 후 책 상세 캐시 무효화
+        eventPublisher.publishEvent(new BookChangedEvent(isbns));
+    }
+
+    /*
+     * 팔로우 행 삭제
+     * - 탈퇴 시점에 있던 팔로우는 탈퇴 처리(MemberStatsService.removeStats)에서 상대방 카운터를 이미 보정
+     * - 탈퇴 이후 생성된 팔로우(탈퇴와 동시에 처리된 팔로우 요청)는 여기서 상대방 카운터 보정
+     */
+    private void deleteFollows(Long memberId, String condition, MapSqlParameterSource params) {
+        params.addValue("memberId", memberId);
+        jdbcTemplate.update("UPDATE member_stats ms JOIN (SELECT f.follower_id AS user_id, COUNT(*) AS cnt FROM follow f " +
+                "JOIN member m ON m.user_id = f.following_id " +
+                "WHERE " + condition + " AND f.following_id = :memberId AND f.created_at > m.deleted_at GROUP BY f.follower_id) t " +
+                "ON t.user_id = ms.user_id SET ms.following_cnt = ms.following_cnt - t.cnt", params);
+        jdbcTemplate.update("UPDATE member_stats ms JOIN (SELECT f.following_id AS user_id, COUNT(*) AS cnt FROM follow f " +
+                "JOIN member m ON m.user_id = f.follower_id " +
+                "WHERE " + condition + " AND f.follower_id = :memberId AND f.created_at > m.deleted_at GROUP BY f.following_id) t " +
+                "ON t.user_id = ms.user_id SET ms.follower_cnt = ms.follower_cnt - t.cnt", params);
+        jdbcTemplate.update("DELETE f FROM follow f WHERE " + condition, params);
+    }
+
+    // 마지막 단계 - 회원 행과 1:1 데이터 삭제
+    private int deleteProfile(Long memberId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("memberId", memberId);
+
+        // 팔로우 단계 이후에 생성된 팔로우 정리 (남아 있으면 회원 행 삭제가 외래 키로 실패)
+        deleteFollows(memberId, "(f.follower_id = :memberId OR f.following_id = :memberId)", new MapSqlParameterSource());
+        jdbcTemplate.update("DELETE FROM user_tag WHERE user_id = :memberId", params);
+        jdbcTemplate.update("DELETE FROM info_open WHERE user_id = :memberId", params);
+        jdbcTemplate.update("DELETE FROM member_stats WHERE user_id = :memberId", params);
+        jdbcTemplate.update("DELETE FROM readbooks_monthly_stats WHERE user_id = :memberId", params);
+        jdbcTemplate.update("DELETE FROM reading_stats WHERE user_id = :memberId", params);
+        jdbcTemplate.update("DELETE FROM member WHERE user_id = :memberId", params);
+        return 0;
+    }
+}
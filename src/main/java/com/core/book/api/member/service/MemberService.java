@@ -1,9 +1,9 @@
 package com.core.book.api.member.service;
 
-import com.core.book.api.bookshelf.repository.ReadBooksRepository;
-import com.core.book.api.bookshelf.repository.WishBooksRepository;
 import com.core.book.api.member.dto.*;
 import com.core.book.api.member.entity.*;
+import com.core.book.api.member.event.FollowChangedEvent;
+import com.core.book.api.member.event.MemberDeletedEvent;
 import com.core.book.api.member.jwt.service.JwtService;
 import com.core.book.api.member.repository.FollowRepository;
 import com.core.book.api.member.repository.InfoOpenRepository;
@@ -14,19 +14,19 @@ import com.core.book.common.exception.NotFoundException;
 import com.core.book.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -39,18 +39,16 @@ public class MemberService {
     private final UserTagRepository userTagRepository;
     private final InfoOpenRepository infoOpenRepository;
     private final FollowRepository followRepository;
-    private final ReadBooksRepository readBooksRepository;
-    private final WishBooksRepository wishBooksRepository;
+    private final MemberStatsService memberStatsService;
+    private final ApplicationEventPublisher eventPublisher;
     private final JwtService jwtService;
-    private final S3Service s3Service;
     private final OAuthService oAuthService;
-
-    // 금지된 닉네임 리스트
-    @Value("${member.prohibited-nicknames}")
-    private List<String> prohibitedNicknames;
+    private final NicknameValidator nicknameValidator;
+    private final MemberPurgeService memberPurgeService;
+    private final ProfileImageService profileImageService;
 
     @Transactional
-    public Map<String, Object> loginWithKakao(String kakaoAccessToken) {
+    public Map<String, Object> loginWithKakao(String kakaoAccessToken, String deviceId) {
         // 카카오 Access Token을 이용해 사용자 정보 가져오기
         KakaoUserInfoDTO kakaoUserInfo = oAuthService.getKakaoUserInfo(kakaoAccessToken);
 
@@ -58,7 +56,7 @@ public class MemberService {
         Member member = registerOrLoginKakaoUser(kakaoUserInfo);
 
         // 엑세스,리프레시 토큰 생성
-        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member.getEmail());
+        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member, deviceId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("tokens", tokens);
@@ -97,6 +95,11 @@ public class MemberService {
         memberRepository.save(member);
         infoOpenRepository.save(infoOpen);
 
+        // 회원 통계(카운터) 초기화
+        memberStatsService.createStats(member.getId());
+
+        nicknameValidator.register(member.getNickname());
+
         return member;
     }
 
@@ -147,6 +150,7 @@ public class MemberService {
     @Transactional(readOnly = true)
     public Long getUserIdByEmail(String email) {
         Member member = memberRepository.findByEmail(email)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
         return member.getId();
     }
@@ -168,49 +172,18 @@ public class MemberService {
         memberRepository.save(updatedMember);
     }
 
-    @Transactional
-    public void updateProfileImage(Long userId, MultipartFile image) throws IOException {
-        // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // 파일 타입 검사 (이미지 파일만 허용)
-        if (!isImageFile(image)) {
-            throw new BadRequestException(ErrorStatus.NOT_ALLOW_IMG_MIME.getMessage());
-        }
-
-        // 기존 이미지가 S3에 있는 경우 삭제
-        s3Service.deleteFile(member.getImageUrl());
-
-        // 새로운 이미지 업로드
-        String imageUrl = s3Service.uploadFile(member.getEmail(), image);
-
-        Member updatedMember = member.updateImageUrl(imageUrl);
-        memberRepository.save(updatedMember);
-    }
-
-    private boolean isImageFile(MultipartFile file) {
-        // 허용되는 이미지 MIME 타입
-        String contentType = file.getContentType();
-        return contentType != null && (
-                contentType.equals("image/jpeg") ||
-                        contentType.equals("image/png") ||
-                        contentType.equals("image/jpg") ||
-                        contentType.equals("image/bmp") ||
-                        contentType.equals("image/webp")
-        );
-    }
-
     @Transactional
     public void changeNickname(Long userId, String nickname) {
         // 유저 조회 및 닉네임 변경 로직
         Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
-        validateNickname(nickname);
+        // 실제 변경 시에는 항상 DB로 중복 확인
+        validateNickname(nickname, false);
 
         Member updatedMember = member.updateNickname(nickname);
         memberRepository.save(updatedMember); // Member 객체 반환
+        nicknameValidator.register(nickname);
 
         // 초기 회원가입시 최종 닉네임 등록 후 USER로 승격
         if (Role.GUEST.equals(member.getRole())) {
@@ -219,32 +192,19 @@ public class MemberService {
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public void checkNickname(String nickname) {
 
-        validateNickname(nickname);
+        // 입력 중 호출되는 중복 확인은 Bloom Filter 로 대부분의 DB 조회 생략
+        validateNickname(nickname, true);
     }
 
-    private void validateNickname(String nickname) {
-        //10자 이하 인지 체크
-        if (nickname.length() > 10) {
-            throw new BadRequestException(ErrorStatus.NOT_ALLOW_NICKNAME_FILTER_UNDER_10.getMessage());
-        }
-
-        //한글, 영어, 숫자만 허용
-        if (!nickname.matches("^[a-zA-Z0-9가-힣]*$")) {
-            throw new BadRequestException(ErrorStatus.NOT_ALLOW_USERTAG_FILTER_ROLE.getMessage());
-        }
-
-        // 부적절한 닉네임 체크
-        for (String word : prohibitedNicknames) {
-            if (nickname.toLowerCase().contains(word)) {
-                throw new BadRequestException(ErrorStatus.NOT_ALLOW_USERTAG_FILTER_LIST.getMessage());
-            }
-        }
+    private void validateNickname(String nickname, boolean useFilter) {
+        // 길이, 허용 문자, 금칙어 체크
+        nicknameValidator.validateFormat(nickname);
 
         // 중복된 닉네임 체크
-        if (memberRepository.existsByNickname(nickname)) {
+        if (nicknameValidator.isTaken(nickname, useFilter)) {
             throw new BadRequestException(ErrorStatus.DUPLICATE_NICKNAME.getMessage());
         }
     }
@@ -273,48 +233,48 @@ public class MemberService {
     public void quitMember(Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
         Member member = memberRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
-        // InfoOpen 삭제
-        infoOpenRepository.findByMember(member).ifPresent(infoOpenRepository::delete);
+        // 회원 통계 삭제 (팔로우 관계 삭제 전 상대방 카운터 보정)
+        memberStatsService.removeStats(userId);
+
+        // 탈퇴 처리 후 즉시 응답 - 게시글, 댓글, 책장 등 연관 데이터는 백그라운드 작업이 청크 단위로 삭제
+        memberRepository.save(member.markDeleted());
+        memberPurgeService.schedulePurge(userId);
+        profileImageService.scheduleDeletion(member.getImageUrl());
 
-        // UserTag 삭제
-        userTagRepository.findByMember(member).ifPresent(userTagRepository::delete);
+        // 발급된 Access Token 및 모든 기기의 리프레시 토큰 폐기
+        jwtService.revokeAllTokens(userId);
 
-        // Member 삭제
-        memberRepository.delete(member);
+        // 커밋 후 팔로우 그래프에서 제거
+        eventPublisher.publishEvent(new MemberDeletedEvent(userId));
     }
 
     @Transactional(readOnly = true)
     public UserInfoResponseDTO getUserInfo(Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        Member member = findActiveMember(userId);
 
         UserTag userTag = userTagRepository.findByMember(member).orElse(null);
         InfoOpen infoOpen = infoOpenRepository.findByMember(member).orElse(null);
 
-        int followedCount = member.getFollowing().size(); //팔로잉 수 계산
-        int followerCount = member.getFollowers().size(); //팔로워 수 계산
-        int readBooksCount = readBooksRepository.findReadBooksByMemberId(userId).size(); // 읽은책 수 계산
-        int wishBooksCount = wishBooksRepository.findWishBooksByMemberId(userId).size(); // 읽고싶은책 수 계산
+        // 팔로잉/팔로워/읽은책/읽고싶은책 수는 회원 통계 카운터에서 조회
+        MemberStats stats = memberStatsService.getStats(userId);
 
-        return new UserInfoResponseDTO(member, userTag, infoOpen, followedCount, followerCount, readBooksCount, wishBooksCount);
+        return new UserInfoResponseDTO(member, userTag, infoOpen, stats.getFollowingCnt(), stats.getFollowerCnt(), stats.getReadBooksCnt(), stats.getWishBooksCnt());
     }
 
     @Transactional
-    @CacheEvict(value = {"followers", "following", "userInfo"}, key = "#userId")
     public boolean followOrUnfollowMember(Long userId, Long followingId) {
         // 팔로우 하는 유저를 찾을 수 없을 경우 예외처리
-        Member follower = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        Member follower = findActiveMember(userId);
 
-        // 팔로우 할려는 유저를 찾을 수 없을 경우 예외처리
-        Member following = memberRepository.findById(followingId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        // 팔로우 할려는 유저를 찾을 수 없을 경우 예외처리 (탈퇴 후 정리 대기 중인 회원 포함)
+        Member following = findActiveMember(followingId);
 
         // 팔로우 상태인지 확인
-        return followRepository.findByFollowerAndFollowing(follower, following)
+        boolean isFollowed = followRepository.findByFollowerAndFollowing(follower, following)
                 .map(follow -> {
                     followRepository.delete(follow);
                     return false; // 팔로우 해지됨
@@ -327,66 +287,74 @@ public class MemberService {
                     followRepository.save(newFollow);
                     return true; // 팔로우 추가됨
                 });
+
+        // 팔로잉/팔로워 카운터 갱신
+        memberStatsService.addFollow(userId, followingId, isFollowed ? 1 : -1);
+
+        // 커밋 후 팔로우 그래프 반영 및 양쪽 회원 캐시 무효화
+        eventPublisher.publishEvent(new FollowChangedEvent(userId, followingId, isFollowed));
+
+        return isFollowed;
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "following", key = "#userId")
+    @Cacheable(value = "following", key = "#userId", sync = true)
     public List<FollowedUserDTO> getFollowedUsers(Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        if (!memberRepository.existsById(userId)) {
+            throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+        }
 
-        return member.getFollowing().stream()
-                .map(follow -> new FollowedUserDTO(
-                        follow.getFollowing().getId(),
-                        follow.getFollowing().getNickname(),
-                        follow.getFollowing().getImageUrl()
-                ))
-                .collect(Collectors.toList());
+        return followRepository.findFollowingProfilesByMemberId(userId);
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "followers", key = "#userId")
+    @Cacheable(value = "followers", key = "#userId", sync = true)
     public List<FollowerUserDTO> getFollowers(Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-        // N+1 문제 해결을 위한 해당 사용자의 모든 팔로워 리스트 불러오기
-        List<Long> followingIds = followRepository.findFollowingIdsByFollowerId(userId);
+        if (!memberRepository.existsById(userId)) {
+            throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+        }
 
-        return member.getFollowers().stream()
-                .map(follow -> {
-                    boolean isFollowing = followingIds.contains(follow.getFollower().getId());
-                    return FollowerUserDTO.builder()
-                            .id(follow.getFollower().getId())
-                            .nickname(follow.getFollower().getNickname())
-                            .imageUrl(follow.getFollower().getImageUrl())
-                            .isFollowing(isFollowing)
-                            .build();
-                })
+        /*
+         * 맞팔로우 여부는 DB 에서 한 번에 조회
+         * - 결과가 서버 간 공유 캐시(followers)에 저장되므로 서버마다 재적재 시점이 다른 팔로우 그래프를 사용하지 않음
+         */
+        Set<Long> mutualFollowIds = new HashSet<>(followRepository.findMutualFollowIds(userId));
+
+        return followRepository.findFollowerProfilesByMemberId(userId).stream()
+                .map(follower -> FollowerUserDTO.builder()
+                        .id(follower.getId())
+                        .nickname(follower.getNickname())
+                        .imageUrl(follower.getImageUrl())
+                        .isFollowing(mutualFollowIds.contains(follower.getId()))
+                        .build())
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public OtherUserInfoResponseDTO getOtherUserInfo(Long userId) {
         // 해당 유저를 찾을 수 없을 경우 예외처리
-        Member targetMember = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        Member targetMember = findActiveMember(userId);
 
-        int followedCount = targetMember.getFollowing().size(); // 팔로잉 수 계산
-        int followerCount = targetMember.getFollowers().size(); // 팔로워 수 계산
-        int readBooksCount = readBooksRepository.findReadBooksByMemberId(userId).size(); // 읽은책 수 계산
-        int wishBooksCount = wishBooksRepository.findWishBooksByMemberId(userId).size(); // 읽고싶은책 수 계산
+        // 팔로잉/팔로워/읽은책/읽고싶은책 수는 회원 통계 카운터에서 조회
+        MemberStats stats = memberStatsService.getStats(userId);
 
         return OtherUserInfoResponseDTO.builder()
                 .id(targetMember.getId())
                 .nickname(targetMember.getNickname())
                 .imageUrl(targetMember.getImageUrl())
-                .followedCount(followedCount)
-                .followerCount(followerCount)
-                .readBooksCount(readBooksCount)
-                .wishBooksCount(wishBooksCount)
+                .followedCount(stats.getFollowingCnt())
+                .followerCount(stats.getFollowerCnt())
+                .readBooksCount(stats.getReadBooksCnt())
+                .wishBooksCount(stats.getWishBooksCnt())
                 .build();
     }
+
+    // 탈퇴한 회원(정리 대기 중 포함)은 없는 회원으로 처리 - 탈퇴 회원의 통계 행 재생성, 정리 중 팔로우 생성 방지
+    private Member findActiveMember(Long userId) {
+        return memberRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+    }
 }
@@ -0,0 +1,81 @@
+package com.core.book.api.member.service;
+
+import com.core.book.api.member.entity.MemberStats;
+import com.core.book.api.member.repository.MemberStatsRepository;
+import com.core.book.common.exception.NotFoundException;
+import com.core.book.common.response.ErrorStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class MemberStatsService {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public MemberStatsService(MemberStatsRepository memberStatsRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.memberStatsRepository = memberStatsRepository;
+
+        // 조회(readOnly) 트랜잭션 안에서도 통계 행을 초기화할 수 있도록 별도 트랜잭션 사용
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 신규 회원 통계 행 생성
+    @Transactional
+    public void createStats(Long memberId) {
+        memberStatsRepository.save(MemberStats.builder()
+                .memberId(memberId)
+                .build());
+    }
+
+    // 회원 통계 조회 (PK 조회 1회) - 통계 행이 없는 기존 회원은 실제 데이터로 한 번만 계산 후 저장
+    @Transactional(readOnly = true)
+    public MemberStats getStats(Long memberId) {
+        return memberStatsRepository.findById(memberId)
+                .orElseGet(() -> initStats(memberId));
+    }
+
+    // 계산과 행 생성은 한 문장 (동시 요청이 먼저 생성했으면 그 행을 그대로 조회)
+    private MemberStats initStats(Long memberId) {
+        return requiresNewTransaction.execute(status -> {
+            memberStatsRepository.initStats(memberId);
+            return memberStatsRepository.findById(memberId)
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        });
+    }
+
+    @Transactional
+    public void addReadBooks(Long memberId, int delta) {
+        memberStatsRepository.addReadBooksCnt(memberId, delta);
+    }
+
+    @Transactional
+    public void addWishBooks(Long memberId, int delta) {
+        memberStatsRepository.addWishBooksCnt(memberId, delta);
+    }
+
+    @Transactional
+    public void addArticle(Long memberId, int delta) {
+        memberStatsRepository.addArticleCnt(memberId, delta);
+    }
+
+    // 팔로우(+1) / 언팔로우(-1) 시 양쪽 회원의 카운터 갱신
+    @Transactional
+    public void addFollow(Long followerId, Long followingId, int delta) {
+        memberStatsRepository.addFollowingCnt(followerId, delta);
+        memberStatsRepository.addFollowerCnt(followingId, delta);
+    }
+
+    // 회원 탈퇴 시 통계 행 삭제 및 상대방 팔로우 카운터 보정 (팔로우 행이 삭제되기 전에 호출)
+    @Transactional
+    public void removeStats(Long memberId) {
+        memberStatsRepository.decreaseFollowerCntOfFollowings(memberId);
+        memberStatsRepository.decreaseFollowingCntOfFollowers(memberId);
+        memberStatsRepository.findById(memberId).ifPresent(memberStatsRepository::delete);
+    }
+}
@@ -0,0 +1,108 @@
+package com.core.book.api.member.service;
+
+import com.core.book.api.member.repository.MemberRepository;
+import com.core.book.common.exception.BadRequestException;
+import com.core.book.common.response.ErrorStatus;
+import com.core.book.common.util.AhoCorasick;
+import com.core.book.common.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class NicknameValidator {
+
+    private static final Pattern ALLOWED_PATTERN = Pattern.compile("^[a-zA-Z0-9가-힣]*$");
+    private static final int MAX_LENGTH = 10;
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final MemberRepository memberRepository;
+    private final AhoCorasick prohibitedWords;
+
+    private volatile BloomFilter takenNicknames; // 적재 전에는 null (항상 DB 조회)
+
+    public NicknameValidator(MemberRepository memberRepository,
+                             @Value("${member.prohibited-nicknames}") List<String> prohibitedNicknames) {
+        this.memberRepository = memberRepository;
+        this.prohibitedWords = new AhoCorasick(prohibitedNicknames);
+    }
+
+    // 길이, 허용 문자, 금칙어 검사 (DB 조회 없음)
+    public void validateFormat(String nickname) {
+        //10자 이하 인지 체크
+        if (nickname.length() > MAX_LENGTH) {
+            throw new BadRequestException(ErrorStatus.NOT_ALLOW_NICKNAME_FILTER_UNDER_10.getMessage());
+        }
+
+        //한글, 영어, 숫자만 허용
+        if (!ALLOWED_PATTERN.matcher(nickname).matches()) {
+            throw new BadRequestException(ErrorStatus.NOT_ALLOW_USERTAG_FILTER_ROLE.getMessage());
+        }
+
+        // 부적절한 닉네임 체크
+        if (prohibitedWords.containsAny(nickname)) {
+            throw new BadRequestException(ErrorStatus.NOT_ALLOW_USERTAG_FILTER_LIST.getMessage());
+        }
+    }
+
+    /*
+     * 닉네임 사용 여부
+     * - useFilter = true : Bloom Filter 에 없으면 DB 조회 없이 사용 가능으로 판단 (입력 중 중복 확인용)
+     *   마지막 재적재 이후 다른 서버에서 등록된 닉네임은 놓칠 수 있으므로 실제 변경 시에는 사용하지 않음
+     * - useFilter = false : 항상 DB 조회
+     */
+    public boolean isTaken(String nickname, boolean useFilter) {
+        BloomFilter filter = takenNicknames;
+        if (useFilter && filter != null && !filter.mightContain(normalize(nickname))) {
+            return false;
+        }
+        return memberRepository.existsByNickname(nickname);
+    }
+
+    // 신규 가입/닉네임 변경 시 필터에 추가
+    public void register(String nickname) {
+        BloomFilter filter = takenNicknames;
+        if (filter != null && nickname != null) {
+            filter.put(normalize(nickname));
+        }
+    }
+
+    // 전체 닉네임으로 필터 재구성 (변경/탈퇴로 해제된 닉네임 정리)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${member.nickname-filter.reload-interval-ms:3600000}")
+    public void reload() {
+        try {
+            long start = System.currentTimeMillis();
+            BloomFilter filter = new BloomFilter(Math.max(memberRepository.count() * 2, 100_000), FALSE_POSITIVE_RATE);
+
+            long lastId = 0L;
+            List<MemberRepository.MemberNickname> chunk;
+            do {
+                chunk = memberRepository.findNicknamesAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (MemberRepository.MemberNickname row : chunk) {
+                    if (row.getNickname() != null) {
+                        filter.put(normalize(row.getNickname()));
+                    }
+                    lastId = row.getId();
+                }
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+            takenNicknames = filter;
+            log.info("닉네임 필터 적재 완료 - {}ms", System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("닉네임 필터 적재 실패", e);
+        }
+    }
+
+    // DB 비교 규칙(대소문자 미구분)과 맞추기 위해 소문자로 정규화
+    private String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+}
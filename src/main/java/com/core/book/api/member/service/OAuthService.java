@@ -1,29 +1,46 @@
 package com.core.book.api.member.service;
 
 import com.core.book.api.member.dto.KakaoUserInfoDTO;
+import com.core.book.api.member.dto.kakao.KakaoTokenResponse;
+import com.core.book.api.member.dto.kakao.KakaoUserResponse;
 import com.core.book.common.exception.InternalServerException;
 import com.core.book.common.exception.UnauthorizedException;
 import com.core.book.common.response.ErrorStatus;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
-import java.io.IOException;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OAuthService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final String KAKAO_TOKEN_URL = "https://kauth.kakao.com/oauth/token";
+    private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+
+    private final RestClient kakaoRestClient;
+
+    /*
+     * 카카오 사용자 정보 단기 캐시 (키 : 엑세스토큰 SHA-256)
+     * - 푸시 알림 직후처럼 로그인이 몰릴 때 같은 토큰의 요청은 진행 중인 호출 하나를 함께 기다림
+     * - 실패한 호출은 캐시에 남지 않음
+     */
+    private final AsyncCache<String, KakaoUserInfoDTO> userInfoCache;
 
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String kakaoClientId;
@@ -34,14 +51,18 @@ public class OAuthService {
     @Value("${spring.security.oauth2.client.registration.kakao.redirect-uri}")
     private String kakaoRedirectUri;
 
+    public OAuthService(RestClient kakaoRestClient,
+                        @Value("${kakao.user-info-cache.ttl-seconds:60}") long cacheTtlSeconds,
+                        @Value("${kakao.user-info-cache.max-size:10000}") long cacheMaxSize) {
+        this.kakaoRestClient = kakaoRestClient;
+        this.userInfoCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaxSize)
+                .buildAsync();
+    }
+
     // 카카오에서 인가 코드를 이용해 액세스 토큰을 받아오는 메서드
     public String getKakaoAccessToken(String code) {
-        String url = "https://kauth.kakao.com/oauth/token";
-
-        // HttpHeaders 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
         // 파라미터 설정
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
@@ -50,78 +71,89 @@ public class OAuthService {
         params.add("code", code);
         params.add("client_secret", kakaoClientSecret);
 
-        // HttpEntity에 헤더와 파라미터 설정
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-        // 카카오 액세스 토큰 요청
-        ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-
-        if (response.getStatusCode().is2xxSuccessful()) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            try {
-                Map<String, Object> result = objectMapper.readValue(response.getBody(), Map.class);
-                return result.get("access_token").toString();
-            } catch (IOException e) {
-                throw new RuntimeException("카카오 액세스 토큰 파싱 중 오류 발생", e);
+        try {
+            // 카카오 액세스 토큰 요청
+            KakaoTokenResponse response = kakaoRestClient.post()
+                    .uri(KAKAO_TOKEN_URL)
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(params)
+                    .retrieve()
+                    .body(KakaoTokenResponse.class);
+
+            if (response == null || response.accessToken() == null) {
+                throw new InternalServerException(ErrorStatus.FAIL_REQUEST_KAKAO_ACCESSTOKEN.getMessage());
             }
-        } else {
-            throw new RuntimeException("카카오 액세스 토큰 요청 실패");
+            return response.accessToken();
+        } catch (RestClientException e) {
+            log.warn("카카오 액세스 토큰 요청 실패: {}", e.getMessage());
+            throw new InternalServerException(ErrorStatus.FAIL_REQUEST_KAKAO_ACCESSTOKEN.getMessage());
         }
     }
 
-    // 카카오 사용자 정보를 가져오는 메서드
+    // 카카오 사용자 정보를 가져오는 메서드 (단기 캐시 적용)
     public KakaoUserInfoDTO getKakaoUserInfo(String accessToken) {
-        String url = "https://kapi.kakao.com/v2/user/me";
+        String key = hash(accessToken);
 
-        // HttpHeaders 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken); // Bearer 토큰으로 인증
+        // 진행 중이거나 캐시된 결과가 있으면 재사용, 없으면 현재 요청 스레드에서 직접 호출
+        CompletableFuture<KakaoUserInfoDTO> pending = new CompletableFuture<>();
+        CompletableFuture<KakaoUserInfoDTO> existing = userInfoCache.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            return await(existing);
+        }
 
-        // HttpEntity에 헤더 추가
-        HttpEntity<String> request = new HttpEntity<>(headers);
+        try {
+            KakaoUserInfoDTO userInfo = fetchKakaoUserInfo(accessToken);
+            pending.complete(userInfo);
+            return userInfo;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
 
+    private KakaoUserInfoDTO fetchKakaoUserInfo(String accessToken) {
+        KakaoUserResponse response;
         try {
-            // 카카오 API 호출
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, request, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                // JSON 파싱
-                String body = response.getBody();
-                return parseKakaoUserInfo(body); // JSON 데이터를 KakaoUserInfoDTO로 변환
-            } else {
-                throw new InternalServerException(ErrorStatus.FAIL_PARSE_KAKAO_USER_INFO.getMessage());
-            }
+            // 카카오 API 호출 - 응답 스트림을 바로 DTO 로 변환
+            response = kakaoRestClient.get()
+                    .uri(KAKAO_USER_INFO_URL)
+                    .headers(headers -> headers.setBearerAuth(accessToken)) // Bearer 토큰으로 인증
+                    .retrieve()
+                    .body(KakaoUserResponse.class);
         } catch (HttpClientErrorException.Unauthorized e) {
             // 401 Unauthorized 처리
             throw new UnauthorizedException(ErrorStatus.INVALID_KAKAO_ACCESSTOKEN_EXCEPTION.getMessage());
-        } catch (HttpClientErrorException e) {
-            // 기타 에러 처리
+        } catch (RestClientException e) {
+            // 기타 에러 처리 (타임아웃 포함)
+            log.warn("카카오 사용자 정보 요청 실패: {}", e.getMessage());
             throw new InternalServerException(ErrorStatus.FAIL_REQUEST_KAKAO_USER_INFO.getMessage());
-        } catch (Exception e) {
-            throw new InternalServerException(ErrorStatus.SERVER_ERROR.getMessage());
         }
+
+        if (response == null || response.id() == null || response.kakaoAccount() == null) {
+            throw new InternalServerException(ErrorStatus.FAIL_PARSE_KAKAO_USER_INFO.getMessage());
+        }
+        return response.toUserInfo();
     }
 
-    // KakaoUserInfoDTO로 변환
-    private KakaoUserInfoDTO parseKakaoUserInfo(String body) {
+    // 다른 요청이 진행 중인 호출 결과 대기 (실패 시 원래 예외 그대로 전달)
+    private KakaoUserInfoDTO await(CompletableFuture<KakaoUserInfoDTO> future) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, Object> result = objectMapper.readValue(body, Map.class);
-
-            // 프로필 정보 추출
-            Map<String, Object> kakaoAccount = (Map<String, Object>) result.get("kakao_account");
-            Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
-
-            // 사용자 정보 생성
-            KakaoUserInfoDTO userInfo = new KakaoUserInfoDTO();
-            userInfo.setId(result.get("id").toString());
-            userInfo.setEmail(kakaoAccount.get("email") != null ? kakaoAccount.get("email").toString() : null);
-            userInfo.setNickname(profile.get("nickname") != null ? profile.get("nickname").toString() : null);
-            userInfo.setProfileImage(profile.get("thumbnail_image_url") != null ? profile.get("thumbnail_image_url").toString() : null);
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InternalServerException(ErrorStatus.SERVER_ERROR.getMessage());
+        }
+    }
 
-            return userInfo;
-        } catch (Exception e) {
-            throw new InternalServerException(ErrorStatus.FAIL_PARSE_KAKAO_USER_INFO.getMessage());
+    // 토큰 원문 대신 해시를 캐시 키로 사용
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -0,0 +1,368 @@
+package com.core.book.api.member.service;
+
+import com.core.book.api.member.dto.ProfileImageUploadUrlRequestDTO;
+import com.core.book.api.member.dto.ProfileImageUploadUrlResponseDTO;
+import com.core.book.api.member.repository.MemberRepository;
+import com.core.book.common.exception.BadRequestException;
+import com.core.book.common.exception.NotFoundException;
+import com.core.book.common.exception.ServiceUnavailableException;
+import com.core.book.common.response.ErrorStatus;
+import com.core.book.common.storage.ObjectStorage;
+import com.core.book.common.storage.StorageDeletionService;
+import com.core.book.common.util.ImageResizer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로필 이미지 업로드 처리
+ *
+ * 서버 경유 업로드 (멀티파트)
+ * - 요청 스레드에서는 검증 후 작업 등록만 하고 바로 응답 (202)
+ * - 대기 작업은 원본 바이트를 메모리에 들고 있으므로 작업 수가 아닌 대기 중인 총 바이트 수로 제한 (초과 시 503)
+ * - 작업 스레드(크기 제한 풀)에서 디코딩 후 썸네일 3종(64/160/480) 생성, 저장소에 동시 업로드
+ * - 업로드 완료 후 회원 이미지 URL 을 중간 크기(160)로 교체하고, 기존 이미지는 같은 트랜잭션에서 삭제 예약 (StorageDeletionService)
+ * - ImageIO 로 디코딩할 수 없는 형식(webp 등)은 원본 그대로 업로드
+ *
+ * 직접 업로드 (서명 URL)
+ * - 클라이언트가 서명 URL 로 저장소의 임시 경로(uploads)에 바로 PUT 하므로 업로드 요청이 API 서버를 거치지 않음
+ * - 완료 요청 시 키 소유자, 저장된 파일의 타입/크기(stat)와 앞부분 범위 조회로 파일 시그니처를 확인 (파일 전체를 내려받지 않음)
+ * - 저장소 내부 복사로 영구 경로(original)에 옮기고 회원 이미지를 바로 교체한 뒤 응답, 임시 파일은 삭제 예약
+ * - 썸네일은 작업 스레드에서 비동기로 생성하고, 그 사이 이미지가 바뀌지 않았으면 중간 크기(160)로 다시 교체 (원본은 삭제 예약)
+ *   이미지를 읽을 수 없으면 원본을 내리고 이미지를 비움 (webp 는 썸네일 없이 원본 사용)
+ * - 완료 요청 없이 남은 파일은 uploads 경로의 버킷 수명 주기 규칙으로 정리
+ */
+@Slf4j
+@Service
+public class ProfileImageService {
+
+    static final String DIR = "profile-images";
+    private static final String UPLOAD_DIR = DIR + "/uploads";
+    private static final Set<String> ALLOWED_TYPES = Set.of("image/jpeg", "image/png", "image/jpg", "image/bmp", "image/webp");
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final long MAX_PIXELS = 40_000_000L;
+    private static final int SIGNATURE_LENGTH = 12;
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] BMP_SIGNATURE = {'B', 'M'};
+    private static final byte[] RIFF_SIGNATURE = {'R', 'I', 'F', 'F'};
+    private static final byte[] WEBP_SIGNATURE = {'W', 'E', 'B', 'P'};
+
+    private final ObjectStorage objectStorage;
+    private final MemberRepository memberRepository;
+    private final StorageDeletionService storageDeletionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore pendingBytes; // 접수 후 처리가 끝나지 않은 업로드의 총 바이트 수 (permit = 1 바이트)
+
+    @Value("${profile-image.max-upload-bytes:10485760}")
+    private long maxUploadBytes;
+
+    @Value("${profile-image.upload-url-expiration-seconds:300}")
+    private long uploadUrlExpirationSeconds;
+
+    public ProfileImageService(ObjectStorage objectStorage,
+                               MemberRepository memberRepository,
+                               StorageDeletionService storageDeletionService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${profile-image.worker-threads:2}") int workerThreads,
+                               @Value("${profile-image.queue-capacity:100}") int queueCapacity,
+                               @Value("${profile-image.max-pending-bytes:104857600}") int maxPendingBytes) {
+        this.objectStorage = objectStorage;
+        this.memberRepository = memberRepository;
+        this.storageDeletionService = storageDeletionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pendingBytes = new Semaphore(maxPendingBytes);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "profile-image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // 업로드 요청 접수 (실제 처리는 백그라운드)
+    public void acceptUpload(Long userId, MultipartFile image) throws IOException {
+        // 파일 타입 검사 (이미지 파일만 허용)
+        String contentType = image.getContentType();
+        validateImage(contentType, image.getSize());
+
+        // 메모리로 읽기 전에 대기 바이트 한도 확보 (처리가 끝나면 반환)
+        int size = Math.toIntExact(image.getSize());
+        if (!pendingBytes.tryAcquire(size)) {
+            throw new ServiceUnavailableException(ErrorStatus.PROFILE_IMAGE_QUEUE_FULL.getMessage());
+        }
+        try {
+            // 멀티파트 임시 파일은 요청 종료 시 삭제되므로 먼저 메모리로 읽음
+            byte[] content = image.getBytes();
+            executor.execute(() -> {
+                try {
+                    process(userId, content, contentType);
+                } finally {
+                    pendingBytes.release(size);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingBytes.release(size);
+            throw new ServiceUnavailableException(ErrorStatus.PROFILE_IMAGE_QUEUE_FULL.getMessage());
+        } catch (IOException | RuntimeException e) {
+            pendingBytes.release(size);
+            throw e;
+        }
+    }
+
+    // 직접 업로드용 서명 URL 발급
+    public ProfileImageUploadUrlResponseDTO createUploadUrl(Long userId, ProfileImageUploadUrlRequestDTO request) {
+        if (request == null || request.getContentLength() == null) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
+        }
+        validateImage(request.getContentType(), request.getContentLength());
+
+        String key = uploadPrefix(userId) + UUID.randomUUID() + extensionOf(request.getContentType());
+        Duration expiration = Duration.ofSeconds(uploadUrlExpirationSeconds);
+        String uploadUrl = objectStorage.presignPut(key, request.getContentType(), request.getContentLength(), expiration);
+
+        return new ProfileImageUploadUrlResponseDTO(uploadUrl, key, LocalDateTime.now().plus(expiration));
+    }
+
+    // 직접 업로드 완료 - 저장된 파일 검증 후 회원 이미지 교체 (썸네일은 비동기 생성)
+    public void completeUpload(Long userId, String key) {
+        // 본인에게 발급된 경로의 키만 허용
+        if (key == null || !key.startsWith(uploadPrefix(userId)) || key.contains("..")) {
+            throw new BadRequestException(ErrorStatus.INVALID_PROFILE_IMAGE_KEY.getMessage());
+        }
+
+        ObjectStorage.StoredObject stored = objectStorage.stat(key)
+                .orElseThrow(() -> new BadRequestException(ErrorStatus.PROFILE_IMAGE_NOT_UPLOADED.getMessage()));
+        String contentType = stored.contentType();
+        String originalKey = DIR + "/" + UUID.randomUUID() + "/original" + (contentType == null ? "" : extensionOf(contentType));
+        boolean copied = false;
+        boolean replaced = false;
+        try {
+            validateImage(contentType, stored.contentLength());
+            // 선언한 형식과 실제 내용이 같은지 앞부분만 읽어 확인
+            if (!matchesSignature(contentType, objectStorage.getHead(key, SIGNATURE_LENGTH))) {
+                throw new BadRequestException(ErrorStatus.INVALID_PROFILE_IMAGE.getMessage());
+            }
+            objectStorage.copy(key, originalKey);
+            copied = true;
+            replaced = replaceImage(userId, null, objectStorage.getUrl(originalKey));
+        } finally {
+            // 처리 결과와 관계없이 임시 파일 삭제 예약 (성공 시 영구 경로에 사본이 있음)
+            deleteQuietly(copied && !replaced ? List.of(key, originalKey) : List.of(key));
+        }
+        if (!replaced) {
+            throw new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage());
+        }
+
+        if ("image/webp".equals(contentType)) {
+            return; // ImageIO 로 디코딩할 수 없으므로 원본 사용
+        }
+        try {
+            executor.execute(() -> createRenditions(userId, originalKey));
+        } catch (RejectedExecutionException e) {
+            log.warn("프로필 이미지 썸네일 생성 작업 등록 실패, 원본 이미지 사용 - userId={}", userId);
+        }
+    }
+
+    // 영구 경로에 옮긴 원본으로 썸네일 생성 후, 회원 이미지가 아직 원본이면 썸네일로 교체
+    private void createRenditions(Long userId, String originalKey) {
+        String originalUrl = objectStorage.getUrl(originalKey);
+        String prefix = originalKey.substring(0, originalKey.lastIndexOf('/'));
+        List<String> uploadedKeys = new ArrayList<>();
+        try {
+            BufferedImage source = ImageResizer.decode(objectStorage.get(originalKey), MAX_PIXELS);
+            if (source == null) {
+                throw new IOException("이미지를 읽을 수 없습니다.");
+            }
+            String imageKey = uploadRenditions(prefix, source, uploadedKeys);
+            if (!replaceImage(userId, originalUrl, objectStorage.getUrl(imageKey))) {
+                // 그 사이 다른 이미지로 바뀌었거나 탈퇴한 경우 (원본은 교체한 쪽에서 삭제 예약)
+                deleteQuietly(uploadedKeys);
+            }
+        } catch (IOException e) {
+            // 시그니처만 맞고 읽을 수 없는 파일이거나 해상도 초과 - 원본을 내리고 이미지를 비움
+            log.warn("프로필 이미지를 읽을 수 없어 원본을 삭제합니다 - userId={}, key={}", userId, originalKey, e);
+            deleteQuietly(uploadedKeys);
+            replaceImage(userId, originalUrl, null);
+        } catch (Exception e) {
+            log.error("프로필 이미지 썸네일 생성 실패, 원본 이미지 사용 - userId={}", userId, e);
+            deleteQuietly(uploadedKeys);
+        }
+    }
+
+    private void process(Long userId, byte[] content, String contentType) {
+        String prefix = DIR + "/" + UUID.randomUUID();
+        List<String> uploadedKeys = new ArrayList<>();
+        try {
+            String imageKey = upload(prefix, content, contentType, uploadedKeys);
+            if (!replaceImage(userId, null, objectStorage.getUrl(imageKey))) {
+                // 처리 중 탈퇴한 회원이면 올린 이미지 정리
+                deleteQuietly(uploadedKeys);
+            }
+        } catch (Exception e) {
+            log.error("프로필 이미지 처리 실패 - userId={}", userId, e);
+            deleteQuietly(uploadedKeys);
+        }
+    }
+
+    /*
+     * 회원 이미지 교체 및 기존 이미지 삭제 예약을 한 트랜잭션으로 처리 (탈퇴 등으로 회원이 없으면 false)
+     * - 기존 URL 조회 시 행을 잠가 같은 회원의 동시 교체를 직렬화하고, image_url 컬럼만 갱신
+     * - expectedUrl 이 있으면 현재 이미지가 그 URL 일 때만 교체 (비동기 썸네일 생성 중 다른 이미지로 바뀐 경우 false)
+     * - imageUrl 이 null 이면 이미지를 비움
+     */
+    private boolean replaceImage(Long userId, String expectedUrl, String imageUrl) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            String previousUrl = memberRepository.findImageUrlForUpdate(userId).orElse(null);
+            if (previousUrl == null || (expectedUrl != null && !expectedUrl.equals(previousUrl))) {
+                return false;
+            }
+            if (previousUrl.equals(imageUrl)) {
+                return true; // 같은 완료 요청이 반복된 경우
+            }
+            memberRepository.updateImageUrl(userId, imageUrl);
+            storageDeletionService.enqueue(findImageKeys(previousUrl.isEmpty() ? null : previousUrl));
+            return true;
+        }));
+    }
+
+    // 프로필 이미지 삭제 예약 (회원 탈퇴 시 호출한 쪽 트랜잭션에 참여)
+    public void scheduleDeletion(String imageUrl) {
+        storageDeletionService.enqueue(findImageKeys(imageUrl));
+    }
+
+    private void validateImage(String contentType, long contentLength) {
+        if (contentType == null || !ALLOWED_TYPES.contains(contentType)) {
+            throw new BadRequestException(ErrorStatus.NOT_ALLOW_IMG_MIME.getMessage());
+        }
+        if (contentLength <= 0 || contentLength > maxUploadBytes) {
+            throw new BadRequestException(ErrorStatus.NOT_ALLOW_IMG_SIZE.getMessage());
+        }
+    }
+
+    private static String uploadPrefix(Long userId) {
+        return UPLOAD_DIR + "/" + userId + "/";
+    }
+
+    /*
+     * 썸네일 생성 후 동시 업로드, 회원 이미지로 사용할 키 반환
+     * - 디코딩할 수 없는 형식은 원본을 그대로 저장
+     */
+    private String upload(String prefix, byte[] content, String contentType, List<String> uploadedKeys) throws IOException {
+        BufferedImage source = ImageResizer.decode(content, MAX_PIXELS);
+        if (source == null) {
+            String key = prefix + "/original" + extensionOf(contentType);
+            uploadedKeys.add(key);
+            objectStorage.putAsync(key, content, contentType).join();
+            return key;
+        }
+        return uploadRenditions(prefix, source, uploadedKeys);
+    }
+
+    private String uploadRenditions(String prefix, BufferedImage source, List<String> uploadedKeys) throws IOException {
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+        for (Rendition rendition : Rendition.values()) {
+            byte[] encoded = ImageResizer.encodeJpeg(ImageResizer.resizeToFit(source, rendition.size), JPEG_QUALITY);
+            String key = rendition.key(prefix);
+            uploadedKeys.add(key);
+            uploads.add(objectStorage.putAsync(key, encoded, "image/jpeg"));
+        }
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        return Rendition.MEDIUM.key(prefix);
+    }
+
+    // 이미지 URL 의 저장소 키 (썸네일 세트면 모든 크기, 이전 방식 원본이면 해당 파일만)
+    private List<String> findImageKeys(String imageUrl) {
+        return objectStorage.extractKey(imageUrl)
+                .map(key -> {
+                    String mediumSuffix = "/" + Rendition.MEDIUM.size + ".jpg";
+                    if (key.startsWith(DIR + "/") && key.endsWith(mediumSuffix)) {
+                        String prefix = key.substring(0, key.length() - mediumSuffix.length());
+                        return Arrays.stream(Rendition.values()).map(rendition -> rendition.key(prefix)).toList();
+                    }
+                    return List.of(key);
+                })
+                .orElse(List.of());
+    }
+
+    // 사용하지 않게 된 파일 삭제 예약 (실패해도 요청 처리에는 영향 없음)
+    private void deleteQuietly(List<String> keys) {
+        try {
+            storageDeletionService.enqueue(keys);
+        } catch (RuntimeException e) {
+            log.warn("프로필 이미지 삭제 예약 실패 - keys={}", keys, e);
+        }
+    }
+
+    // 파일 앞부분의 시그니처가 선언한 형식과 일치하는지 여부
+    private static boolean matchesSignature(String contentType, byte[] head) {
+        return switch (contentType) {
+            case "image/png" -> startsWith(head, 0, PNG_SIGNATURE);
+            case "image/bmp" -> startsWith(head, 0, BMP_SIGNATURE);
+            case "image/webp" -> startsWith(head, 0, RIFF_SIGNATURE) && startsWith(head, 8, WEBP_SIGNATURE);
+            default -> startsWith(head, 0, JPEG_SIGNATURE);
+        };
+    }
+
+    private static boolean startsWith(byte[] content, int offset, byte[] signature) {
+        return content.length >= offset + signature.length
+                && Arrays.equals(content, offset, offset + signature.length, signature, 0, signature.length);
+    }
+
+    private static String extensionOf(String contentType) {
+        return switch (contentType) {
+            case "image/png" -> ".png";
+            case "image/bmp" -> ".bmp";
+            case "image/webp" -> ".webp";
+            default -> ".jpg";
+        };
+    }
+
+    enum Rendition {
+        SMALL(64),
+        MEDIUM(160),
+        LARGE(480);
+
+        private final int size;
+
+        Rendition(int size) {
+            this.size = size;
+        }
+
+        String key(String prefix) {
+            return prefix + "/" + size + ".jpg";
+        }
+    }
+}
@@ -1,65 +1,164 @@
 package com.core.book.api.member.service;
 
+import com.core.book.common.storage.ObjectStorage;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
-public class S3Service {
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3Service implements ObjectStorage {
+    private static final int DELETE_OBJECTS_LIMIT = 1000; // DeleteObjects 요청당 최대 키 수
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+
     @Value("${cloud.aws.s3.bucketName}")
     private String bucketName; // S3 버킷
 
     @Value("${rhkr8521.cdn-domain}")
     private String cdnDomain; // CDN 도메인
 
-    public String uploadFile(String email, MultipartFile file) throws IOException {
-        String dir = "profile-images";
-        // 현재 날짜와 시간 가져오기
-        String currentDateTime = new SimpleDateFormat("yyyy-MM-dd_HH:mm:ss").format(new Date());
-        // 파일 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+    // 공개 읽기는 CDN(버킷 정책)으로 제공하므로 객체 ACL 은 지정하지 않음
+    @Override
+    public CompletableFuture<Void> putAsync(String key, byte[] content, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromBytes(content))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public void delete(String key) {
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        s3Client.deleteObject(deleteObjectRequest);
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build(), ResponseTransformer.toBytes()).asByteArray();
+    }
+
+    @Override
+    public byte[] getHead(String key, int length) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range("bytes=0-" + (length - 1))
+                .build(), ResponseTransformer.toBytes()).asByteArray();
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucketName)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucketName)
+                .destinationKey(targetKey)
+                .build());
+    }
+
+    // 최대 1000건씩 한 번의 요청으로 삭제 (quiet 모드 - 실패한 키만 응답)
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        Map<String, String> failures = new HashMap<>();
+        List<String> keyList = new ArrayList<>(keys);
+        for (int from = 0; from < keyList.size(); from += DELETE_OBJECTS_LIMIT) {
+            List<ObjectIdentifier> objects = keyList.subList(from, Math.min(from + DELETE_OBJECTS_LIMIT, keyList.size())).stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+            response.errors().forEach(error -> failures.put(error.key(), error.code() + ": " + error.message()));
         }
-        // 이메일 + 현재날짜 + 현재시간 + 확장자 형식으로 파일 이름 설정
-        String fileName = email + "_" + currentDateTime + extension;
-        // 난수 문자열 생성 (예: 16자 길이)
-        String randomString = RandomStringUtils.randomAlphanumeric(16);
-        // 파일 경로에 난수 문자열 포함
-        String fileKey = dir + "/" + randomString + "/" + fileName;
-        // 파일 업로드 시 퍼블릭 읽기 권한을 추가
+        return failures;
+    }
+
+    // ACL 을 지정하면 x-amz-acl 이 서명 헤더에 포함되어 클라이언트가 같은 헤더를 보내야 하므로 지정하지 않음
+    @Override
+    public String presignPut(String key, String contentType, long contentLength, Duration expiration) {
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
-                .key(fileKey)
-                .acl("public-read")
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
                 .build();
-        // S3 버킷에 이미지 저장
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-        // CDN 도메인을 사용한 이미지 URL 반환
-        return cdnDomain + "/" + fileKey;
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(expiration)
+                .putObjectRequest(putObjectRequest)
+                .build();
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
     }
-    public void deleteFile(String imageUrl) {
-        // 만약 사용자의 image_url이 CDN 도메인 으로 시작한다면 해당 이미지를 버킷에서 삭제
-        if (imageUrl != null && imageUrl.startsWith(cdnDomain)) {
-            String fileKey = imageUrl.replace(cdnDomain + "/", "");
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
                     .bucket(bucketName)
-                    .key(fileKey)
-                    .build();
-            s3Client.deleteObject(deleteObjectRequest);
+                    .key(key)
+                    .build());
+            return Optional.of(new StoredObject(response.contentType(), response.contentLength()));
+        } catch (S3Exception e) {
+            // HEAD 요청은 응답 본문이 없으므로 상태 코드로 판별
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    // CDN 도메인을 사용한 이미지 URL 반환
+    @Override
+    public String getUrl(String key) {
+        return cdnDomain + "/" + key;
+    }
+
+    // 만약 URL이 CDN 도메인 으로 시작한다면 버킷의 파일 키 반환
+    @Override
+    public Optional<String> extractKey(String url) {
+        if (url == null || !url.startsWith(cdnDomain + "/")) {
+            return Optional.empty();
         }
+        return Optional.of(url.substring(cdnDomain.length() + 1));
     }
-}
\ No newline at end of file
+}
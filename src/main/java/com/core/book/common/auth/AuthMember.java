@@ -0,0 +1,23 @@
+package com.core.book.common.auth;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증된 회원 정보 (SecurityContext principal)
+ * - JwtAuthenticationProcessingFilter 에서 토큰 클레임으로 생성
+ * - username 은 기존과 동일하게 이메일, id 는 회원 ID
+ */
+@Getter
+public class AuthMember extends User {
+
+    private final Long id;
+
+    public AuthMember(Long id, String email, Collection<? extends GrantedAuthority> authorities) {
+        super(email, "", authorities); // 토큰 인증이므로 비밀번호 미사용
+        this.id = id;
+    }
+}
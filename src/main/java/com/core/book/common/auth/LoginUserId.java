@@ -0,0 +1,17 @@
+package com.core.book.common.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 회원 ID 주입 (컨트롤러 파라미터)
+ * - required = false 인 경우 미인증 요청이면 null
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUserId {
+
+    boolean required() default true;
+}
@@ -0,0 +1,38 @@
+package com.core.book.common.auth;
+
+import com.core.book.common.exception.UnauthorizedException;
+import com.core.book.common.response.ErrorStatus;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// @LoginUserId Long 파라미터에 현재 요청의 인증 회원 ID 주입 (DB 조회 없음)
+@Component
+public class LoginUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthMember authMember) {
+            return authMember.getId();
+        }
+
+        LoginUserId annotation = parameter.getParameterAnnotation(LoginUserId.class);
+        if (annotation != null && !annotation.required()) {
+            return null;
+        }
+        throw new UnauthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
+    }
+}
@@ -0,0 +1,7 @@
+package com.core.book.common.cache;
+
+import java.util.List;
+
+// 서버 간 캐시 무효화 메시지 (origin : 발행 서버 식별자)
+public record CacheInvalidationMessage(String origin, List<String> keys) {
+}
@@ -0,0 +1,100 @@
+package com.core.book.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 캐시 무효화
+ * - 영향받는 모든 캐시 키를 DEL 명령 1회로 삭제
+ * - 다른 서버의 로컬(near) 캐시는 Redis Pub/Sub 으로 무효화 메시지를 전파
+ */
+@Slf4j
+@Service
+public class CacheInvalidationService implements MessageListener {
+
+    public static final String CHANNEL = "cache:invalidation";
+    private static final String KEY_SEPARATOR = "::"; // RedisCacheManager 기본 키 접두사 형식
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<NearCacheInvalidator> nearCacheInvalidators;
+
+    // 자신이 발행한 메시지를 구분하기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationService(StringRedisTemplate stringRedisTemplate,
+                                    ObjectMapper objectMapper,
+                                    ObjectProvider<NearCacheInvalidator> nearCacheInvalidators) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.nearCacheInvalidators = nearCacheInvalidators;
+    }
+
+    public static String cacheKey(String cacheName, Object key) {
+        return cacheName + KEY_SEPARATOR + key;
+    }
+
+    // 여러 캐시의 여러 키를 한 번에 무효화 (예: followers/following/userInfo x 양쪽 회원)
+    public void evict(Collection<String> cacheNames, Collection<?> keys) {
+        Set<String> cacheKeys = new LinkedHashSet<>();
+        for (String cacheName : cacheNames) {
+            for (Object key : keys) {
+                cacheKeys.add(cacheKey(cacheName, key));
+            }
+        }
+        evictKeys(cacheKeys);
+    }
+
+    public void evictKeys(Collection<String> cacheKeys) {
+        if (cacheKeys.isEmpty()) {
+            return;
+        }
+
+        // 로컬 캐시 먼저 무효화 후 Redis 삭제
+        invalidateNearCaches(cacheKeys);
+        stringRedisTemplate.delete(cacheKeys);
+
+        broadcast(cacheKeys);
+    }
+
+    // 다른 서버에 로컬 캐시 무효화만 전파 (Redis 값은 호출한 쪽에서 이미 반영한 경우)
+    public void broadcast(Collection<String> cacheKeys) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, new ArrayList<>(cacheKeys)));
+            stringRedisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (JsonProcessingException e) {
+            log.error("캐시 무효화 메시지 직렬화 실패 - keys={}", cacheKeys, e);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 서버의 로컬 캐시는 TTL 만료로 정리됨
+            log.warn("캐시 무효화 메시지 발행 실패 - keys={}", cacheKeys, e);
+        }
+    }
+
+    // 다른 서버가 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+            if (nodeId.equals(invalidation.origin())) {
+                return;
+            }
+            invalidateNearCaches(invalidation.keys());
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    private void invalidateNearCaches(Collection<String> cacheKeys) {
+        nearCacheInvalidators.orderedStream().forEach(invalidator -> invalidator.invalidate(cacheKeys));
+    }
+}
@@ -0,0 +1,62 @@
+package com.core.book.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 정책
+ * - 캐시 이름별 설정이 없거나 일부 항목만 있으면 defaults 값 사용
+ *
+ * cache.defaults.ttl=5m
+ * cache.policies.followers.ttl=10m
+ * cache.policies.followers.ttl-jitter=0.2
+ * cache.policies.followers.local-maximum-size=50000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    private Policy defaults = Policy.defaults();
+    private Map<String, Policy> policies = new HashMap<>();
+
+    public Policy policyFor(String cacheName) {
+        Policy policy = policies.get(cacheName);
+        return policy != null ? policy.withDefaults(defaults) : defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Duration ttl;               // Redis(L2) 유지 시간
+        private Double ttlJitter;           // 유지 시간에 더할 무작위 비율 (0.1 -> 최대 +10%), 동시 만료 방지
+        private Long localMaximumSize;      // 로컬(L1) 최대 항목 수
+        private Duration localTtl;          // 로컬(L1) 유지 시간 - 무효화 메시지 유실 대비로 L2 보다 짧게
+        private Boolean cacheNulls;         // null 결과 캐시 여부
+
+        static Policy defaults() {
+            Policy policy = new Policy();
+            policy.ttl = Duration.ofMinutes(5);
+            policy.ttlJitter = 0.1;
+            policy.localMaximumSize = 10_000L;
+            policy.localTtl = Duration.ofSeconds(60);
+            policy.cacheNulls = false;
+            return policy;
+        }
+
+        Policy withDefaults(Policy defaults) {
+            Policy merged = new Policy();
+            merged.ttl = ttl != null ? ttl : defaults.ttl;
+            merged.ttlJitter = ttlJitter != null ? ttlJitter : defaults.ttlJitter;
+            merged.localMaximumSize = localMaximumSize != null ? localMaximumSize : defaults.localMaximumSize;
+            merged.localTtl = localTtl != null ? localTtl : defaults.localTtl;
+            merged.cacheNulls = cacheNulls != null ? cacheNulls : defaults.cacheNulls;
+            return merged;
+        }
+    }
+}
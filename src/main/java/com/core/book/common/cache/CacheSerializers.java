@@ -0,0 +1,64 @@
+package com.core.book.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+// 캐시 값 직렬화기 생성 (CacheConfig, 벤치마크에서 같은 설정 사용)
+public final class CacheSerializers {
+
+    private CacheSerializers() {
+    }
+
+    // 이전 형식 : 타입 정보를 포함한 JSON
+    public static GenericJackson2JsonRedisSerializer legacyJson() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        // Configure ObjectMapper to include 타입 정보
+        objectMapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        // null 캐시 값(NullValue)은 속성이 없어 기본 설정으로는 직렬화할 수 없으므로 Smile 과 같이 전용 직렬화기 등록
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(objectMapper, null);
+
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    public static VersionedCacheSerializer versioned(int compressionThreshold, boolean writeBinary) {
+        return new VersionedCacheSerializer(smileMapper(), legacyJson(), compressionThreshold, writeBinary);
+    }
+
+    /*
+     * Smile ObjectMapper
+     * - 반복되는 문자열 값(클래스 이름 등)도 참조로 기록
+     * - getter 대신 필드 기준으로 직렬화하여 API 응답 형식(is 접두사 getter 등)과 무관하게 그대로 복원
+     */
+    static ObjectMapper smileMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        ObjectMapper objectMapper = new ObjectMapper(smileFactory);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(objectMapper, null);
+        return objectMapper;
+    }
+}
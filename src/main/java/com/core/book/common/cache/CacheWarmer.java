@@ -0,0 +1,15 @@
+package com.core.book.common.cache;
+
+import java.util.List;
+
+/**
+ * 기동 시 캐시 예열 대상
+ * - 작업 하나가 캐시 키 하나를 채우도록 나누어 반환 (CacheWarmupRunner 가 제한된 병렬도로 실행)
+ * - 앞쪽 작업부터 실행되므로 중요한 키(조회 수 상위)를 먼저 반환
+ */
+public interface CacheWarmer {
+
+    String name();
+
+    List<Runnable> warmupTasks();
+}
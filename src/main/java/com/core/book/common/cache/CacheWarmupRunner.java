@@ -0,0 +1,133 @@
+package com.core.book.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 시 캐시 예열
+ * - ApplicationRunner 는 ApplicationReadyEvent 이전에 실행되므로 예열이 끝날 때까지 readiness 는 REFUSING_TRAFFIC 유지
+ *   (배포 직후 빈 캐시로 트래픽을 받아 DB 부하가 몰리는 것 방지)
+ * - 예열 대상별 작업을 번갈아 섞어 제한된 병렬도로 배치 실행, 전체 시간 제한을 넘기면 남은 작업은 취소하고 기동 진행
+ * - 예열 실패는 기동을 막지 않음 (캐시 미스로 처리)
+ */
+@Slf4j
+@Component
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    private final ObjectProvider<CacheWarmer> cacheWarmers;
+
+    @Value("${cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.warmup.parallelism:4}")
+    private int parallelism;
+
+    @Value("${cache.warmup.time-budget:30s}")
+    private Duration timeBudget;
+
+    public CacheWarmupRunner(ObjectProvider<CacheWarmer> cacheWarmers) {
+        this.cacheWarmers = cacheWarmers;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + timeBudget.toNanos();
+
+        List<Runnable> tasks = collectTasks();
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        int succeeded = 0;
+        int failed = 0;
+        int skipped = 0;
+        try {
+            int batchSize = parallelism * 4;
+            for (int from = 0; from < tasks.size(); from += batchSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    skipped += tasks.size() - from;
+                    break;
+                }
+
+                List<Callable<Void>> batch = tasks.subList(from, Math.min(from + batchSize, tasks.size())).stream()
+                        .map(task -> (Callable<Void>) () -> {
+                            task.run();
+                            return null;
+                        })
+                        .toList();
+
+                // 시간 제한 안에 끝나지 않은 작업은 취소됨
+                for (Future<Void> future : executor.invokeAll(batch, remaining, TimeUnit.NANOSECONDS)) {
+                    if (future.isCancelled()) {
+                        skipped++;
+                        continue;
+                    }
+                    try {
+                        future.get();
+                        succeeded++;
+                    } catch (ExecutionException e) {
+                        failed++;
+                        log.debug("캐시 예열 작업 실패", e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("캐시 예열 완료 - 성공={}, 실패={}, 생략={}, 소요={}ms",
+                succeeded, failed, skipped, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // 예열 대상별 작업을 번갈아 배치하여 시간 제한에 걸려도 대상마다 상위 키는 채워지도록 함
+    private List<Runnable> collectTasks() {
+        List<Iterator<Runnable>> iterators = new ArrayList<>();
+        cacheWarmers.orderedStream().forEach(warmer -> {
+            try {
+                iterators.add(warmer.warmupTasks().iterator());
+            } catch (RuntimeException e) {
+                log.warn("캐시 예열 대상 조회 실패 - {}", warmer.name(), e);
+            }
+        });
+
+        List<Runnable> tasks = new ArrayList<>();
+        while (!iterators.isEmpty()) {
+            Iterator<Iterator<Runnable>> it = iterators.iterator();
+            while (it.hasNext()) {
+                Iterator<Runnable> warmerTasks = it.next();
+                if (warmerTasks.hasNext()) {
+                    tasks.add(warmerTasks.next());
+                } else {
+                    it.remove();
+                }
+            }
+        }
+        return tasks;
+    }
+}
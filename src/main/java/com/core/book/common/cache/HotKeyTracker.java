@@ -0,0 +1,128 @@
+package com.core.book.common.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 많이 조회되는 캐시 키 기록 (기동 시 캐시 예열 대상)
+ * - 요청마다 Redis 를 호출하지 않도록 서버 메모리에서 집계 후 주기적으로 한 번에 반영 (파이프라인)
+ * - 날짜별 ZSET(hot-keys:{분류}:{yyyyMMdd}, score = 조회 수)에 누적하여 오래된 인기 키는 자연스럽게 빠짐
+ * - 조회 시 오늘과 어제 집계를 합산하여 상위 키 반환
+ */
+@Slf4j
+@Component
+public class HotKeyTracker {
+
+    private static final String KEY_PREFIX = "hot-keys:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Duration RETENTION = Duration.ofDays(2);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int maxKeysPerDay;
+
+    // 분류 -> (키 -> 조회 수)
+    private final Map<String, Map<String, LongAdder>> pending = new ConcurrentHashMap<>();
+
+    public HotKeyTracker(StringRedisTemplate stringRedisTemplate,
+                         @Value("${cache.hot-keys.max-keys-per-day:5000}") int maxKeysPerDay) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxKeysPerDay = maxKeysPerDay;
+    }
+
+    public void record(String category, Object key) {
+        if (key == null) {
+            return;
+        }
+        pending.computeIfAbsent(category, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(String.valueOf(key), ignored -> new LongAdder())
+                .increment();
+    }
+
+    // 오늘 + 어제 조회 수 합산 상위 키 (조회 수 내림차순)
+    public List<String> top(String category, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<String, Double> scores = new HashMap<>();
+        for (LocalDate day : List.of(today, today.minusDays(1))) {
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(dailyKey(category, day), 0, limit - 1);
+            if (entries == null) {
+                continue;
+            }
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    scores.merge(entry.getValue(), entry.getScore(), Double::sum);
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.hot-keys.flush-interval-ms:60000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 집계 중인 맵을 분리한 뒤 반영 (반영 중 들어온 조회는 다음 주기에 반영)
+        Map<String, Map<String, Long>> snapshot = new HashMap<>();
+        for (String category : new ArrayList<>(pending.keySet())) {
+            Map<String, LongAdder> counts = pending.remove(category);
+            if (counts == null) {
+                continue;
+            }
+            Map<String, Long> values = new HashMap<>();
+            counts.forEach((key, count) -> values.put(key, count.sum()));
+            snapshot.put(category, values);
+        }
+
+        LocalDate today = LocalDate.now();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                snapshot.forEach((category, counts) -> {
+                    String key = dailyKey(category, today);
+                    counts.forEach((member, count) -> stringConnection.zIncrBy(key, count, member));
+                    // 하위 키는 잘라내어 ZSET 크기 제한
+                    stringConnection.zRemRange(key, 0, -(maxKeysPerDay + 1L));
+                    stringConnection.expire(key, RETENTION.toSeconds());
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 인기 키 집계는 예열 용도이므로 유실되어도 서비스에는 영향 없음
+            log.warn("인기 캐시 키 반영 실패 - categories={}", snapshot.keySet(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private static String dailyKey(String category, LocalDate day) {
+        return KEY_PREFIX + category + ":" + day.format(DAY_FORMAT);
+    }
+}
@@ -0,0 +1,26 @@
+package com.core.book.common.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 기본 유지 시간에 무작위 추가 시간을 더해 같은 시점에 채워진 키들이 한꺼번에 만료되지 않도록 분산
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final long baseMillis;
+    private final long maxJitterMillis;
+
+    public JitteredTtlFunction(Duration ttl, double jitter) {
+        this.baseMillis = ttl.toMillis();
+        this.maxJitterMillis = (long) (baseMillis * Math.max(0, jitter));
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        if (maxJitterMillis <= 0) {
+            return Duration.ofMillis(baseMillis);
+        }
+        return Duration.ofMillis(baseMillis + ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+    }
+}
@@ -0,0 +1,12 @@
+package com.core.book.common.cache;
+
+import java.util.Collection;
+
+/**
+ * 서버 로컬(near) 캐시 무효화 대상
+ * - 키 형식은 Redis 캐시와 동일한 "캐시이름::키"
+ */
+public interface NearCacheInvalidator {
+
+    void invalidate(Collection<String> cacheKeys);
+}
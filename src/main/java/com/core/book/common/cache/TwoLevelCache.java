@@ -0,0 +1,206 @@
+package com.core.book.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2단계 캐시 (L1 : 서버 로컬 Caffeine, L2 : Redis)
+ * - 조회 : L1 -> L2 -> 원본 순서, 하위 단계에서 찾으면 L1 에 채움
+ * - 변경(put/evict/clear) : L2 반영 후 L1 을 지우고 다른 서버에 무효화 메시지 전파
+ * - L1 키는 Redis 캐시 키와 같은 문자열 형식을 사용하여 무효화 메시지의 키로 바로 찾을 수 있도록 함
+ * - 캐시 이름별 적중/미스(단계별), 저장, 삭제, 원본 조회 시간 지표 기록
+ */
+public class TwoLevelCache implements Cache {
+
+    static final String ALL_KEYS = "*";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final boolean cacheNulls;
+    private final CacheInvalidationService cacheInvalidationService;
+
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter explicitEvictions;
+    private final Timer loadSuccess;
+    private final Timer loadFailure;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         Cache remote,
+                         boolean cacheNulls,
+                         CacheInvalidationService cacheInvalidationService,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.cacheNulls = cacheNulls;
+        this.cacheInvalidationService = cacheInvalidationService;
+
+        this.localHits = gets(meterRegistry, "hit", "local");
+        this.remoteHits = gets(meterRegistry, "hit", "remote");
+        this.misses = gets(meterRegistry, "miss", "none");
+        this.puts = Counter.builder("cache.puts").tag("cache", name).register(meterRegistry);
+        this.explicitEvictions = TwoLevelCacheManager.evictions(meterRegistry, name, "explicit");
+        this.loadSuccess = loads(meterRegistry, "success");
+        this.loadFailure = loads(meterRegistry, "failure");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(fromLocal(value));
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            misses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        putLocal(localKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 다릅니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    // @Cacheable(sync = true) 경로 - 같은 키의 동시 요청은 원본 조회 1회만 수행
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return (T) fromLocal(value);
+        }
+
+        boolean[] loaded = new boolean[1];
+        T result = remote.get(key, () -> {
+            loaded[0] = true;
+            return load(valueLoader);
+        });
+        if (!loaded[0]) {
+            remoteHits.increment();
+        }
+        putLocal(localKey, result);
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        puts.increment();
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        putLocal(localKey, value);
+        cacheInvalidationService.broadcast(List.of(CacheInvalidationService.cacheKey(name, localKey)));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        explicitEvictions.increment();
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        cacheInvalidationService.broadcast(List.of(CacheInvalidationService.cacheKey(name, localKey)));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        explicitEvictions.increment();
+        local.invalidateAll();
+        cacheInvalidationService.broadcast(List.of(CacheInvalidationService.cacheKey(name, ALL_KEYS)));
+    }
+
+    // 다른 서버의 변경 또는 CacheInvalidationService 를 통한 삭제 반영 (L1 만)
+    void invalidateLocal(String localKey) {
+        if (ALL_KEYS.equals(localKey)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private <T> T load(Callable<T> valueLoader) throws Exception {
+        misses.increment();
+        long start = System.nanoTime();
+        try {
+            T value = valueLoader.call();
+            loadSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return value;
+        } catch (Exception e) {
+            loadFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    // Caffeine 은 null 을 저장할 수 없으므로 null 캐시 허용 시 NullValue 로 대체
+    private void putLocal(String localKey, Object value) {
+        if (value != null) {
+            local.put(localKey, value);
+        } else if (cacheNulls) {
+            local.put(localKey, NullValue.INSTANCE);
+        }
+    }
+
+    private static Object fromLocal(Object value) {
+        return value == NullValue.INSTANCE ? null : value;
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String result, String level) {
+        return Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("result", result)
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+
+    private Timer loads(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("cache.load")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,100 @@
+package com.core.book.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬(Caffeine) + Redis 2단계 CacheManager
+ * - 캐시는 처음 요청될 때 생성되며, 로컬 캐시 크기/유지 시간과 null 캐시 여부는 CacheProperties 의 캐시별 정책을 따름
+ *   (Redis 유지 시간은 RedisCacheManager 의 캐시별 설정에 반영)
+ * - NearCacheInvalidator 로 등록되어 다른 서버의 무효화 메시지를 로컬 캐시에 반영
+ */
+public class TwoLevelCacheManager implements CacheManager, NearCacheInvalidator {
+
+    private static final String KEY_SEPARATOR = "::";
+
+    private final RedisCacheManager redisCacheManager;
+    private final CacheProperties cacheProperties;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                CacheProperties cacheProperties,
+                                CacheInvalidationService cacheInvalidationService,
+                                MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.cacheProperties = cacheProperties;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        CacheProperties.Policy policy = cacheProperties.policyFor(name);
+        Counter sizeEvictions = evictions(meterRegistry, name, "size");
+        Counter expiredEvictions = evictions(meterRegistry, name, "expired");
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(policy.getLocalMaximumSize())
+                .expireAfterWrite(policy.getLocalTtl())
+                .removalListener((String key, Object value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        sizeEvictions.increment();
+                    } else if (cause == RemovalCause.EXPIRED) {
+                        expiredEvictions.increment();
+                    }
+                })
+                .build();
+
+        Gauge.builder("cache.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .tag("level", "local")
+                .register(meterRegistry);
+
+        return new TwoLevelCache(name, local, redisCacheManager.getCache(name), policy.getCacheNulls(),
+                cacheInvalidationService, meterRegistry);
+    }
+
+    static Counter evictions(MeterRegistry meterRegistry, String cacheName, String cause) {
+        return Counter.builder("cache.evictions")
+                .tag("cache", cacheName)
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    // "캐시이름::키" 형식의 무효화 대상을 로컬 캐시에서 제거 (생성되지 않은 캐시는 무시)
+    @Override
+    public void invalidate(Collection<String> cacheKeys) {
+        for (String cacheKey : cacheKeys) {
+            int separator = cacheKey.indexOf(KEY_SEPARATOR);
+            if (separator < 0) {
+                continue;
+            }
+            TwoLevelCache cache = caches.get(cacheKey.substring(0, separator));
+            if (cache != null) {
+                cache.invalidateLocal(cacheKey.substring(separator + KEY_SEPARATOR.length()));
+            }
+        }
+    }
+}
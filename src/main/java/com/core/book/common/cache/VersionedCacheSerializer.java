@@ -0,0 +1,121 @@
+package com.core.book.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 캐시 값 직렬화 (버전 헤더 + Smile 바이너리 + 큰 값은 LZ4 압축)
+ *
+ * 저장 형식 : [MAGIC][VERSION][FLAGS][원본 길이(4byte, 압축 시)][본문]
+ * - Smile 은 속성 이름과 반복되는 문자열(타입 정보의 클래스 이름 포함)을 한 번만 기록하고 이후 참조로 대체
+ * - 헤더가 없는 값은 이전 JSON 형식으로 보고 기존 직렬화기로 읽음 (배포 중 두 형식 공존)
+ * - writeBinary=false 로 먼저 배포하면 모든 서버가 새 형식을 읽을 수 있게 된 뒤 바이너리 기록으로 전환 가능
+ */
+public class VersionedCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xCB;
+    static final byte VERSION = 1;
+    static final byte FLAG_PLAIN = 0;
+    static final byte FLAG_LZ4 = 1;
+    private static final int HEADER_SIZE = 3;
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThreshold;
+    private final boolean writeBinary;
+
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public VersionedCacheSerializer(ObjectMapper smileMapper,
+                                    RedisSerializer<Object> legacySerializer,
+                                    int compressionThreshold,
+                                    boolean writeBinary) {
+        this.smileMapper = smileMapper;
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+        this.writeBinary = writeBinary;
+
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!writeBinary) {
+            return legacySerializer.serialize(value);
+        }
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] body;
+        try {
+            body = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패", e);
+        }
+
+        if (body.length < compressionThreshold) {
+            byte[] result = new byte[HEADER_SIZE + body.length];
+            writeHeader(result, FLAG_PLAIN);
+            System.arraycopy(body, 0, result, HEADER_SIZE, body.length);
+            return result;
+        }
+
+        int maxLength = compressor.maxCompressedLength(body.length);
+        byte[] result = new byte[HEADER_SIZE + Integer.BYTES + maxLength];
+        writeHeader(result, FLAG_LZ4);
+        ByteBuffer.wrap(result, HEADER_SIZE, Integer.BYTES).putInt(body.length);
+        int compressedLength = compressor.compress(body, 0, body.length, result, HEADER_SIZE + Integer.BYTES, maxLength);
+        return Arrays.copyOf(result, HEADER_SIZE + Integer.BYTES + compressedLength);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!isVersioned(bytes)) {
+            return legacySerializer.deserialize(bytes);
+        }
+
+        try {
+            return switch (bytes[2]) {
+                case FLAG_PLAIN -> smileMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+                case FLAG_LZ4 -> {
+                    int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, Integer.BYTES).getInt();
+                    byte[] body = new byte[originalLength];
+                    decompressor.decompress(bytes, HEADER_SIZE + Integer.BYTES, body, 0, originalLength);
+                    yield smileMapper.readValue(body, Object.class);
+                }
+                default -> throw new SerializationException("지원하지 않는 캐시 값 형식입니다: " + bytes[2]);
+            };
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof SerializationException serializationException) {
+                throw serializationException;
+            }
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+
+    // JSON 은 '{', '[', '"' 등 ASCII 문자로 시작하므로 MAGIC(0xCB)과 겹치지 않음
+    private static boolean isVersioned(byte[] bytes) {
+        return bytes.length >= HEADER_SIZE && bytes[0] == MAGIC && bytes[1] == VERSION;
+    }
+
+    private static void writeHeader(byte[] target, byte flags) {
+        target[0] = MAGIC;
+        target[1] = VERSION;
+        target[2] = flags;
+    }
+}
@@ -0,0 +1,111 @@
+package com.core.book.common.config;
+
+import com.core.book.common.entity.IdSequences;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 테이블 기반 id 구간 초기화 (IdSequences)
+ * - 처음 전환할 때 : 테이블의 AUTO_INCREMENT 를 (최대 id + 예약 구간) 이후로 옮기고, 구간 시작 값은 최대 id 이후로 설정
+ *   전환 중 IDENTITY 를 쓰는 이전 버전 서버는 예약 구간 위에서, 새 서버는 예약 구간 안에서 id 를 받으므로 겹치지 않음
+ *   (구간 시작 값을 AUTO_INCREMENT 위로 두면, 직접 지정한 id 로 저장할 때 InnoDB 가 AUTO_INCREMENT 를 그 id 다음으로 올려 이전 버전 서버와 겹침)
+ *   예약 구간 끝은 id_sequence_reservation 에 기록
+ * - 이후 기동 시 : 구간 시작 값을 테이블의 최대 id 이후로 맞춤 (이미 더 크면 유지)
+ *   전환이 끝나기 전(id-sequence.rollout-completed=false)에는 예약 구간 안의 최대 id 만 사용
+ *   (예약 구간 위는 이전 버전 서버가 AUTO_INCREMENT 로 계속 쓰는 곳이므로, 그 위로 옮기면 이후 저장이 이전 버전 서버와 겹침)
+ *   이전 버전 서버가 모두 내려간 뒤 rollout-completed=true 로 바꾸면 예약 구간 위에 저장된 이전 버전 행을 건너뜀
+ * - 모든 빈 생성 직후(웹 서버 시작, 스케줄러 실행 전)에 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 구간 이름 -> id 컬럼
+    private static final Map<String, String> ID_COLUMNS = Map.of(
+            IdSequences.USER_BOOK_TAG, "tag_id",
+            IdSequences.ARTICLE_LIKE, "article_like_id",
+            IdSequences.COMMENT, "comment_id",
+            IdSequences.FOLLOW, "follow_id"
+    );
+
+    // 구간 이름 -> 예약 구간 끝 (이 값부터는 이전 버전 서버의 AUTO_INCREMENT)
+    static final String RESERVATION_TABLE = "id_sequence_reservation";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 전환 중 새 서버가 사용할 id 수 (이전 버전 서버가 모두 내려갈 때까지 충분한 크기)
+    @Value("${id-sequence.reserved-gap:10000000}")
+    private long reservedGap;
+
+    // 이전 버전 서버가 모두 내려갔는지 여부
+    @Value("${id-sequence.rollout-completed:false}")
+    private boolean rolloutCompleted;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdSequences.TABLE + " (" +
+                IdSequences.PK_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                IdSequences.VALUE_COLUMN + " BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + RESERVATION_TABLE + " (" +
+                IdSequences.PK_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                "reserved_until BIGINT NOT NULL)");
+
+        ID_COLUMNS.forEach((table, idColumn) -> {
+            Integer exists = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + IdSequences.TABLE +
+                    " WHERE " + IdSequences.PK_COLUMN + " = ?", Integer.class, table);
+            if (exists == null || exists == 0) {
+                long nextId = nextId(table, idColumn, null);
+                long reservedUntil = nextId + reservedGap;
+                // 구간 행을 만들기 전에 AUTO_INCREMENT 를 먼저 옮김 (동시에 기동한 서버가 다시 실행해도 값만 같거나 커짐)
+                jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + reservedUntil);
+                jdbcTemplate.update("INSERT IGNORE INTO " + RESERVATION_TABLE + " (" + IdSequences.PK_COLUMN + ", reserved_until) " +
+                        "VALUES (?, ?)", table, reservedUntil);
+                jdbcTemplate.update("INSERT IGNORE INTO " + IdSequences.TABLE + " (" + IdSequences.PK_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") " +
+                        "VALUES (?, ?)", table, nextId);
+                log.info("id 구간 전환 - {} (구간 시작={}, AUTO_INCREMENT={})", table, nextId, reservedUntil);
+                return;
+            }
+
+            Long reservedUntil = rolloutCompleted ? null : reservedUntil(table);
+            if (!rolloutCompleted && reservedUntil == null) {
+                // 예약 구간을 기록하기 전에 전환한 구간 - 이전 버전 행이 섞여 있을 수 있으므로 그대로 둠 (발급은 항상 앞으로만 진행)
+                log.warn("id 구간 예약 정보 없음 - {} (전환이 끝나면 id-sequence.rollout-completed=true 로 설정)", table);
+                return;
+            }
+
+            jdbcTemplate.update("UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = GREATEST(" + IdSequences.VALUE_COLUMN + ", ?) " +
+                    "WHERE " + IdSequences.PK_COLUMN + " = ?", nextId(table, idColumn, reservedUntil), table);
+
+            if (reservedUntil != null) {
+                long nextVal = jdbcTemplate.queryForObject("SELECT " + IdSequences.VALUE_COLUMN + " FROM " + IdSequences.TABLE +
+                        " WHERE " + IdSequences.PK_COLUMN + " = ?", Long.class, table);
+                if (reservedUntil - nextVal < reservedGap / 10) {
+                    log.warn("id 예약 구간 소진 임박 - {} (구간 시작={}, 예약 구간 끝={})", table, nextVal, reservedUntil);
+                }
+            }
+            log.debug("id 구간 초기화 - {}", table);
+        });
+    }
+
+    // 최대 id + 1 (upperBound 가 있으면 그 미만의 id 만)
+    private long nextId(String table, String idColumn, Long upperBound) {
+        if (upperBound == null) {
+            return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + table, Long.class);
+        }
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + table +
+                " WHERE " + idColumn + " < ?", Long.class, upperBound);
+    }
+
+    private Long reservedUntil(String table) {
+        return jdbcTemplate.query("SELECT reserved_until FROM " + RESERVATION_TABLE + " WHERE " + IdSequences.PK_COLUMN + " = ?",
+                rs -> rs.next() ? rs.getLong(1) : null, table);
+    }
+    }
+}
@@ -0,0 +1,40 @@
+package com.core.book.common.config.oauth2;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 카카오 API 호출용 공용 클라이언트
+ * - JDK HttpClient 한 개를 공유하여 커넥션(HTTP/2, keep-alive) 재사용
+ * - 연결/응답 타임아웃 설정으로 카카오 지연 시 요청 스레드가 무기한 대기하지 않도록 처리
+ * - 응답은 Spring 의 ObjectMapper 로 스트림에서 바로 DTO 로 변환
+ */
+@Configuration
+public class KakaoClientConfig {
+
+    @Value("${kakao.client.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${kakao.client.read-timeout-ms:3000}")
+    private long readTimeoutMs;
+
+    @Bean
+    public RestClient kakaoRestClient(RestClient.Builder builder) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder
+                .requestFactory(requestFactory)
+                .build();
+    }
+}
@@ -1,48 +1,83 @@
 package com.core.book.common.config.redis;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.core.book.common.cache.CacheInvalidationService;
+import com.core.book.common.cache.CacheProperties;
+import com.core.book.common.cache.CacheSerializers;
+import com.core.book.common.cache.JitteredTtlFunction;
+import com.core.book.common.cache.TwoLevelCacheManager;
+import com.core.book.common.cache.VersionedCacheSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @EnableCaching
 @Configuration
-public class CacheConfig {
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig implements CachingConfigurer {
 
+    // 서버 로컬 캐시(L1) + Redis(L2) - 로컬 캐시 적중 시 네트워크 왕복과 역직렬화 생략
     @Bean
-    public RedisCacheConfiguration redisCacheConfiguration() {
-        // ObjectMapper 생성 및 설정
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             RedisCacheConfiguration redisCacheConfiguration,
+                                             CacheProperties cacheProperties,
+                                             CacheInvalidationService cacheInvalidationService,
+                                             MeterRegistry meterRegistry) {
+        // 캐시별 정책(유지 시간, 만료 분산, null 캐시 여부)을 Redis 캐시 설정에 반영
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cacheProperties.getPolicies().keySet().forEach(cacheName -> cacheConfigurations.put(cacheName,
+                applyPolicy(redisCacheConfiguration, cacheProperties.policyFor(cacheName))));
 
-        // Configure ObjectMapper to include 타입 정보
-        objectMapper.activateDefaultTyping(
-                LaissezFaireSubTypeValidator.instance,
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(applyPolicy(redisCacheConfiguration, cacheProperties.getDefaults()))
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+        redisCacheManager.afterPropertiesSet();
 
-        // 직렬화 생성 using the configured ObjectMapper
-        GenericJackson2JsonRedisSerializer jsonRedisSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        return new TwoLevelCacheManager(redisCacheManager, cacheProperties, cacheInvalidationService, meterRegistry);
+    }
+
+    private RedisCacheConfiguration applyPolicy(RedisCacheConfiguration base, CacheProperties.Policy policy) {
+        RedisCacheConfiguration configuration = base.entryTtl(new JitteredTtlFunction(policy.getTtl(), policy.getTtlJitter()));
+        return policy.getCacheNulls() ? configuration : configuration.disableCachingNullValues();
+    }
 
+    /*
+     * 캐시 값은 버전 헤더가 붙은 Smile 바이너리로 저장 (큰 값은 LZ4 압축), 이전 JSON 값도 읽을 수 있음
+     * - 기본값은 JSON 기록 (구버전 서버는 바이너리 값을 읽지 못함) : 모든 서버가 이 버전으로 교체된 뒤 cache.serializer.write-binary=true 로 전환
+     */
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(
+            @Value("${cache.serializer.compression-threshold-bytes:1024}") int compressionThreshold,
+            @Value("${cache.serializer.write-binary:false}") boolean writeBinary) {
+        VersionedCacheSerializer valueSerializer = CacheSerializers.versioned(compressionThreshold, writeBinary);
+
+        // 유지 시간, null 캐시 여부는 캐시별 정책에서 설정 (CacheProperties)
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(5))  // 캐시 유효시간 5분
-                .disableCachingNullValues()
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(jsonRedisSerializer)
+                        RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer)
                 );
     }
 
+    // 캐시 조회/저장 오류(형식이 다른 값 등)는 캐시 미스로 처리하고 원본 조회로 진행
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
 }
@@ -1,11 +1,13 @@
 package com.core.book.common.config.swagger;
 
+import com.core.book.common.auth.LoginUserId;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +15,11 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class SwaggerConfig {
 
+    static {
+        // 인증 회원 ID 파라미터는 API 문서에서 제외
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(LoginUserId.class);
+    }
+
     @Value("${jwt.access.header}")
     private String accessTokenHeader;
 
@@ -0,0 +1,28 @@
+package com.core.book.common.entity;
+
+/**
+ * 테이블 기반 id 발급 (hi/lo)
+ * - IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어 Hibernate 배치 INSERT(hibernate.jdbc.batch_size)가 동작하지 않음
+ * - MySQL 에는 시퀀스가 없으므로 ID_SEQUENCE 테이블에서 ALLOCATION_SIZE 만큼 id 구간을 한 번에 받아 서버 메모리에서 발급 (pooled-lo)
+ * - 엔티티의 @GenericGenerator 에 테이블/구간 이름/구간 크기/optimizer 를 모두 지정
+ * - 구간 시작 값은 기동 시 기존 최대 id 이후로 맞춤 (IdSequenceInitializer)
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequence";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+    public static final String ALLOCATION_SIZE_VALUE = "" + ALLOCATION_SIZE;
+    // 테이블에 저장된 값을 구간 시작 값으로 사용 (생성기마다 지정 - 전역 설정 hibernate.id.optimizer.pooled.preferred 에 의존하지 않음)
+    public static final String OPTIMIZER = "pooled-lo";
+
+    // 구간 이름 (= 테이블 이름)
+    public static final String USER_BOOK_TAG = "user_book_tag";
+    public static final String ARTICLE_LIKE = "article_like";
+    public static final String COMMENT = "comment";
+    public static final String FOLLOW = "follow";
+
+    private IdSequences() {
+    }
+}
@@ -0,0 +1,65 @@
+package com.core.book.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 서버 간 배치 작업 잠금 (Redis SET NX PX)
+ * - 잠금을 얻은 서버만 작업 실행, 얻지 못한 서버는 건너뜀
+ * - lockAtMostFor : 서버가 작업 중 종료되어도 이 시간이 지나면 잠금 해제
+ * - lockAtLeastFor : 작업이 빨리 끝나도 이 시간 동안은 잠금 유지 (서버 간 시계 차이로 같은 주기 작업이 다시 실행되는 것 방지)
+ * - 해제는 잠금 값(토큰)이 같을 때만 수행 (만료 후 다른 서버가 얻은 잠금을 지우지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLock {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            if tonumber(ARGV[2]) > 0 then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 잠금을 얻으면 작업 실행 후 true, 다른 서버가 실행 중이면 false
+    public boolean tryRun(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, lockAtMostFor);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("다른 서버가 실행 중인 작업입니다 - {}", name);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            long remainingMillis = lockAtLeastFor.toMillis() - Duration.ofNanos(System.nanoTime() - start).toMillis();
+            try {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token, String.valueOf(Math.max(0, remainingMillis)));
+            } catch (RuntimeException e) {
+                // 해제 실패 시 lockAtMostFor 이후 자동 해제
+                log.warn("작업 잠금 해제 실패 - {}", name, e);
+            }
+        }
+        return true;
+    }
+}
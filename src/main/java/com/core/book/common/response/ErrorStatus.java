@@ -26,6 +26,10 @@ public enum ErrorStatus {
     NOT_ALLOW_USERTAG_FILTER_ROLE(HttpStatus.BAD_REQUEST, "닉네임은 영문, 숫자, 한글만 사용할 수 있습니다."),
     NOT_ALLOW_USERTAG_FILTER_LIST(HttpStatus.BAD_REQUEST, "부적절한 닉네임입니다."),
     NOT_ALLOW_IMG_MIME(HttpStatus.BAD_REQUEST,"이미지 파일(jpg, jpeg, png, bmp, webp) 만 업로드할 수 있습니다."),
+    NOT_ALLOW_IMG_SIZE(HttpStatus.BAD_REQUEST,"프로필 이미지 파일 크기가 허용 범위를 벗어났습니다."),
+    INVALID_PROFILE_IMAGE_KEY(HttpStatus.BAD_REQUEST,"유효하지 않은 프로필 이미지 업로드 키입니다."),
+    PROFILE_IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST,"업로드된 프로필 이미지를 찾을 수 없습니다."),
+    INVALID_PROFILE_IMAGE(HttpStatus.BAD_REQUEST,"이미지를 읽을 수 없거나 해상도가 허용 범위를 벗어났습니다."),
     DUPLICATE_NICKNAME(HttpStatus.BAD_REQUEST,"중복된 닉네임입니다."),
     MISSING_INFOOPEN(HttpStatus.BAD_REQUEST,"정보 공개 여부 값이 입력되지 않았습니다."),
     MISSING_BOOKSHELF_DATE(HttpStatus.BAD_REQUEST, "책장 등록 날짜가 입력되지 않았습니다."),
@@ -39,6 +43,11 @@ public enum ErrorStatus {
     MISSING_COMMENT_ID(HttpStatus.BAD_REQUEST,"댓글 ID가 입력되지 않았습니다."),
     BOOKSHELF_MODIFY_NOT_SAME_USER_EXCEPTION(HttpStatus.BAD_REQUEST, "책장 소유자와 수정 요청자가 다릅니다."),
     BOOKSHELF_DELETE_NOT_SAME_USER_EXCEPTION(HttpStatus.BAD_REQUEST, "책장 소유자와 삭제 요청자가 다릅니다."),
+    INVALID_BOOKSHELF_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 책장 조회 커서입니다."),
+    INVALID_BOOKSHELF_TAG_FILTER(HttpStatus.BAD_REQUEST, "유효하지 않은 책장 조회 태그입니다."),
+    INVALID_BOOKSHELF_IMPORT_FILE(HttpStatus.BAD_REQUEST, "책장 가져오기 파일 형식이 올바르지 않습니다. (csv, json)"),
+    BOOKSHELF_IMPORT_ROW_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "책장 가져오기 파일의 행 수가 허용 범위를 벗어났습니다."),
+    INVALID_BOOKSHELF_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 책장 내보내기 형식입니다. (csv, json)"),
 
     /**
      * 401 UNAUTHORIZED
@@ -71,12 +80,19 @@ public enum ErrorStatus {
      */
 
     FAIL_UPLOAD_PROFILE_IMAGE(HttpStatus.INTERNAL_SERVER_ERROR, "프로필 사진이 변경되지 않았습니다."),
+    FAIL_REQUEST_KAKAO_ACCESSTOKEN(HttpStatus.INTERNAL_SERVER_ERROR, "카카오 엑세스토큰 요청 중 오류가 발생했습니다."),
     FAIL_REQUEST_KAKAO_USER_INFO(HttpStatus.INTERNAL_SERVER_ERROR, "카카오 사용자 정보 요청 중 오류가 발생했습니다."),
     FAIL_PARSE_KAKAO_USER_INFO(HttpStatus.INTERNAL_SERVER_ERROR, "카카오 사용자 정보를 가져오지 못했습니다."),
     SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류"),
 
     FAIL_REQUEST_BOOK_INFO(HttpStatus.INTERNAL_SERVER_ERROR, "도서 API 호출 중 오류가 발생했습니다."),
 
+    /**
+     * 503 SERVICE_UNAVAILABLE
+     */
+
+    PROFILE_IMAGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "프로필 사진 변경 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
     ;
 
     private final HttpStatus httpStatus;
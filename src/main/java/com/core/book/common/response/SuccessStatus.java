@@ -15,12 +15,14 @@ public enum SuccessStatus {
     SEND_KAKAO_ACCESSTOKEN_SUCCESS(HttpStatus.OK,"카카오 엑세스토큰 발급 성공"),
     SEND_LOGIN_SUCCESS(HttpStatus.OK, "로그인 성공"),
     SEND_REISSUE_TOKEN_SUCCESS(HttpStatus.OK,"토큰 재발급 성공"),
+    LOGOUT_SUCCESS(HttpStatus.OK, "로그아웃 성공"),
     SEND_USERDETAIL_SUCCESS(HttpStatus.OK, "유저 정보 발송 성공"),
     SET_USER_MARKETING_SUCCESS(HttpStatus.OK, "유저 마케팅 동의 여부 설정 성공"),
 
     SEND_QUESTION_SUCCESS(HttpStatus.OK, "문제 발송 성공"),
 
     UPDATE_PROFILE_IMAGE_SUCCESS(HttpStatus.OK, "프로필 사진 변경 성공"),
+    ISSUE_PROFILE_IMAGE_UPLOAD_URL_SUCCESS(HttpStatus.OK, "프로필 사진 업로드 URL 발급 성공"),
     UPDATE_NICKNAME_SUCCESS(HttpStatus.OK, "닉네임 변경 성공"),
     CHECK_NICKNAME_SUCCESS(HttpStatus.OK, "닉네임 사용 가능"),
     UPDATE_INFO_OPEN_SUCCESS(HttpStatus.OK,"정보 공개 수정 성공"),
@@ -30,11 +32,13 @@ public enum SuccessStatus {
     USER_UNFOLLOW_SUCCESS(HttpStatus.OK,"언팔로우 성공"),
     GET_FOLLOWED_USERS_SUCCESS(HttpStatus.OK,"팔로우 중인 사용자 목록 조회 성공"),
     GET_FOLLOWER_USERS_SUCCESS(HttpStatus.OK, "팔로워 사용자 목록 조회 성공"),
+    GET_RECOMMENDED_USERS_SUCCESS(HttpStatus.OK, "추천 사용자 목록 조회 성공"),
 
     BOOK_SEARCH_SUCCESS(HttpStatus.OK, "책 결과 반환 성공"),
 
     GET_BOOKSHELF_SUCCESS(HttpStatus.OK,"책장 조회 성공"),
     GET_BOOKSHELF_INFO_SUCCESS(HttpStatus.OK,"책장 상세 정보 조회 성공"),
+    GET_READING_STATS_SUCCESS(HttpStatus.OK,"독서 통계 조회 성공"),
     UPDATE_BOOKSHELF_INFO_SUCCESS(HttpStatus.OK,"책장 상세 정보 수정 성공"),
     DELETE_BOOKSHELF_SUCCESS(HttpStatus.OK,"책장 삭제 성공"),
     SHIFT_BOOKSHELF_SUCCESS(HttpStatus.OK,"책장 이동 성공"),
@@ -57,8 +61,14 @@ public enum SuccessStatus {
     CREATE_ARTICLE_SUCCESS(HttpStatus.CREATED, "게시판 등록 성공"),
     CREATE_USERTAG_SUCCESS(HttpStatus.CREATED, "USERTAG 등록 성공"),
     CREATE_BOOKSHELF_SUCCESS(HttpStatus.CREATED, "책장 등록 성공"),
+    IMPORT_BOOKSHELF_SUCCESS(HttpStatus.CREATED, "책장 가져오기 성공"),
     CREATE_COMMENT_SUCCESS(HttpStatus.CREATED, "댓글 등록 성공"),
 
+    /**
+     * 202
+     */
+    ACCEPT_PROFILE_IMAGE_SUCCESS(HttpStatus.ACCEPTED, "프로필 사진 변경 요청 접수 성공"),
+
     ;
 
     private final HttpStatus httpStatus;
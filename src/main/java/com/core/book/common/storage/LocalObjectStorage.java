@@ -0,0 +1,143 @@
+package com.core.book.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파일 시스템 기반 저장소 (로컬 개발 및 테스트용 S3 대체)
+ * - storage.type=local 일 때 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(@Value("${storage.local.root:./local-storage}") String root,
+                              @Value("${storage.local.base-url:http://localhost:8080/local-storage}") String baseUrl) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, byte[] content, String contentType) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Path target = resolve(key);
+                Files.createDirectories(target.getParent());
+                Files.write(target, content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] get(String key) {
+        try {
+            return Files.readAllBytes(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] getHead(String key, int length) {
+        try (InputStream input = Files.newInputStream(resolve(key))) {
+            return input.readNBytes(length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        try {
+            Path target = resolve(targetKey);
+            Files.createDirectories(target.getParent());
+            Files.copy(resolve(sourceKey), target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        Map<String, String> failures = new HashMap<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (RuntimeException e) {
+                failures.put(key, e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    // 로컬에서는 서명 대신 대상 파일 경로(file URI)를 반환 - 테스트에서 해당 경로에 직접 기록
+    @Override
+    public String presignPut(String key, String contentType, long contentLength, Duration expiration) {
+        return resolve(key).toUri().toString();
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        Path target = resolve(key);
+        if (!Files.isRegularFile(target)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StoredObject(Files.probeContentType(target), Files.size(target)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public Optional<String> extractKey(String url) {
+        if (url == null || !url.startsWith(baseUrl + "/")) {
+            return Optional.empty();
+        }
+        return Optional.of(url.substring(baseUrl.length() + 1));
+    }
+
+    // 루트 밖 경로 접근 차단
+    private Path resolve(String key) {
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 저장소 키입니다: " + key);
+        }
+        return target;
+    }
+}
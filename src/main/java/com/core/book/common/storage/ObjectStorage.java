@@ -0,0 +1,47 @@
+package com.core.book.common.storage;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파일 저장소 추상화
+ * - 운영 : S3 (S3Service)
+ * - 로컬/테스트 : 파일 시스템 (LocalObjectStorage, storage.type=local)
+ */
+public interface ObjectStorage {
+
+    // 비동기 업로드 (여러 파일을 동시에 올릴 때 사용)
+    CompletableFuture<Void> putAsync(String key, byte[] content, String contentType);
+
+    void delete(String key);
+
+    // 저장된 파일 내용 (없으면 예외)
+    byte[] get(String key);
+
+    // 저장된 파일의 앞부분 최대 length 바이트 (범위 요청 - 파일 형식 확인용, 없으면 예외)
+    byte[] getHead(String key, int length);
+
+    // 저장소 내부 복사 (파일 데이터가 서버를 거치지 않음)
+    void copy(String sourceKey, String targetKey);
+
+    // 일괄 삭제 - 실패한 키와 오류 메시지 반환 (없는 파일은 성공으로 처리)
+    Map<String, String> deleteAll(Collection<String> keys);
+
+    // 클라이언트 직접 업로드용 서명 URL (Content-Type, Content-Length 가 서명에 포함되어 다른 값으로는 업로드 불가)
+    String presignPut(String key, String contentType, long contentLength, Duration expiration);
+
+    // 저장된 파일 정보 (없으면 empty)
+    Optional<StoredObject> stat(String key);
+
+    // 저장소 키 -> 공개 URL
+    String getUrl(String key);
+
+    // 공개 URL -> 저장소 키 (이 저장소의 URL 이 아니면 empty)
+    Optional<String> extractKey(String url);
+
+    record StoredObject(String contentType, long contentLength) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.core.book.common.storage;
+
+import com.core.book.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 저장소 파일 삭제 대기 목록 (트랜잭션 아웃박스)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Builder(toBuilder = true)
+@Table(name = "STORAGE_DELETION_OUTBOX", indexes = @Index(name = "idx_storage_deletion_next_attempt", columnList = "next_attempt_at"))
+@AllArgsConstructor
+public class StorageDeletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "storage_deletion_id")
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey; // 삭제할 저장소 파일 키
+
+    private int attempts; // 연속 실패 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 처리 가능 시각 (실패 시 백오프)
+
+    @Column(length = 500)
+    private String lastError;
+}
@@ -0,0 +1,27 @@
+package com.core.book.common.storage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    // 처리할 행 선점 - 다른 서버가 잠근 행은 건너뜀 (같은 트랜잭션에서 lease 로 nextAttemptAt 을 미룬 뒤 커밋)
+    @Query(value = "SELECT * FROM storage_deletion_outbox WHERE next_attempt_at <= :now " +
+            "ORDER BY storage_deletion_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<StorageDeletion> findDueForUpdateSkipLocked(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE StorageDeletion d SET d.nextAttemptAt = :leaseUntil WHERE d.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 다른 서버가 먼저 처리해 삭제된 행이 다시 생기지 않도록 save 대신 UPDATE 사용
+    @Modifying
+    @Query("UPDATE StorageDeletion d SET d.attempts = d.attempts + 1, d.nextAttemptAt = :retryAt, d.lastError = :error WHERE d.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("retryAt") LocalDateTime retryAt, @Param("error") String error);
+}
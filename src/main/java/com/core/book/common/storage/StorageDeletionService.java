@@ -0,0 +1,121 @@
+package com.core.book.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장소 파일 지연 삭제
+ * - 교체/삭제된 파일 키를 호출한 쪽 트랜잭션 안에서 아웃박스 테이블에 기록 (롤백되면 삭제도 취소)
+ * - 백그라운드 작업이 모아서 일괄 삭제 (S3 DeleteObjects, 요청당 최대 1000건)
+ * - 실패한 키는 지수 백오프 후 재시도
+ *
+ * 여러 서버 동시 실행
+ * - 짧은 트랜잭션에서 행을 선점(FOR UPDATE SKIP LOCKED)하고 nextAttemptAt 을 lease 만큼 미룬 뒤 바로 커밋
+ * - 저장소 삭제 요청은 트랜잭션 밖에서 실행하고, 결과(행 삭제/재시도 예약)는 다시 짧은 트랜잭션으로 반영
+ * - 결과를 반영하기 전에 서버가 중단되면 lease 만료 후 다른 서버가 다시 처리 (저장소 삭제는 멱등)
+ */
+@Slf4j
+@Service
+public class StorageDeletionService {
+
+    static final int MAX_BATCH_SIZE = 1000; // S3 DeleteObjects 한도
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final ObjectStorage objectStorage;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${storage.deletion.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${storage.deletion.max-backoff-minutes:360}")
+    private long maxBackoffMinutes;
+
+    @Value("${storage.deletion.lease-minutes:10}")
+    private long leaseMinutes;
+
+    public StorageDeletionService(StorageDeletionRepository storageDeletionRepository,
+                                  ObjectStorage objectStorage,
+                                  PlatformTransactionManager transactionManager) {
+        this.storageDeletionRepository = storageDeletionRepository;
+        this.objectStorage = objectStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 삭제 예약 (호출한 쪽 트랜잭션에 참여)
+    @Transactional
+    public void enqueue(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        storageDeletionRepository.saveAll(keys.stream()
+                .distinct()
+                .map(key -> StorageDeletion.builder()
+                        .objectKey(key)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList());
+    }
+
+    @Scheduled(fixedDelayString = "${storage.deletion.interval-ms:30000}")
+    public void drain() {
+        List<StorageDeletion> deletions = claim();
+        if (deletions.isEmpty()) {
+            return;
+        }
+
+        // 저장소 호출은 트랜잭션 밖에서 실행 (DB 커넥션/행 잠금을 잡고 있지 않음)
+        Map<String, String> failures;
+        try {
+            failures = objectStorage.deleteAll(deletions.stream().map(StorageDeletion::getObjectKey).toList());
+        } catch (RuntimeException e) {
+            log.warn("저장소 파일 일괄 삭제 실패 - {}건", deletions.size(), e);
+            transactionTemplate.executeWithoutResult(status ->
+                    deletions.forEach(deletion -> retryLater(deletion, e.getMessage())));
+            return;
+        }
+
+        List<Long> completedIds = deletions.stream()
+                .filter(deletion -> !failures.containsKey(deletion.getObjectKey()))
+                .map(StorageDeletion::getId)
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            storageDeletionRepository.deleteAllByIdInBatch(completedIds);
+            deletions.stream()
+                    .filter(deletion -> failures.containsKey(deletion.getObjectKey()))
+                    .forEach(deletion -> retryLater(deletion, failures.get(deletion.getObjectKey())));
+        });
+
+        log.info("저장소 파일 삭제 완료 - 성공 {}건, 실패 {}건", completedIds.size(), deletions.size() - completedIds.size());
+    }
+
+    // 처리할 행 선점 후 lease 만큼 다음 처리 시각을 미뤄 다른 서버가 가져가지 않도록 함
+    private List<StorageDeletion> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<StorageDeletion> deletions = storageDeletionRepository.findDueForUpdateSkipLocked(
+                    now, Math.min(batchSize, MAX_BATCH_SIZE));
+            if (!deletions.isEmpty()) {
+                storageDeletionRepository.lease(deletions.stream().map(StorageDeletion::getId).toList(),
+                        now.plusMinutes(leaseMinutes));
+            }
+            return deletions;
+        });
+    }
+
+    private void retryLater(StorageDeletion deletion, String error) {
+        long backoffMinutes = Math.min(maxBackoffMinutes, 1L << Math.min(deletion.getAttempts(), 20));
+        storageDeletionRepository.recordFailure(deletion.getId(), LocalDateTime.now().plusMinutes(backoffMinutes),
+                error != null && error.length() > 500 ? error.substring(0, 500) : error);
+    }
+}
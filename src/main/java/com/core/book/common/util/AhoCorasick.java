@@ -0,0 +1,85 @@
+package com.core.book.common.util;
+
+import java.util.*;
+
+/**
+ * 금칙어 다중 패턴 매칭 (Aho-Corasick)
+ * - 생성 시 한 번만 오토마톤을 구성하고, 검사는 입력 길이에 비례 (금칙어 수와 무관)
+ * - 대소문자 구분 없이 비교 (금칙어/입력 모두 소문자로 정규화)
+ */
+public class AhoCorasick {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failure = new ArrayList<>();
+    private final List<Boolean> terminal = new ArrayList<>();
+
+    public AhoCorasick(Collection<String> words) {
+        newState();
+        for (String word : words) {
+            if (word != null && !word.isBlank()) {
+                addWord(word.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        buildFailureLinks();
+    }
+
+    // 입력 문자열에 금칙어가 하나라도 포함되어 있는지 여부
+    public boolean containsAny(String text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failure.get(state);
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+            if (terminal.get(state)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int newState() {
+        transitions.add(new HashMap<>());
+        failure.add(0);
+        terminal.add(false);
+        return transitions.size() - 1;
+    }
+
+    private void addWord(String word) {
+        int state = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newState();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        terminal.set(state, true);
+    }
+
+    // BFS 로 실패 링크 구성 (실패 상태가 종료 상태이면 현재 상태도 종료 상태로 취급)
+    private void buildFailureLinks() {
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> entry : transitions.get(state).entrySet()) {
+                char c = entry.getKey();
+                int next = entry.getValue();
+
+                int fallback = failure.get(state);
+                while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                    fallback = failure.get(fallback);
+                }
+                int link = transitions.get(fallback).getOrDefault(c, 0);
+                failure.set(next, link);
+                if (terminal.get(link)) {
+                    terminal.set(next, true);
+                }
+                queue.add(next);
+            }
+        }
+    }
+}
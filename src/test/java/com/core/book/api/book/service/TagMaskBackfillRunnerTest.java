@@ -0,0 +1,123 @@
+package com.core.book.api.book.service;
+
+import com.core.book.api.book.constant.BookTag;
+import com.core.book.api.book.entity.Book;
+import com.core.book.api.book.entity.TagMaskMigration;
+import com.core.book.api.book.entity.UserBookTag;
+import com.core.book.api.book.repository.TagMaskMigrationRepository;
+import com.core.book.api.bookshelf.entity.ReadBooks;
+import com.core.book.api.member.entity.Member;
+import com.core.book.api.member.entity.Role;
+import com.core.book.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MySqlRepositoryTest
+class TagMaskBackfillRunnerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TagMaskMigrationRepository tagMaskMigrationRepository;
+
+    private TagMaskBackfillRunner runner;
+    private Member member;
+    private int isbnSeq;
+
+    @BeforeEach
+    void setUp() {
+        runner = new TagMaskBackfillRunner(jdbcTemplate, new TagMaskMigrationService(tagMaskMigrationRepository));
+        ReflectionTestUtils.setField(runner, "enabled", true);
+        // 여러 id 범위로 나누어 실행되도록 작게 설정
+        ReflectionTestUtils.setField(runner, "chunkSize", 2L);
+
+        member = em.persist(Member.builder().email("member@test.com").nickname("member").role(Role.USER).build());
+    }
+
+    @Test
+    void 마스크가_비어_있거나_어긋난_책장을_태그_행_기준으로_다시_계산한다() {
+        ReadBooks empty = readBook(0, BookTag.LOVE, BookTag.FUN);
+        ReadBooks stale = readBook(BookTag.SADNESS.mask(), BookTag.DIRTY);
+        ReadBooks correct = readBook(BookTag.HAPPINESS.mask(), BookTag.HAPPINESS);
+        em.flush();
+
+        runner.run(new DefaultApplicationArguments());
+
+        assertThat(tagMaskOf(empty)).isEqualTo(BookTag.LOVE.mask() | BookTag.FUN.mask());
+        assertThat(tagMaskOf(stale)).isEqualTo(BookTag.DIRTY.mask());
+        assertThat(tagMaskOf(correct)).isEqualTo(BookTag.HAPPINESS.mask());
+    }
+
+    @Test
+    void 태그_행이_없는_책장의_마스크를_비운다() {
+        ReadBooks orphan = readBook(BookTag.LOVE.mask());
+        ReadBooks untagged = readBook(0);
+        em.flush();
+
+        runner.run(new DefaultApplicationArguments());
+
+        assertThat(tagMaskOf(orphan)).isZero();
+        assertThat(tagMaskOf(untagged)).isZero();
+    }
+
+    @Test
+    void 채우기가_끝나면_완료를_기록한다() {
+        readBook(0, BookTag.LOVE);
+        em.flush();
+
+        runner.run(new DefaultApplicationArguments());
+
+        assertThat(tagMaskMigrationRepository.existsById(TagMaskMigration.ID)).isTrue();
+    }
+
+    @Test
+    void 완료_기록이_있으면_다시_실행하지_않는다() {
+        ReadBooks stale = readBook(BookTag.SADNESS.mask(), BookTag.DIRTY);
+        tagMaskMigrationRepository.markCompleted();
+        em.flush();
+
+        runner.run(new DefaultApplicationArguments());
+
+        assertThat(tagMaskOf(stale)).isEqualTo(BookTag.SADNESS.mask());
+    }
+
+    @Test
+    void 꺼져_있으면_아무것도_바꾸지_않는다() {
+        ReadBooks stale = readBook(BookTag.SADNESS.mask(), BookTag.DIRTY);
+        em.flush();
+        ReflectionTestUtils.setField(runner, "enabled", false);
+
+        runner.run(new DefaultApplicationArguments());
+
+        assertThat(tagMaskOf(stale)).isEqualTo(BookTag.SADNESS.mask());
+        assertThat(tagMaskMigrationRepository.existsById(TagMaskMigration.ID)).isFalse();
+    }
+
+    private int tagMaskOf(ReadBooks readBooks) {
+        return jdbcTemplate.queryForObject("SELECT tag_mask FROM readbooks WHERE readbooks_id = ?", Integer.class, readBooks.getId());
+    }
+
+    // 저장된 마스크와 태그 행을 따로 지정 (마스크 컬럼 추가 전 데이터 재현)
+    private ReadBooks readBook(int storedMask, BookTag... tags) {
+        Book book = em.persist(Book.builder().isbn(String.format("978%010d", ++isbnSeq)).title("title").build());
+        ReadBooks readBooks = em.persist(ReadBooks.builder().book(book).member(member)
+                .readDate(LocalDate.of(2024, 5, 1)).rating(4.0).tagMask(storedMask).build());
+        for (BookTag tag : tags) {
+            em.persist(UserBookTag.builder().book(book).tag(tag.getId()).readBooks(readBooks).build());
+        }
+        return readBooks;
+    }
+}
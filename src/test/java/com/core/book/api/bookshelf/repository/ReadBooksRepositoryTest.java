@@ -0,0 +1,175 @@
+package com.core.book.api.bookshelf.repository;
+
+import com.core.book.api.book.constant.BookTag;
+import com.core.book.api.book.entity.Book;
+import com.core.book.api.book.entity.UserBookTag;
+import com.core.book.api.bookshelf.entity.ReadBooks;
+import com.core.book.api.member.entity.Member;
+import com.core.book.api.member.entity.Role;
+import com.core.book.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MySqlRepositoryTest
+class ReadBooksRepositoryTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private ReadBooksRepository readBooksRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member member;
+    private int isbnSeq;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(Member.builder().email("member@test.com").nickname("member").role(Role.USER).build());
+    }
+
+    @Test
+    void 읽은_날짜_내림차순_커서로_모든_항목을_한_번씩_조회한다_읽은_날짜가_없으면_마지막() {
+        Long may1 = readBook(LocalDate.of(2024, 5, 1), 4.5);
+        Long may2 = readBook(LocalDate.of(2024, 5, 1), 3.0);
+        Long april = readBook(LocalDate.of(2024, 4, 1), 4.5);
+        Long noDate1 = readBook(null, 1.0);
+        Long noDate2 = readBook(null, 3.0);
+        em.flush();
+
+        List<Long> ids = readAll(last -> readBooksRepository.findBookshelfItemsByReadDateDesc(member.getId(),
+                last == null ? null : last.getReadDate(), last == null ? null : last.getId(), PageRequest.of(0, PAGE_SIZE)));
+
+        assertThat(ids).containsExactly(may2, may1, april, noDate2, noDate1);
+    }
+
+    @Test
+    void 읽은_날짜_오름차순_커서로_모든_항목을_한_번씩_조회한다_읽은_날짜가_없으면_처음() {
+        Long may1 = readBook(LocalDate.of(2024, 5, 1), 4.5);
+        Long may2 = readBook(LocalDate.of(2024, 5, 1), 3.0);
+        Long april = readBook(LocalDate.of(2024, 4, 1), 4.5);
+        Long noDate1 = readBook(null, 1.0);
+        Long noDate2 = readBook(null, 3.0);
+        em.flush();
+
+        List<Long> ids = readAll(last -> readBooksRepository.findBookshelfItemsByReadDateAsc(member.getId(),
+                last == null ? null : last.getReadDate(), last == null ? null : last.getId(), PageRequest.of(0, PAGE_SIZE)));
+
+        assertThat(ids).containsExactly(noDate1, noDate2, april, may1, may2);
+    }
+
+    @Test
+    void 평점_내림차순_커서는_같은_평점을_id로_나누어_조회한다() {
+        Long first = readBook(LocalDate.of(2024, 5, 1), 4.5);
+        Long second = readBook(LocalDate.of(2024, 5, 2), 3.0);
+        Long third = readBook(LocalDate.of(2024, 5, 3), 4.5);
+        Long fourth = readBook(LocalDate.of(2024, 5, 4), 1.0);
+        Long fifth = readBook(LocalDate.of(2024, 5, 5), 3.0);
+        em.flush();
+
+        List<Long> ids = readAll(last -> readBooksRepository.findBookshelfItemsByRatingDesc(member.getId(),
+                last == null ? null : last.getRating(), last == null ? null : last.getId(), PageRequest.of(0, PAGE_SIZE)));
+
+        assertThat(ids).containsExactly(third, first, fifth, second, fourth);
+    }
+
+    @Test
+    void 평점_오름차순_커서로_모든_항목을_한_번씩_조회한다() {
+        Long first = readBook(LocalDate.of(2024, 5, 1), 4.5);
+        Long second = readBook(LocalDate.of(2024, 5, 2), 3.0);
+        Long third = readBook(LocalDate.of(2024, 5, 3), 4.5);
+        em.flush();
+
+        List<Long> ids = readAll(last -> readBooksRepository.findBookshelfItemsByRatingAsc(member.getId(),
+                last == null ? null : last.getRating(), last == null ? null : last.getId(), PageRequest.of(0, PAGE_SIZE)));
+
+        assertThat(ids).containsExactly(second, first, third);
+    }
+
+    @Test
+    void 태그_필터는_요청한_태그를_모두_가진_책만_조회한다() {
+        Long loveAndFun = readBook(LocalDate.of(2024, 5, 1), 4.5, BookTag.LOVE.mask() | BookTag.FUN.mask());
+        readBook(LocalDate.of(2024, 5, 2), 4.0, BookTag.LOVE.mask());
+        Long all = readBook(LocalDate.of(2024, 5, 3), 3.0, BookTag.LOVE.mask() | BookTag.FUN.mask() | BookTag.DIRTY.mask());
+        readBook(LocalDate.of(2024, 5, 4), 2.0, 0);
+        em.flush();
+
+        Page<ReadBooksRepository.ReadBookshelfItem> page = readBooksRepository.findBookshelfItemsByMemberIdAndTagMask(member.getId(),
+                BookTag.LOVE.mask() | BookTag.FUN.mask(), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "readDate", "id")));
+
+        assertThat(page.getContent()).extracting(ReadBooksRepository.ReadBookshelfItem::getId).containsExactly(all, loveAndFun);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void 태그_행_필터는_요청한_태그를_모두_가진_책만_조회한다() {
+        // 같은 태그가 중복 저장된 책은 한 번으로 셈
+        Long loveAndFun = readBookWithTagRows(LocalDate.of(2024, 5, 1), 4.5, BookTag.LOVE, BookTag.LOVE, BookTag.FUN);
+        readBookWithTagRows(LocalDate.of(2024, 5, 2), 4.0, BookTag.LOVE, BookTag.LOVE);
+        Long all = readBookWithTagRows(LocalDate.of(2024, 5, 3), 3.0, BookTag.LOVE, BookTag.FUN, BookTag.DIRTY);
+        readBook(LocalDate.of(2024, 5, 4), 2.0);
+        em.flush();
+
+        Page<ReadBooksRepository.ReadBookshelfItem> page = readBooksRepository.findBookshelfItemsByMemberIdAndTags(member.getId(),
+                List.of(BookTag.LOVE.getId(), BookTag.FUN.getId()), 2, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "readDate", "id")));
+
+        assertThat(page.getContent()).extracting(ReadBooksRepository.ReadBookshelfItem::getId).containsExactly(all, loveAndFun);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void findTagMasksByMemberId_태그가_있는_책의_비트마스크만_조회한다() {
+        readBook(LocalDate.of(2024, 5, 1), 4.5, BookTag.DIRTY.mask());
+        readBook(LocalDate.of(2024, 5, 2), 4.0, 0);
+        em.flush();
+
+        assertThat(readBooksRepository.findTagMasksByMemberId(member.getId()))
+                .containsExactly(BookTag.DIRTY.mask());
+    }
+
+    // 마지막 항목을 커서로 다음 페이지를 이어서 조회 (페이지가 가득 차지 않으면 종료)
+    private List<Long> readAll(Function<ReadBooksRepository.ReadBookshelfItem, List<ReadBooksRepository.ReadBookshelfItem>> nextPage) {
+        List<Long> ids = new ArrayList<>();
+        ReadBooksRepository.ReadBookshelfItem last = null;
+        while (true) {
+            List<ReadBooksRepository.ReadBookshelfItem> page = nextPage.apply(last);
+            page.forEach(item -> ids.add(item.getId()));
+            if (page.size() < PAGE_SIZE) {
+                return ids;
+            }
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    private Long readBook(LocalDate readDate, double rating) {
+        return readBook(readDate, rating, 0);
+    }
+
+    private Long readBook(LocalDate readDate, double rating, int tagMask) {
+        Book book = em.persist(Book.builder().isbn(String.format("978%010d", ++isbnSeq)).title("title").build());
+        return em.persist(ReadBooks.builder().book(book).member(member).readDate(readDate).rating(rating).tagMask(tagMask).build()).getId();
+    }
+
+    // 태그 비트마스크 채우기 전의 책장 (마스크 없이 태그 행만 있음)
+    private Long readBookWithTagRows(LocalDate readDate, double rating, BookTag... tags) {
+        Book book = em.persist(Book.builder().isbn(String.format("978%010d", ++isbnSeq)).title("title").build());
+        ReadBooks readBooks = em.persist(ReadBooks.builder().book(book).member(member).readDate(readDate).rating(rating).build());
+        for (BookTag tag : tags) {
+            em.persist(UserBookTag.builder().book(book).tag(tag.getId()).readBooks(readBooks).build());
+        }
+        return readBooks.getId();
+    }
+}
@@ -0,0 +1,139 @@
+package com.core.book.api.bookshelf.service;
+
+import com.core.book.api.bookshelf.dto.ReadBookshelfResponseDTO;
+import com.core.book.api.bookshelf.entity.ReadBooksMonthlyStats;
+import com.core.book.api.bookshelf.repository.ReadBooksRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BookShelfServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ReadBooksRepository readBooksRepository;
+
+    @Mock
+    private ReadBooksMonthlyStatsService readBooksMonthlyStatsService;
+
+    @InjectMocks
+    private BookShelfService bookShelfService;
+
+    @Test
+    void showReadBooks_읽은_날짜가_없는_책은_별도_묶음으로_응답한다() {
+        given(readBooksRepository.findBookshelfItemsByReadDateDesc(eq(USER_ID), isNull(), isNull(), any(Pageable.class)))
+                .willReturn(List.of(
+                        item(3L, LocalDate.of(2024, 5, 3), 4.0),
+                        item(2L, LocalDate.of(2024, 5, 1), 3.0),
+                        item(1L, null, 5.0)));
+        given(readBooksMonthlyStatsService.getMonthlyStats(USER_ID))
+                .willReturn(Map.of(202405, stats(202405, 4, 14.0)));
+
+        ReadBookshelfResponseDTO response = bookShelfService.showReadBooks(USER_ID, 1, 10, 1, null, null);
+
+        // 날짜가 있는 달은 월별 집계, 날짜가 없는 묶음은 현재 페이지 기준
+        assertThat(response.getMonthlyInfoList())
+                .extracting("date", "monthlyBookCnt", "monthlyRatingAverage")
+                .containsExactly(
+                        tuple("2024-5", 4, 3.5),
+                        tuple(BookShelfService.NO_READ_DATE_LABEL, 1, 5.0));
+        assertThat(response.getMonthlyInfoList().get(1).getMonthlyReadBookList())
+                .extracting("id")
+                .containsExactly(1L);
+        assertThat(response.getTotalBookCnt()).isEqualTo(4);
+        assertThat(response.isLast()).isTrue();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void showReadBooks_평점순이면_날짜가_없는_책이_달_사이에_끼어도_묶음을_나눈다() {
+        given(readBooksRepository.findBookshelfItemsByRatingDesc(eq(USER_ID), isNull(), isNull(), any(Pageable.class)))
+                .willReturn(List.of(
+                        item(1L, LocalDate.of(2024, 5, 3), 5.0),
+                        item(2L, null, 4.0),
+                        item(3L, LocalDate.of(2024, 5, 1), 3.0)));
+        given(readBooksMonthlyStatsService.getMonthlyStats(USER_ID)).willReturn(Map.of());
+
+        ReadBookshelfResponseDTO response = bookShelfService.showReadBooks(USER_ID, 1, 10, 3, null, null);
+
+        assertThat(response.getMonthlyInfoList())
+                .extracting("date")
+                .containsExactly("2024-5", BookShelfService.NO_READ_DATE_LABEL, "2024-5");
+    }
+
+    @Test
+    void showReadBooks_마지막_항목의_날짜가_없으면_빈_날짜_커서를_발급한다() {
+        given(readBooksRepository.findBookshelfItemsByReadDateAsc(eq(USER_ID), isNull(), isNull(), any(Pageable.class)))
+                .willReturn(List.of(
+                        item(1L, null, 5.0),
+                        item(2L, LocalDate.of(2024, 5, 1), 3.0)));
+        given(readBooksMonthlyStatsService.getMonthlyStats(USER_ID)).willReturn(Map.of());
+
+        ReadBookshelfResponseDTO response = bookShelfService.showReadBooks(USER_ID, 1, 1, 2, null, null);
+
+        assertThat(response.isLast()).isFalse();
+        assertThat(response.getNextCursor()).isEqualTo("_1");
+        assertThat(response.getMonthlyInfoList())
+                .extracting("date")
+                .containsExactly(BookShelfService.NO_READ_DATE_LABEL);
+    }
+
+    private static ReadBooksMonthlyStats stats(int readMonth, int bookCnt, double ratingSum) {
+        return ReadBooksMonthlyStats.builder()
+                .memberId(USER_ID)
+                .readMonth(readMonth)
+                .bookCnt(bookCnt)
+                .ratingSum(ratingSum)
+                .build();
+    }
+
+    private static ReadBooksRepository.ReadBookshelfItem item(Long id, LocalDate readDate, double rating) {
+        return new ReadBooksRepository.ReadBookshelfItem() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getIsbn() {
+                return "97800000000" + id;
+            }
+
+            @Override
+            public String getBookImage() {
+                return "image-" + id;
+            }
+
+            @Override
+            public String getTitle() {
+                return "title-" + id;
+            }
+
+            @Override
+            public Double getRating() {
+                return rating;
+            }
+
+            @Override
+            public LocalDate getReadDate() {
+                return readDate;
+            }
+        };
+    }
+}
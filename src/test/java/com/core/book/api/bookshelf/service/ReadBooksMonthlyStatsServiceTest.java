@@ -0,0 +1,125 @@
+package com.core.book.api.bookshelf.service;
+
+import com.core.book.api.book.entity.Book;
+import com.core.book.api.bookshelf.entity.ReadBooks;
+import com.core.book.api.bookshelf.entity.ReadBooksMonthlyStats;
+import com.core.book.api.bookshelf.repository.ReadBooksMonthlyStatsRepository;
+import com.core.book.api.member.entity.Member;
+import com.core.book.api.member.entity.Role;
+import com.core.book.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 책장 변경 트랜잭션(테스트 트랜잭션)에 참여하는 갱신 메서드만 검증 (조회 시 초기화는 별도 트랜잭션)
+@MySqlRepositoryTest
+@Import(ReadBooksMonthlyStatsService.class)
+class ReadBooksMonthlyStatsServiceTest {
+
+    private static final LocalDate MAY = LocalDate.of(2024, 5, 1);
+    private static final LocalDate APRIL = LocalDate.of(2024, 4, 1);
+
+    @Autowired
+    private ReadBooksMonthlyStatsService monthlyStatsService;
+
+    @Autowired
+    private ReadBooksMonthlyStatsRepository monthlyStatsRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member member;
+    private int isbnSeq;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(Member.builder().email("member@test.com").nickname("member").role(Role.USER).build());
+    }
+
+    @Test
+    void add_초기화_전_회원은_책장_기준으로_다시_계산하고_이번_변경을_두_번_더하지_않는다() {
+        readBook(MAY, 4.0);
+        readBook(MAY, 3.0);
+        // 집계 도입 이전 회원의 첫 변경 - 증감 행 하나만 있는 상태 (행 존재로 판단하면 다시 계산이 건너뛰어짐)
+        monthlyStatsRepository.add(member.getId(), ReadBooksMonthlyStats.readMonthOf(APRIL), 1, 5.0);
+        readBook(APRIL, 5.0);
+        em.flush();
+
+        monthlyStatsService.add(member.getId(), APRIL, 5.0, 1);
+
+        Map<Integer, ReadBooksMonthlyStats> stats = findStats();
+        assertThat(stats).containsOnlyKeys(202405, 202404);
+        assertThat(stats.get(202405).getBookCnt()).isEqualTo(2);
+        assertThat(stats.get(202405).getRatingSum()).isEqualTo(7.0);
+        assertThat(stats.get(202404).getBookCnt()).isEqualTo(1);
+    }
+
+    @Test
+    void add_초기화_후에는_증감만_반영한다() {
+        readBook(MAY, 4.0);
+        em.flush();
+        monthlyStatsService.add(member.getId(), MAY, 4.0, 1);
+
+        readBook(MAY, 2.0);
+        em.flush();
+        monthlyStatsService.add(member.getId(), MAY, 2.0, 1);
+
+        ReadBooksMonthlyStats may = findStats().get(202405);
+        assertThat(may.getBookCnt()).isEqualTo(2);
+        assertThat(may.getRatingSum()).isEqualTo(6.0);
+    }
+
+    @Test
+    void move_이전_월에서_빼고_새_월에_더한다() {
+        readBook(MAY, 4.0);
+        em.flush();
+        monthlyStatsService.rebuild(member.getId());
+
+        monthlyStatsService.move(member.getId(), MAY, 4.0, APRIL, 3.0);
+
+        Map<Integer, ReadBooksMonthlyStats> stats = findStats();
+        assertThat(stats).containsOnlyKeys(202404);
+        assertThat(stats.get(202404).getRatingSum()).isEqualTo(3.0);
+    }
+
+    @Test
+    void rebuild_책장에_없는_달의_집계를_지운다() {
+        readBook(MAY, 4.0);
+        monthlyStatsRepository.add(member.getId(), 202001, 3, 9.0);
+        em.flush();
+
+        monthlyStatsService.rebuild(member.getId());
+
+        assertThat(findStats()).containsOnlyKeys(202405);
+    }
+
+    @Test
+    void rebuild_읽은_날짜가_없는_책은_집계하지_않는다() {
+        readBook(null, 4.0);
+        readBook(MAY, 4.0);
+        em.flush();
+
+        monthlyStatsService.rebuild(member.getId());
+
+        assertThat(findStats().get(202405).getBookCnt()).isEqualTo(1);
+    }
+
+    private Map<Integer, ReadBooksMonthlyStats> findStats() {
+        em.clear();
+        return monthlyStatsRepository.findByMemberIdAndBookCntGreaterThan(member.getId(), 0).stream()
+                .collect(Collectors.toMap(ReadBooksMonthlyStats::getReadMonth, stats -> stats));
+    }
+
+    private void readBook(LocalDate readDate, double rating) {
+        Book book = em.persist(Book.builder().isbn(String.format("978%010d", ++isbnSeq)).title("title").build());
+        em.persist(ReadBooks.builder().book(book).member(member).readDate(readDate).rating(rating).build());
+    }
+}
@@ -0,0 +1,148 @@
+package com.core.book.api.bookshelf.service;
+
+import com.core.book.api.book.constant.BookTag;
+import com.core.book.api.book.entity.Book;
+import com.core.book.api.book.entity.UserBookTag;
+import com.core.book.api.book.service.TagMaskMigrationService;
+import com.core.book.api.bookshelf.entity.ReadBooks;
+import com.core.book.api.bookshelf.entity.ReadingStats;
+import com.core.book.api.bookshelf.repository.ReadingStatsRepository;
+import com.core.book.api.member.entity.Member;
+import com.core.book.api.member.entity.Role;
+import com.core.book.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+
+// 책장 변경 트랜잭션(테스트 트랜잭션)에 참여하는 초기화/갱신 메서드만 검증 (조회 시 초기화는 별도 트랜잭션)
+@MySqlRepositoryTest
+@Import({ReadingStatsService.class, ReadBooksMonthlyStatsService.class})
+class ReadingStatsServiceTest {
+
+    @Autowired
+    private ReadingStatsService readingStatsService;
+
+    @Autowired
+    private ReadingStatsRepository readingStatsRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockBean
+    private TagMaskMigrationService tagMaskMigrationService;
+
+    private Member member;
+    private int isbnSeq;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(Member.builder().email("member@test.com").nickname("member").role(Role.USER).build());
+    }
+
+    @Test
+    void initializeIfAbsent_책장_기준으로_평점_저자_출판사_태그를_계산한다() {
+        given(tagMaskMigrationService.isCompleted()).willReturn(true);
+        readBook("author A", "publisher A", 4.5, BookTag.LOVE.mask() | BookTag.FUN.mask());
+        readBook("author A", "publisher B", 4.5, BookTag.LOVE.mask());
+        readBook("author B", "publisher B", 3.0, 0);
+        em.flush();
+
+        readingStatsService.initializeIfAbsent(member.getId());
+
+        assertThat(find(ReadingStats.Dimension.RATING)).containsOnly(entry("45", 2), entry("30", 1));
+        assertThat(find(ReadingStats.Dimension.AUTHOR)).containsOnly(entry("author A", 2), entry("author B", 1));
+        assertThat(find(ReadingStats.Dimension.PUBLISHER)).containsOnly(entry("publisher A", 1), entry("publisher B", 2));
+        assertThat(find(ReadingStats.Dimension.TAG)).containsOnly(
+                entry(String.valueOf(BookTag.LOVE.getId()), 2), entry(String.valueOf(BookTag.FUN.getId()), 1));
+    }
+
+    @Test
+    void initializeIfAbsent_마스크_채우기_전에는_태그_행으로_태그를_계산한다() {
+        // 같은 태그가 중복 저장된 책은 한 권으로 셈
+        readBookWithTagRows(BookTag.LOVE, BookTag.LOVE, BookTag.FUN);
+        readBookWithTagRows(BookTag.LOVE);
+        readBook("author B", "publisher B", 3.0, BookTag.DIRTY.mask());
+        em.flush();
+
+        readingStatsService.initializeIfAbsent(member.getId());
+
+        assertThat(find(ReadingStats.Dimension.TAG)).containsOnly(
+                entry(String.valueOf(BookTag.LOVE.getId()), 2), entry(String.valueOf(BookTag.FUN.getId()), 1));
+    }
+
+    @Test
+    void initializeIfAbsent_증감_행만_있는_회원도_다시_계산한다() {
+        readBook("author A", "publisher A", 4.0, 0);
+        // 집계 도입 이전 회원이 초기화 없이 남긴 증감 행 (행 존재로 판단하면 다시 계산이 건너뛰어짐)
+        readingStatsRepository.add(member.getId(), ReadingStats.Dimension.AUTHOR.name(), "deleted author", 1);
+        em.flush();
+
+        readingStatsService.initializeIfAbsent(member.getId());
+
+        assertThat(find(ReadingStats.Dimension.AUTHOR)).containsOnly(entry("author A", 1));
+        assertThat(find(ReadingStats.Dimension.RATING)).containsOnly(entry("40", 1));
+    }
+
+    @Test
+    void initializeIfAbsent_초기화된_회원은_다시_계산하지_않고_이후_증감을_유지한다() {
+        readBook("author A", "publisher A", 4.0, 0);
+        em.flush();
+        readingStatsService.initializeIfAbsent(member.getId());
+
+        Book book = readBook("author A", "publisher A", 2.0, 0);
+        em.flush();
+        readingStatsService.addReadBook(member.getId(), book, 2.0, 1);
+        readingStatsService.initializeIfAbsent(member.getId());
+
+        assertThat(find(ReadingStats.Dimension.AUTHOR)).containsOnly(entry("author A", 2));
+        assertThat(find(ReadingStats.Dimension.RATING)).containsOnly(entry("40", 1), entry("20", 1));
+    }
+
+    @Test
+    void changeRating_이전_평점에서_빼고_새_평점에_더한다() {
+        readBook("author A", "publisher A", 4.0, 0);
+        em.flush();
+        readingStatsService.initializeIfAbsent(member.getId());
+
+        readingStatsService.changeRating(member.getId(), 4.0, 4.5);
+
+        assertThat(find(ReadingStats.Dimension.RATING)).containsOnly(entry("45", 1));
+    }
+
+    // 항목 -> 읽은 책 수 (0 인 항목 제외)
+    private Map<String, Integer> find(ReadingStats.Dimension dimension) {
+        em.clear();
+        return readingStatsRepository.findTop(member.getId(), dimension, PageRequest.of(0, 100)).stream()
+                .collect(Collectors.toMap(ReadingStats::getItem, ReadingStats::getCnt));
+    }
+
+    private Book readBook(String author, String publisher, double rating, int tagMask) {
+        Book book = em.persist(Book.builder().isbn(String.format("978%010d", ++isbnSeq)).title("title")
+                .author(author).publisher(publisher).build());
+        em.persist(ReadBooks.builder().book(book).member(member).readDate(LocalDate.of(2024, 5, 1))
+                .rating(rating).tagMask(tagMask).build());
+        return book;
+    }
+
+    // 태그 비트마스크 채우기 전의 책장 (마스크 없이 태그 행만 있음)
+    private void readBookWithTagRows(BookTag... tags) {
+        Book book = em.persist(Book.builder().isbn(String.format("978%010d", ++isbnSeq)).title("title").build());
+        ReadBooks readBooks = em.persist(ReadBooks.builder().book(book).member(member).readDate(LocalDate.of(2024, 5, 1))
+                .rating(4.0).build());
+        for (BookTag tag : tags) {
+            em.persist(UserBookTag.builder().book(book).tag(tag.getId()).readBooks(readBooks).build());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.core.book.api.member.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowGraphTest {
+
+    @Test
+    void builder_회원별_ID를_정렬하고_중복을_제거한다() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1L, 30L)
+                .addEdge(1L, 10L)
+                .addEdge(1L, 20L)
+                .addEdge(1L, 10L)
+                .addEdge(2L, 10L)
+                .build();
+
+        assertThat(graph.getFollowing(1L)).containsExactly(10L, 20L, 30L);
+        assertThat(graph.getFollowers(10L)).containsExactly(1L, 2L);
+        assertThat(graph.followingCount(1L)).isEqualTo(3);
+        assertThat(graph.followerCount(10L)).isEqualTo(2);
+        assertThat(graph.follows(1L, 20L)).isTrue();
+        assertThat(graph.follows(20L, 1L)).isFalse();
+    }
+
+    @Test
+    void 간선이_없는_회원은_빈_배열을_반환한다() {
+        FollowGraph graph = FollowGraph.builder().build();
+
+        assertThat(graph.getFollowing(1L)).isEmpty();
+        assertThat(graph.getFollowers(1L)).isEmpty();
+        assertThat(graph.follows(1L, 2L)).isFalse();
+    }
+
+    @Test
+    void addEdge_정렬_순서를_유지하고_중복_추가는_무시한다() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1L, 10L)
+                .addEdge(1L, 30L)
+                .build();
+
+        graph.addEdge(1L, 20L);
+        graph.addEdge(1L, 5L);
+        graph.addEdge(1L, 20L);
+
+        assertThat(graph.getFollowing(1L)).containsExactly(5L, 10L, 20L, 30L);
+        assertThat(graph.getFollowers(20L)).containsExactly(1L);
+    }
+
+    @Test
+    void 반환된_배열은_이후_변경의_영향을_받지_않는다() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1L, 10L)
+                .addEdge(1L, 20L)
+                .build();
+
+        long[] before = graph.getFollowing(1L);
+        graph.addEdge(1L, 15L);
+        graph.removeEdge(1L, 10L);
+
+        assertThat(before).containsExactly(10L, 20L);
+        assertThat(graph.getFollowing(1L)).containsExactly(15L, 20L);
+    }
+
+    @Test
+    void 반환된_배열을_수정해도_내부_상태는_바뀌지_않는다() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1L, 10L)
+                .addEdge(1L, 20L)
+                .build();
+
+        long[] returned = graph.getFollowing(1L);
+        returned[0] = 99L;
+
+        assertThat(graph.getFollowing(1L)).containsExactly(10L, 20L);
+        assertThat(graph.follows(1L, 10L)).isTrue();
+    }
+
+    @Test
+    void removeEdge_마지막_간선을_지우면_빈_배열이_된다() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1L, 10L)
+                .build();
+
+        graph.removeEdge(1L, 10L);
+        graph.removeEdge(1L, 10L);
+
+        assertThat(graph.getFollowing(1L)).isEmpty();
+        assertThat(graph.getFollowers(10L)).isEmpty();
+        assertThat(graph.followingCount(1L)).isZero();
+
+        graph.addEdge(1L, 10L);
+        assertThat(graph.getFollowing(1L)).containsExactly(10L);
+    }
+
+    @Test
+    void removeMember_탈퇴_회원의_양방향_간선을_모두_제거한다() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1L, 2L)
+                .addEdge(1L, 3L)
+                .addEdge(2L, 1L)
+                .addEdge(3L, 1L)
+                .addEdge(2L, 3L)
+                .build();
+
+        graph.removeMember(1L);
+
+        assertThat(graph.getFollowing(1L)).isEmpty();
+        assertThat(graph.getFollowers(1L)).isEmpty();
+        assertThat(graph.getFollowing(2L)).containsExactly(3L);
+        assertThat(graph.getFollowers(2L)).isEmpty();
+        assertThat(graph.getFollowers(3L)).containsExactly(2L);
+    }
+
+    @Test
+    void sampleFollowing_limit_이하면_전체를_반환한다() {
+        FollowGraph graph = FollowGraph.builder()
+                .addEdge(1L, 10L)
+                .addEdge(1L, 20L)
+                .build();
+
+        assertThat(graph.sampleFollowing(1L, 2, new Random(1))).containsExactly(10L, 20L);
+        assertThat(graph.sampleFollowing(2L, 2, new Random(1))).isEmpty();
+    }
+
+    @Test
+    void sampleFollowing_앞쪽_ID에_치우치지_않은_중복_없는_표본을_반환한다() {
+        FollowGraph.Builder builder = FollowGraph.builder();
+        for (long id = 1; id <= 1_000; id++) {
+            builder.addEdge(0L, id);
+        }
+        FollowGraph graph = builder.build();
+        Random random = new Random(42);
+
+        Set<Long> seen = new HashSet<>();
+        for (int run = 0; run < 50; run++) {
+            long[] sample = graph.sampleFollowing(0L, 100, random);
+            assertThat(sample).hasSize(100).doesNotHaveDuplicates();
+            Arrays.stream(sample).forEach(seen::add);
+        }
+
+        // 앞에서부터 자르면 1~100 만 나오지만, 표본 추출은 여러 배치에 걸쳐 대부분의 관계를 탐색
+        assertThat(seen).hasSizeGreaterThan(900);
+        assertThat(graph.getFollowing(0L)).hasSize(1_000).isSorted();
+    }
+}
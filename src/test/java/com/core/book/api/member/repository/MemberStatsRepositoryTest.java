@@ -0,0 +1,107 @@
+package com.core.book.api.member.repository;
+
+import com.core.book.api.book.entity.Book;
+import com.core.book.api.bookshelf.entity.ReadBooks;
+import com.core.book.api.bookshelf.entity.WishBooks;
+import com.core.book.api.member.entity.Follow;
+import com.core.book.api.member.entity.Member;
+import com.core.book.api.member.entity.MemberStats;
+import com.core.book.api.member.entity.Role;
+import com.core.book.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MySqlRepositoryTest
+class MemberStatsRepositoryTest {
+
+    @Autowired
+    private MemberStatsRepository memberStatsRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member member;
+    private Member follower;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(Member.builder().email("member@test.com").nickname("member").role(Role.USER).build());
+        follower = em.persist(Member.builder().email("follower@test.com").nickname("follower").role(Role.USER).build());
+    }
+
+    @Test
+    void initStats_책장과_팔로우_개수로_통계_행을_만든다() {
+        readBook("9780000000001");
+        readBook("9780000000002");
+        em.persist(WishBooks.builder().book(book("9780000000003")).member(member).build());
+        em.persist(Follow.builder().follower(follower).following(member).build());
+        em.flush();
+
+        int inserted = memberStatsRepository.initStats(member.getId());
+
+        MemberStats stats = find(member.getId());
+        assertThat(inserted).isEqualTo(1);
+        assertThat(stats.getReadBooksCnt()).isEqualTo(2);
+        assertThat(stats.getWishBooksCnt()).isEqualTo(1);
+        assertThat(stats.getArticleCnt()).isZero();
+        assertThat(stats.getFollowerCnt()).isEqualTo(1);
+        assertThat(stats.getFollowingCnt()).isZero();
+    }
+
+    @Test
+    void initStats_이미_행이_있으면_다시_계산하지_않는다() {
+        readBook("9780000000001");
+        em.flush();
+        memberStatsRepository.initStats(member.getId());
+
+        readBook("9780000000002");
+        em.flush();
+        int updated = memberStatsRepository.initStats(member.getId());
+
+        assertThat(updated).isZero();
+        assertThat(find(member.getId()).getReadBooksCnt()).isEqualTo(1);
+    }
+
+    @Test
+    void addReadBooksCnt_카운터를_증감한다() {
+        em.flush();
+        memberStatsRepository.initStats(member.getId());
+
+        memberStatsRepository.addReadBooksCnt(member.getId(), 1);
+        memberStatsRepository.addReadBooksCnt(member.getId(), 1);
+        memberStatsRepository.addReadBooksCnt(member.getId(), -1);
+
+        assertThat(find(member.getId()).getReadBooksCnt()).isEqualTo(1);
+    }
+
+    @Test
+    void decreaseFollowerCntOfFollowings_탈퇴_회원이_팔로우하던_사용자의_팔로워_수를_줄인다() {
+        em.persist(Follow.builder().follower(follower).following(member).build());
+        em.flush();
+        memberStatsRepository.initStats(member.getId());
+
+        int updated = memberStatsRepository.decreaseFollowerCntOfFollowings(follower.getId());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(find(member.getId()).getFollowerCnt()).isZero();
+    }
+
+    private MemberStats find(Long memberId) {
+        em.clear();
+        return memberStatsRepository.findById(memberId).orElseThrow();
+    }
+
+    private Book book(String isbn) {
+        return em.persist(Book.builder().isbn(isbn).title("title " + isbn).author("author").publisher("publisher").build());
+    }
+
+    private void readBook(String isbn) {
+        em.persist(ReadBooks.builder().book(book(isbn)).member(member).readDate(LocalDate.of(2024, 5, 1)).rating(4.0).build());
+    }
+}
@@ -0,0 +1,111 @@
+package com.core.book.api.member.service;
+
+import com.core.book.api.member.event.FollowChangedEvent;
+import com.core.book.api.member.event.MemberDeletedEvent;
+import com.core.book.api.member.graph.FollowGraph;
+import com.core.book.api.member.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class FollowGraphServiceTest {
+
+    private FollowRepository followRepository;
+    private FollowGraphService followGraphService;
+
+    @BeforeEach
+    void setUp() {
+        followRepository = mock(FollowRepository.class);
+        followGraphService = new FollowGraphService(followRepository);
+    }
+
+    @Test
+    void 적재_전에는_DB로_팔로우_여부를_확인한다() {
+        given(followRepository.findFollowingIdsByFollowerId(1L)).willReturn(List.of(2L));
+
+        assertThat(followGraphService.isLoaded()).isFalse();
+        assertThat(followGraphService.follows(1L, 2L)).isTrue();
+        assertThat(followGraphService.follows(1L, 3L)).isFalse();
+    }
+
+    @Test
+    void reload_적재_중_커밋된_변경을_새_그래프에_재적용한다() {
+        // 첫 청크를 읽은 직후(적재 진행 중) 다른 트랜잭션의 팔로우/언팔로우가 커밋된 상황
+        given(followRepository.findEdgesAfter(anyLong(), any(Pageable.class))).willAnswer(invocation -> {
+            followGraphService.onFollowChanged(new FollowChangedEvent(1L, 3L, true));
+            followGraphService.onFollowChanged(new FollowChangedEvent(1L, 2L, false));
+            return List.of(edge(1L, 1L, 2L), edge(2L, 4L, 1L));
+        });
+
+        followGraphService.reload();
+
+        FollowGraph graph = followGraphService.getGraph();
+        assertThat(graph.getFollowing(1L)).containsExactly(3L);
+        assertThat(graph.getFollowers(1L)).containsExactly(4L);
+        assertThat(followGraphService.follows(1L, 2L)).isFalse();
+    }
+
+    @Test
+    void reload_완료_후의_변경은_현재_그래프에_바로_반영한다() {
+        given(followRepository.findEdgesAfter(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(edge(1L, 1L, 2L)));
+        followGraphService.reload();
+
+        followGraphService.onFollowChanged(new FollowChangedEvent(2L, 1L, true));
+        followGraphService.onMemberDeleted(new MemberDeletedEvent(2L));
+
+        assertThat(followGraphService.getGraph().getFollowing(1L)).isEmpty();
+        assertThat(followGraphService.getGraph().getFollowing(2L)).isEmpty();
+    }
+
+    @Test
+    void reload_실패하면_기존_그래프를_유지하고_보류된_변경을_버린다() {
+        given(followRepository.findEdgesAfter(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(edge(1L, 1L, 2L)));
+        followGraphService.reload();
+        FollowGraph loaded = followGraphService.getGraph();
+
+        given(followRepository.findEdgesAfter(anyLong(), any(Pageable.class))).willAnswer(invocation -> {
+            followGraphService.onFollowChanged(new FollowChangedEvent(1L, 3L, true));
+            throw new IllegalStateException("connection lost");
+        });
+        followGraphService.reload();
+
+        // 적재 중 변경은 기존 그래프에도 바로 반영됨
+        assertThat(followGraphService.getGraph()).isSameAs(loaded);
+        assertThat(loaded.getFollowing(1L)).containsExactly(2L, 3L);
+
+        // 보류 목록이 비워졌으므로 다음 적재 결과에 이전 변경이 섞이지 않음
+        given(followRepository.findEdgesAfter(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(edge(1L, 1L, 2L)));
+        followGraphService.reload();
+        assertThat(followGraphService.getGraph().getFollowing(1L)).containsExactly(2L);
+    }
+
+    private static FollowRepository.FollowEdge edge(Long id, Long followerId, Long followingId) {
+        return new FollowRepository.FollowEdge() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getFollowerId() {
+                return followerId;
+            }
+
+            @Override
+            public Long getFollowingId() {
+                return followingId;
+            }
+        };
+    }
+}
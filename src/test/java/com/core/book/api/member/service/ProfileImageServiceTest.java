@@ -0,0 +1,222 @@
+package com.core.book.api.member.service;
+
+import com.core.book.api.member.repository.MemberRepository;
+import com.core.book.common.exception.BadRequestException;
+import com.core.book.common.exception.ServiceUnavailableException;
+import com.core.book.common.storage.LocalObjectStorage;
+import com.core.book.common.storage.StorageDeletionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ProfileImageServiceTest {
+
+    private static final String BASE_URL = "http://localhost:8080/local-storage";
+    private static final long USER_ID = 1L;
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+    private MemberRepository memberRepository;
+    private StorageDeletionService storageDeletionService;
+    private ProfileImageService profileImageService;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), BASE_URL);
+        memberRepository = mock(MemberRepository.class);
+        storageDeletionService = mock(StorageDeletionService.class);
+        profileImageService = newService(104_857_600);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        profileImageService.shutdown();
+    }
+
+    @Test
+    void acceptUpload_썸네일_3종을_만들고_회원_이미지를_교체한다() throws Exception {
+        String previousUrl = BASE_URL + "/profile-images/old/160.jpg";
+        given(memberRepository.findImageUrlForUpdate(USER_ID)).willReturn(Optional.of(previousUrl));
+
+        profileImageService.acceptUpload(USER_ID, new MockMultipartFile("image", "a.png", "image/png", png(1200, 800)));
+
+        ArgumentCaptor<String> imageUrl = ArgumentCaptor.forClass(String.class);
+        verify(memberRepository, timeout(5_000)).updateImageUrl(eq(USER_ID), imageUrl.capture());
+        assertThat(imageUrl.getValue()).startsWith(BASE_URL + "/profile-images/").endsWith("/160.jpg");
+
+        String prefix = storage.extractKey(imageUrl.getValue()).orElseThrow().replace("/160.jpg", "");
+        assertThat(dimensions(prefix + "/64.jpg")).containsExactly(64, 43);
+        assertThat(dimensions(prefix + "/160.jpg")).containsExactly(160, 107);
+        assertThat(dimensions(prefix + "/480.jpg")).containsExactly(480, 320);
+
+        // 기존 썸네일 세트는 모든 크기를 삭제 예약
+        verify(storageDeletionService, timeout(5_000)).enqueue(List.of(
+                "profile-images/old/64.jpg", "profile-images/old/160.jpg", "profile-images/old/480.jpg"));
+    }
+
+    @Test
+    void acceptUpload_디코딩할_수_없는_형식은_원본을_그대로_저장한다() throws Exception {
+        given(memberRepository.findImageUrlForUpdate(USER_ID)).willReturn(Optional.of(""));
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes();
+
+        profileImageService.acceptUpload(USER_ID, new MockMultipartFile("image", "a.webp", "image/webp", webp));
+
+        ArgumentCaptor<String> imageUrl = ArgumentCaptor.forClass(String.class);
+        verify(memberRepository, timeout(5_000)).updateImageUrl(eq(USER_ID), imageUrl.capture());
+        assertThat(imageUrl.getValue()).endsWith("/original.webp");
+        assertThat(storage.get(storage.extractKey(imageUrl.getValue()).orElseThrow())).isEqualTo(webp);
+    }
+
+    @Test
+    void acceptUpload_처리_중_탈퇴한_회원이면_올린_썸네일을_삭제_예약한다() throws Exception {
+        given(memberRepository.findImageUrlForUpdate(USER_ID)).willReturn(Optional.empty());
+
+        profileImageService.acceptUpload(USER_ID, new MockMultipartFile("image", "a.png", "image/png", png(100, 100)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(storageDeletionService, timeout(5_000)).enqueue(keys.capture());
+        assertThat(keys.getValue()).hasSize(3).allMatch(key -> key.startsWith("profile-images/"));
+        verify(memberRepository, never()).updateImageUrl(anyLong(), anyString());
+    }
+
+    @Test
+    void acceptUpload_허용하지_않는_형식은_거부한다() {
+        assertThatThrownBy(() -> profileImageService.acceptUpload(USER_ID,
+                new MockMultipartFile("image", "a.gif", "image/gif", new byte[10])))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void acceptUpload_대기_바이트_한도를_넘으면_503() throws Exception {
+        profileImageService.shutdown();
+        profileImageService = newService(1_000);
+
+        assertThatThrownBy(() -> profileImageService.acceptUpload(USER_ID,
+                new MockMultipartFile("image", "a.png", "image/png", new byte[1_001])))
+                .isInstanceOf(ServiceUnavailableException.class);
+        verify(storageDeletionService, never()).enqueue(anyCollection());
+    }
+
+    @Test
+    void completeUpload_원본으로_바로_교체하고_썸네일은_비동기로_교체한다() throws Exception {
+        AtomicReference<String> imageUrl = memberImage(BASE_URL + "/profile-images/old/160.jpg");
+        String key = "profile-images/uploads/1/a.png";
+        storage.putAsync(key, png(1200, 800), "image/png").join();
+
+        profileImageService.completeUpload(USER_ID, key);
+
+        verify(memberRepository).updateImageUrl(eq(USER_ID), argThat(url -> url != null && url.endsWith("/original.png")));
+        verify(storageDeletionService).enqueue(List.of(key));
+
+        verify(memberRepository, timeout(5_000)).updateImageUrl(eq(USER_ID), argThat(url -> url != null && url.endsWith("/160.jpg")));
+        String prefix = storage.extractKey(imageUrl.get()).orElseThrow().replace("/160.jpg", "");
+        assertThat(imageUrl.get()).endsWith("/160.jpg");
+        assertThat(dimensions(prefix + "/480.jpg")).containsExactly(480, 320);
+        // 썸네일로 교체되면 원본 삭제 예약
+        verify(storageDeletionService, timeout(5_000)).enqueue(List.of(prefix + "/original.png"));
+    }
+
+    @Test
+    void completeUpload_시그니처가_선언한_형식과_다르면_거부한다() {
+        AtomicReference<String> imageUrl = memberImage("");
+        String key = "profile-images/uploads/1/a.png";
+        storage.putAsync(key, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0, 0, 0}, "image/png").join();
+
+        assertThatThrownBy(() -> profileImageService.completeUpload(USER_ID, key))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(imageUrl.get()).isEmpty();
+        verify(storageDeletionService).enqueue(List.of(key));
+    }
+
+    @Test
+    void completeUpload_다른_회원의_키는_거부한다() {
+        assertThatThrownBy(() -> profileImageService.completeUpload(USER_ID, "profile-images/uploads/2/a.png"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> profileImageService.completeUpload(USER_ID, "profile-images/uploads/1/../2/a.png"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void completeUpload_읽을_수_없는_이미지는_비동기_처리에서_내리고_이미지를_비운다() {
+        AtomicReference<String> imageUrl = memberImage("");
+        String key = "profile-images/uploads/1/a.png";
+        byte[] broken = new byte[64];
+        System.arraycopy(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}, 0, broken, 0, 8);
+        storage.putAsync(key, broken, "image/png").join();
+
+        profileImageService.completeUpload(USER_ID, key);
+
+        verify(memberRepository, timeout(5_000)).updateImageUrl(USER_ID, null);
+        assertThat(imageUrl.get()).isNull();
+        verify(storageDeletionService, timeout(5_000)).enqueue(argThat(keys -> keys.size() == 1
+                && keys.iterator().next().endsWith("/original.png")));
+    }
+
+    // 회원 image_url 컬럼 흉내 (잠금 조회/갱신이 같은 값을 보도록)
+    private AtomicReference<String> memberImage(String initial) {
+        AtomicReference<String> imageUrl = new AtomicReference<>(initial);
+        given(memberRepository.findImageUrlForUpdate(USER_ID))
+                .willAnswer(invocation -> Optional.of(imageUrl.get() == null ? "" : imageUrl.get()));
+        given(memberRepository.updateImageUrl(eq(USER_ID), any()))
+                .willAnswer(invocation -> {
+                    imageUrl.set(invocation.getArgument(1));
+                    return 1;
+                });
+        return imageUrl;
+    }
+
+    private ProfileImageService newService(int maxPendingBytes) {
+        ProfileImageService service = new ProfileImageService(storage, memberRepository, storageDeletionService,
+                mock(PlatformTransactionManager.class), 1, 10, maxPendingBytes);
+        ReflectionTestUtils.setField(service, "maxUploadBytes", 10_485_760L);
+        ReflectionTestUtils.setField(service, "uploadUrlExpirationSeconds", 300L);
+        return service;
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private List<Integer> dimensions(String key) throws IOException {
+        assertThat(Files.exists(root.resolve(key))).isTrue();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(storage.get(key)));
+        return List.of(image.getWidth(), image.getHeight());
+    }
+}
@@ -0,0 +1,173 @@
+package com.core.book.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.NullValue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TwoLevelCacheTest {
+
+    private static final String NAME = "books";
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private ConcurrentMapCache remote;
+    private CacheInvalidationService cacheInvalidationService;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = Caffeine.newBuilder().build();
+        remote = new ConcurrentMapCache(NAME, true);
+        cacheInvalidationService = mock(CacheInvalidationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache(NAME, local, remote, true, cacheInvalidationService, meterRegistry);
+    }
+
+    @Test
+    void get_L2_에서_찾으면_L1_을_채우고_다음_조회는_L1_에서_응답한다() {
+        remote.put(1L, "value");
+
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+        assertThat(local.getIfPresent("1")).isEqualTo("value");
+
+        remote.evict(1L);
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+
+        assertThat(gets("hit", "remote")).isEqualTo(1);
+        assertThat(gets("hit", "local")).isEqualTo(1);
+    }
+
+    @Test
+    void get_어느_단계에도_없으면_null() {
+        assertThat(cache.get(1L)).isNull();
+        assertThat(gets("miss", "none")).isEqualTo(1);
+    }
+
+    @Test
+    void get_타입이_다르면_예외() {
+        cache.put(1L, "value");
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("value");
+        assertThatThrownBy(() -> cache.get(1L, Long.class)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void get_valueLoader_원본은_한_번만_조회하고_두_단계에_저장한다() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = cache.get(1L, () -> "loaded-" + calls.incrementAndGet());
+        String second = cache.get(1L, () -> "loaded-" + calls.incrementAndGet());
+
+        assertThat(first).isEqualTo("loaded-1");
+        assertThat(second).isEqualTo("loaded-1");
+        assertThat(calls).hasValue(1);
+        assertThat(remote.get(1L).get()).isEqualTo("loaded-1");
+        assertThat(meterRegistry.get("cache.load").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void get_valueLoader_null_결과는_NullValue_로_L1_에_저장한다() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Object first = cache.get(1L, () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        Object second = cache.get(1L, () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(calls).hasValue(1);
+        assertThat(local.getIfPresent("1")).isSameAs(NullValue.INSTANCE);
+        assertThat(cache.get(1L).get()).isNull();
+    }
+
+    @Test
+    void get_valueLoader_실패하면_저장하지_않고_실패_시간을_기록한다() {
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        assertThat(local.getIfPresent("1")).isNull();
+        assertThat(remote.get(1L)).isNull();
+        assertThat(meterRegistry.get("cache.load").tag("result", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void null_캐시를_허용하지_않으면_L1_에_저장하지_않는다() {
+        TwoLevelCache noNulls = new TwoLevelCache(NAME, local, remote, false, cacheInvalidationService, meterRegistry);
+
+        noNulls.get(1L, () -> null);
+
+        assertThat(local.getIfPresent("1")).isNull();
+    }
+
+    @Test
+    void put_두_단계에_저장하고_다른_서버에_무효화를_전파한다() {
+        cache.put(1L, "value");
+
+        assertThat(local.getIfPresent("1")).isEqualTo("value");
+        assertThat(remote.get(1L).get()).isEqualTo("value");
+        verify(cacheInvalidationService).broadcast(List.of(CacheInvalidationService.cacheKey(NAME, "1")));
+    }
+
+    @Test
+    void evict_두_단계에서_지우고_다른_서버에_무효화를_전파한다() {
+        cache.put(1L, "value");
+
+        cache.evict(1L);
+
+        assertThat(local.getIfPresent("1")).isNull();
+        assertThat(remote.get(1L)).isNull();
+        verify(cacheInvalidationService, times(2))
+                .broadcast(List.of(CacheInvalidationService.cacheKey(NAME, "1")));
+    }
+
+    @Test
+    void clear_전체_키_무효화를_전파한다() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+
+        cache.clear();
+
+        assertThat(local.asMap()).isEmpty();
+        assertThat(remote.getNativeCache()).isEmpty();
+        verify(cacheInvalidationService).broadcast(List.of(CacheInvalidationService.cacheKey(NAME, TwoLevelCache.ALL_KEYS)));
+    }
+
+    @Test
+    void invalidateLocal_L1_만_지우고_다음_조회는_L2_에서_응답한다() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+
+        cache.invalidateLocal("1");
+        assertThat(local.getIfPresent("1")).isNull();
+        assertThat(local.getIfPresent("2")).isEqualTo("b");
+
+        cache.invalidateLocal(TwoLevelCache.ALL_KEYS);
+        assertThat(local.asMap()).isEmpty();
+
+        assertThat(cache.get(1L).get()).isEqualTo("a");
+        assertThat(gets("hit", "remote")).isEqualTo(1);
+    }
+
+    private double gets(String result, String level) {
+        return meterRegistry.get("cache.gets").tag("result", result).tag("level", level).counter().count();
+    }
+}
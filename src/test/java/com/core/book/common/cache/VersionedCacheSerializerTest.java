@@ -0,0 +1,117 @@
+package com.core.book.common.cache;
+
+import com.core.book.api.member.dto.FollowedUserDTO;
+import com.core.book.api.member.dto.FollowerUserDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class VersionedCacheSerializerTest {
+
+    private static final int THRESHOLD = 1024;
+
+    private final VersionedCacheSerializer binary = CacheSerializers.versioned(THRESHOLD, true);
+    private final VersionedCacheSerializer json = CacheSerializers.versioned(THRESHOLD, false);
+
+    @Test
+    void 이전_JSON_형식으로_저장된_값을_새_직렬화기로_읽는다() {
+        byte[] legacy = CacheSerializers.legacyJson().serialize(followedUsers(3));
+
+        assertThat(legacy[0]).isNotEqualTo(VersionedCacheSerializer.MAGIC);
+        assertFollowedUsers(binary.deserialize(legacy), 3);
+    }
+
+    @Test
+    void 작은_값은_압축하지_않은_Smile_로_기록한다() {
+        byte[] bytes = binary.serialize(followedUsers(2));
+
+        assertThat(bytes[0]).isEqualTo(VersionedCacheSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo(VersionedCacheSerializer.VERSION);
+        assertThat(bytes[2]).isEqualTo(VersionedCacheSerializer.FLAG_PLAIN);
+        assertThat(bytes.length).isLessThan(THRESHOLD);
+        assertFollowedUsers(binary.deserialize(bytes), 2);
+    }
+
+    @Test
+    void 기준보다_큰_값은_LZ4_로_압축한다() {
+        List<FollowedUserDTO> users = followedUsers(200);
+
+        byte[] bytes = binary.serialize(users);
+
+        assertThat(bytes[2]).isEqualTo(VersionedCacheSerializer.FLAG_LZ4);
+        assertThat(bytes.length).isLessThan(CacheSerializers.legacyJson().serialize(users).length);
+        assertFollowedUsers(binary.deserialize(bytes), 200);
+    }
+
+    @Test
+    void 필드_기준으로_직렬화하여_is_접두사_필드도_복원한다() {
+        List<FollowerUserDTO> followers = new ArrayList<>(List.of(
+                FollowerUserDTO.builder().id(1L).nickname("a").imageUrl("url").isFollowing(true).build(),
+                FollowerUserDTO.builder().id(2L).nickname("b").isFollowing(false).build()));
+
+        Object restored = binary.deserialize(binary.serialize(followers));
+
+        assertThat((List<?>) restored)
+                .extracting("id", "nickname", "imageUrl", "isFollowing")
+                .containsExactly(
+                        tuple(1L, "a", "url", true),
+                        tuple(2L, "b", null, false));
+    }
+
+    @Test
+    void NullValue_를_기록하고_읽는다() {
+        assertThat(binary.deserialize(binary.serialize(NullValue.INSTANCE))).isInstanceOf(NullValue.class);
+        assertThat(json.deserialize(json.serialize(NullValue.INSTANCE))).isInstanceOf(NullValue.class);
+    }
+
+    @Test
+    void write_binary_false_면_이전_JSON_형식으로_기록한다() {
+        List<FollowedUserDTO> users = followedUsers(200);
+
+        byte[] bytes = json.serialize(users);
+
+        // 구버전 서버(기존 직렬화기)와 새 서버 모두 읽을 수 있어야 함
+        assertThat(bytes[0]).isEqualTo((byte) '[');
+        assertFollowedUsers(CacheSerializers.legacyJson().deserialize(bytes), 200);
+        assertFollowedUsers(json.deserialize(bytes), 200);
+        assertFollowedUsers(binary.deserialize(bytes), 200);
+    }
+
+    @Test
+    void null_과_빈_값은_null_로_읽는다() {
+        assertThat(binary.serialize(null)).isEmpty();
+        assertThat(binary.deserialize(null)).isNull();
+        assertThat(binary.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void 알_수_없는_형식_플래그는_예외() {
+        byte[] bytes = {VersionedCacheSerializer.MAGIC, VersionedCacheSerializer.VERSION, 9, 0};
+
+        assertThatThrownBy(() -> binary.deserialize(bytes)).isInstanceOf(SerializationException.class);
+    }
+
+    private static List<FollowedUserDTO> followedUsers(int count) {
+        return new ArrayList<>(IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new FollowedUserDTO((long) i, "nickname" + i, "https://cdn.example.com/profile-images/" + i + "/160.jpg"))
+                .toList());
+    }
+
+    private static void assertFollowedUsers(Object restored, int count) {
+        assertThat(restored).isInstanceOf(List.class);
+        List<?> users = (List<?>) restored;
+        assertThat(users).hasSize(count).allMatch(FollowedUserDTO.class::isInstance);
+        FollowedUserDTO last = (FollowedUserDTO) users.get(count - 1);
+        assertThat(last.getId()).isEqualTo((long) count);
+        assertThat(last.getNickname()).isEqualTo("nickname" + count);
+        assertThat(last.getImageUrl()).isEqualTo("https://cdn.example.com/profile-images/" + count + "/160.jpg");
+    }
+}
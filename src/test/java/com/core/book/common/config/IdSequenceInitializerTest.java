@@ -0,0 +1,179 @@
+package com.core.book.common.config;
+
+import com.core.book.common.entity.IdSequences;
+import com.core.book.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ALTER TABLE 은 암묵적으로 커밋하므로 트랜잭션 없이 실행하고 직접 정리
+@MySqlRepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdSequenceInitializerTest {
+
+    private static final long RESERVED_GAP = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IdSequenceInitializer initializer;
+    private long followerId;
+    private long followingId;
+
+    @BeforeEach
+    void setUp() {
+        initializer = new IdSequenceInitializer(jdbcTemplate);
+        ReflectionTestUtils.setField(initializer, "reservedGap", RESERVED_GAP);
+
+        // IDENTITY 를 쓰던 기존 스키마와 같게 follow_id 를 AUTO_INCREMENT 로 변경
+        jdbcTemplate.execute("ALTER TABLE follow MODIFY follow_id BIGINT NOT NULL AUTO_INCREMENT");
+        jdbcTemplate.update("DELETE FROM " + IdSequences.TABLE);
+        followerId = insertMember("follower@test.com");
+        followingId = insertMember("following@test.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM follow");
+        jdbcTemplate.update("DELETE FROM member WHERE user_id IN (?, ?)", followerId, followingId);
+        jdbcTemplate.update("DELETE FROM " + IdSequences.TABLE);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + IdSequenceInitializer.RESERVATION_TABLE);
+        jdbcTemplate.execute("ALTER TABLE follow MODIFY follow_id BIGINT NOT NULL");
+    }
+
+    @Test
+    void 처음_전환하면_구간은_최대_id_이후부터_이전_버전_서버는_예약_구간_위에서_id를_받는다() {
+        long lastLegacyId = 0;
+        for (int i = 0; i < 3; i++) {
+            lastLegacyId = insertFollowWithIdentity();
+        }
+
+        initializer.afterSingletonsInstantiated();
+
+        assertThat(nextVal()).isEqualTo(lastLegacyId + 1);
+
+        // 새 서버가 구간 시작 값으로 저장해도 이전 버전 서버의 AUTO_INCREMENT 는 예약 구간 위에 머묾
+        insertFollowWithId(lastLegacyId + 1);
+        long legacyIdAfterSwitch = insertFollowWithIdentity();
+        insertFollowWithId(lastLegacyId + 2);
+        long nextLegacyId = insertFollowWithIdentity();
+
+        assertThat(legacyIdAfterSwitch).isGreaterThanOrEqualTo(lastLegacyId + 1 + RESERVED_GAP);
+        assertThat(nextLegacyId).isEqualTo(legacyIdAfterSwitch + 1);
+    }
+
+    @Test
+    void 처음_전환하면_예약_구간_끝을_기록한다() {
+        long lastLegacyId = insertFollowWithIdentity();
+
+        initializer.afterSingletonsInstantiated();
+
+        assertThat(reservedUntil()).isEqualTo(lastLegacyId + 1 + RESERVED_GAP);
+    }
+
+    @Test
+    void 이후_기동_시_예약_구간_안의_최대_id_이후로_구간_시작_값을_옮긴다() {
+        initializer.afterSingletonsInstantiated();
+        insertFollowWithId(120);
+
+        initializer.afterSingletonsInstantiated();
+
+        assertThat(nextVal()).isEqualTo(121);
+    }
+
+    @Test
+    void 전환이_끝나기_전에는_예약_구간_위에_저장된_이전_버전_행을_무시한다() {
+        initializer.afterSingletonsInstantiated();
+        long initialNextVal = nextVal();
+        insertFollowWithIdentity();
+
+        initializer.afterSingletonsInstantiated();
+
+        assertThat(nextVal()).isEqualTo(initialNextVal);
+    }
+
+    @Test
+    void 전환이_끝나면_예약_구간_위에_저장된_행_이후로_구간_시작_값을_옮긴다() {
+        initializer.afterSingletonsInstantiated();
+        long legacyId = insertFollowWithIdentity();
+        ReflectionTestUtils.setField(initializer, "rolloutCompleted", true);
+
+        initializer.afterSingletonsInstantiated();
+
+        assertThat(nextVal()).isEqualTo(legacyId + 1);
+    }
+
+    @Test
+    void 예약_구간_기록_없이_전환된_구간은_그대로_둔다() {
+        initializer.afterSingletonsInstantiated();
+        jdbcTemplate.update("DELETE FROM " + IdSequenceInitializer.RESERVATION_TABLE);
+        insertFollowWithId(120);
+
+        initializer.afterSingletonsInstantiated();
+
+        assertThat(nextVal()).isEqualTo(1);
+    }
+
+    @Test
+    void 이후_기동_시_구간_시작_값이_이미_크면_유지한다() {
+        initializer.afterSingletonsInstantiated();
+        jdbcTemplate.update("UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = 500 " +
+                "WHERE " + IdSequences.PK_COLUMN + " = ?", IdSequences.FOLLOW);
+        insertFollowWithId(120);
+
+        initializer.afterSingletonsInstantiated();
+
+        assertThat(nextVal()).isEqualTo(500);
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("SELECT " + IdSequences.VALUE_COLUMN + " FROM " + IdSequences.TABLE +
+                " WHERE " + IdSequences.PK_COLUMN + " = ?", Long.class, IdSequences.FOLLOW);
+    }
+
+    private long reservedUntil() {
+        return jdbcTemplate.queryForObject("SELECT reserved_until FROM " + IdSequenceInitializer.RESERVATION_TABLE +
+                " WHERE " + IdSequences.PK_COLUMN + " = ?", Long.class, IdSequences.FOLLOW);
+    }
+
+    // 이전 버전 서버의 저장 (IDENTITY)
+    private long insertFollowWithIdentity() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO follow (follower_id, following_id) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, followerId);
+            ps.setLong(2, followingId);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    // 새 서버의 저장 (테이블 기반 구간에서 받은 id)
+    private void insertFollowWithId(long id) {
+        jdbcTemplate.update("INSERT INTO follow (follow_id, follower_id, following_id) VALUES (?, ?, ?)", id, followerId, followingId);
+    }
+
+    private long insertMember(String email) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO member (email, role) VALUES (?, 'USER')", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, email);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
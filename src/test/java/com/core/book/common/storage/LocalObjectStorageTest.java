@@ -0,0 +1,104 @@
+package com.core.book.common.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalObjectStorageTest {
+
+    private static final String BASE_URL = "http://localhost:8080/local-storage";
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), BASE_URL);
+    }
+
+    @Test
+    void putAsync_하위_경로를_만들고_파일을_기록한다() throws Exception {
+        storage.putAsync("profile-images/a/160.jpg", new byte[]{1, 2, 3}, "image/jpeg").join();
+
+        assertThat(Files.readAllBytes(root.resolve("profile-images/a/160.jpg"))).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void stat_저장된_파일의_타입과_크기를_반환한다() {
+        storage.putAsync("profile-images/a/original.png", new byte[10], "image/png").join();
+
+        Optional<ObjectStorage.StoredObject> stored = storage.stat("profile-images/a/original.png");
+
+        assertThat(stored).hasValueSatisfying(object -> {
+            assertThat(object.contentType()).isEqualTo("image/png");
+            assertThat(object.contentLength()).isEqualTo(10);
+        });
+        assertThat(storage.stat("profile-images/a/missing.png")).isEmpty();
+    }
+
+    @Test
+    void getHead_앞부분만_읽는다() {
+        storage.putAsync("profile-images/uploads/1/a.png", new byte[]{1, 2, 3, 4, 5}, "image/png").join();
+
+        assertThat(storage.getHead("profile-images/uploads/1/a.png", 3)).containsExactly(1, 2, 3);
+        assertThat(storage.getHead("profile-images/uploads/1/a.png", 16)).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void deleteAll_없는_파일은_성공으로_처리한다() {
+        storage.putAsync("profile-images/a/64.jpg", new byte[1], "image/jpeg").join();
+
+        Map<String, String> failures = storage.deleteAll(List.of("profile-images/a/64.jpg", "profile-images/a/480.jpg"));
+
+        assertThat(failures).isEmpty();
+        assertThat(Files.exists(root.resolve("profile-images/a/64.jpg"))).isFalse();
+    }
+
+    @Test
+    void copy_대상_경로에_같은_내용을_기록한다() {
+        storage.putAsync("profile-images/uploads/1/a.webp", new byte[]{4, 5}, "image/webp").join();
+
+        storage.copy("profile-images/uploads/1/a.webp", "profile-images/b/original.webp");
+
+        assertThat(storage.get("profile-images/b/original.webp")).containsExactly(4, 5);
+        assertThat(storage.get("profile-images/uploads/1/a.webp")).containsExactly(4, 5);
+    }
+
+    @Test
+    void presignPut_대상_파일_경로를_반환한다() {
+        String url = storage.presignPut("profile-images/uploads/1/a.jpg", "image/jpeg", 10, Duration.ofMinutes(5));
+
+        assertThat(Path.of(URI.create(url))).isEqualTo(root.resolve("profile-images/uploads/1/a.jpg"));
+    }
+
+    @Test
+    void getUrl_extractKey_는_서로_역변환이다() {
+        String url = storage.getUrl("profile-images/a/160.jpg");
+
+        assertThat(url).isEqualTo(BASE_URL + "/profile-images/a/160.jpg");
+        assertThat(storage.extractKey(url)).contains("profile-images/a/160.jpg");
+        assertThat(storage.extractKey("https://cdn.example.com/profile-images/a/160.jpg")).isEmpty();
+        assertThat(storage.extractKey(null)).isEmpty();
+    }
+
+    @Test
+    void 루트_밖_경로는_거부한다() {
+        assertThatThrownBy(() -> storage.stat("../outside.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.delete("profile-images/../../outside.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
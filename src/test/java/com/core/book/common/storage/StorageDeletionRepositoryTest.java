@@ -0,0 +1,62 @@
+package com.core.book.common.storage;
+
+import com.core.book.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MySqlRepositoryTest
+class StorageDeletionRepositoryTest {
+
+    @Autowired
+    private StorageDeletionRepository storageDeletionRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void findDueForUpdateSkipLocked_처리_시각이_지난_행만_ID_순서로_가져온다() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        StorageDeletion first = persist("profile-images/a/64.jpg", now.minusMinutes(5));
+        StorageDeletion second = persist("profile-images/a/160.jpg", now);
+        persist("profile-images/a/480.jpg", now.plusMinutes(5));
+        StorageDeletion third = persist("profile-images/b/64.jpg", now.minusMinutes(1));
+        em.flush();
+
+        List<StorageDeletion> due = storageDeletionRepository.findDueForUpdateSkipLocked(now, 10);
+
+        assertThat(due).extracting(StorageDeletion::getId)
+                .containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(storageDeletionRepository.findDueForUpdateSkipLocked(now, 2)).hasSize(2);
+    }
+
+    @Test
+    void lease_선점한_행은_lease_가_끝날_때까지_다시_가져오지_않는다() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        StorageDeletion claimed = persist("profile-images/a/64.jpg", now.minusMinutes(1));
+        StorageDeletion other = persist("profile-images/a/160.jpg", now.minusMinutes(1));
+        em.flush();
+
+        int leased = storageDeletionRepository.lease(List.of(claimed.getId()), now.plusMinutes(10));
+        em.clear();
+
+        assertThat(leased).isEqualTo(1);
+        assertThat(storageDeletionRepository.findDueForUpdateSkipLocked(now, 10))
+                .extracting(StorageDeletion::getId)
+                .containsExactly(other.getId());
+        assertThat(storageDeletionRepository.findDueForUpdateSkipLocked(now.plusMinutes(10), 10)).hasSize(2);
+    }
+
+    private StorageDeletion persist(String key, LocalDateTime nextAttemptAt) {
+        return em.persist(StorageDeletion.builder()
+                .objectKey(key)
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+}
@@ -0,0 +1,66 @@
+package com.core.book.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickTest {
+
+    @Test
+    void containsAny_금칙어가_포함되면_true() {
+        AhoCorasick matcher = new AhoCorasick(List.of("바보", "멍청이"));
+
+        assertThat(matcher.containsAny("너는 바보야")).isTrue();
+        assertThat(matcher.containsAny("멍청이")).isTrue();
+        assertThat(matcher.containsAny("좋은 하루")).isFalse();
+        assertThat(matcher.containsAny("")).isFalse();
+    }
+
+    @Test
+    void containsAny_대소문자를_구분하지_않는다() {
+        AhoCorasick matcher = new AhoCorasick(List.of("SpAm"));
+
+        assertThat(matcher.containsAny("this is SPAM mail")).isTrue();
+        assertThat(matcher.containsAny("spa m")).isFalse();
+    }
+
+    @Test
+    void containsAny_실패_링크를_따라_겹치는_패턴을_찾는다() {
+        // "abcd" 를 따라가다 c 에서 끊겨도 실패 링크로 "bc" 상태로 이동해야 함
+        AhoCorasick matcher = new AhoCorasick(List.of("abcd", "bce"));
+
+        assertThat(matcher.containsAny("abce")).isTrue();
+        assertThat(matcher.containsAny("abcx")).isFalse();
+    }
+
+    @Test
+    void containsAny_다른_금칙어_내부에_포함된_짧은_금칙어를_찾는다() {
+        // "she" 경로 도중의 "he" 는 실패 링크로 전파된 종료 상태로 감지
+        AhoCorasick matcher = new AhoCorasick(List.of("she", "he"));
+
+        assertThat(matcher.containsAny("xshx")).isFalse();
+        assertThat(matcher.containsAny("ahe")).isTrue();
+
+        AhoCorasick nested = new AhoCorasick(List.of("abcde", "bc"));
+        assertThat(nested.containsAny("abcx")).isTrue();
+    }
+
+    @Test
+    void 공백_금칙어는_무시하고_앞뒤_공백은_제거한다() {
+        AhoCorasick matcher = new AhoCorasick(Arrays.asList(" 욕설 ", "", "  ", null));
+
+        assertThat(matcher.containsAny("이건 욕설입니다")).isTrue();
+        assertThat(matcher.containsAny("아무 문장")).isFalse();
+    }
+
+    @Test
+    void 금칙어가_없으면_항상_false() {
+        AhoCorasick matcher = new AhoCorasick(Collections.emptyList());
+
+        assertThat(matcher.containsAny("anything")).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package com.core.book.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 추가한_값은_항상_포함된다() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        IntStream.range(0, 1_000).forEach(i -> filter.put("nickname-" + i));
+
+        assertThat(IntStream.range(0, 1_000).allMatch(i -> filter.mightContain("nickname-" + i))).isTrue();
+    }
+
+    @Test
+    void 빈_필터는_아무것도_포함하지_않는다() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertThat(filter.mightContain("nickname")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void 오탐률이_설정값_근처로_유지된다() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("member-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void 예상_건수가_0이어도_생성된다() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+
+        filter.put("a");
+
+        assertThat(filter.mightContain("a")).isTrue();
+    }
+
+    @Test
+    void 동시에_추가해도_비트가_유실되지_않는다() throws Exception {
+        BloomFilter filter = new BloomFilter(20_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                executor.submit(() -> IntStream.range(0, 2_500).forEach(i -> filter.put(thread + "-" + i)));
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            assertThat(IntStream.range(0, 2_500).allMatch(i -> filter.mightContain(thread + "-" + i))).isTrue();
+        }
+    }
+}
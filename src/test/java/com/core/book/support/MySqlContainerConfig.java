@@ -0,0 +1,22 @@
+package com.core.book.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 테스트용 MySQL 컨테이너 (운영과 같은 MySQL 8)
+ * - 네이티브 쿼리(ON DUPLICATE KEY UPDATE, INSERT IGNORE, UPDATE ... JOIN 등)는 H2 로 검증할 수 없으므로 실제 MySQL 사용
+ * - 같은 설정을 쓰는 테스트끼리 컨텍스트 캐시로 컨테이너를 공유
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MySqlContainerConfig {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mySqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+    }
+}
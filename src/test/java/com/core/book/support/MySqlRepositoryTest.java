@@ -0,0 +1,25 @@
+package com.core.book.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * MySQL 컨테이너 기반 JPA 슬라이스 테스트
+ * - 엔티티로 스키마 생성, 테스트마다 트랜잭션 롤백 (DDL 을 실행하는 테스트는 트랜잭션 없이 실행하고 직접 정리)
+ * - Docker 가 없는 환경에서는 건너뜀
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MySqlContainerConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+public @interface MySqlRepositoryTest {
+}